@@ -0,0 +1,67 @@
+package com.server.bookstoremanager.benchmark;
+
+import com.server.bookstoremanager.BookstoremanagerApplication;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.enums.Gender;
+import com.server.bookstoremanager.user.enums.Role;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class BenchmarkContexts {
+
+    public static ConfigurableApplicationContext start(String databaseName, String... properties) {
+        return start(WebApplicationType.NONE, databaseName, properties);
+    }
+
+    public static ConfigurableApplicationContext startServer(String databaseName, String... properties) {
+        List<String> serverProperties = new ArrayList<>(Arrays.asList(properties));
+        serverProperties.add("server.port=0");
+        return start(WebApplicationType.SERVLET, databaseName, serverProperties.toArray(new String[0]));
+    }
+
+    private static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String databaseName, String... properties) {
+        List<String> benchmarkProperties = new ArrayList<>(Arrays.asList(
+                "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "spring.datasource.replica.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "spring.jpa.show-sql=false",
+                "spring.h2.console.enabled=false",
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN"));
+        benchmarkProperties.addAll(Arrays.asList(properties));
+        String[] args = benchmarkProperties.stream()
+                .map(property -> "--" + property)
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(BookstoremanagerApplication.class)
+                .web(webApplicationType)
+                .run(args);
+    }
+
+    public static User benchmarkUser() {
+        User benchmarkUser = new User();
+        benchmarkUser.setName("Benchmark");
+        benchmarkUser.setAge(30);
+        benchmarkUser.setGender(Gender.MALE);
+        benchmarkUser.setEmail("benchmark@bookstore.com");
+        benchmarkUser.setUsername("benchmark");
+        benchmarkUser.setPassword("benchmark");
+        benchmarkUser.setBirthDate(LocalDate.of(1990, 1, 1));
+        benchmarkUser.setRole(Role.ADMIN);
+        return benchmarkUser;
+    }
+
+    // A valid, hyphen-free ISBN-13 for each serial, so fixtures never collide on the isbn13 column.
+    public static String isbn13(long serial) {
+        String digits = String.format("978%09d", serial);
+        int sum = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            sum += (digits.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return digits + (10 - sum % 10) % 10;
+    }
+}
@@ -0,0 +1,155 @@
+package com.server.bookstoremanager.benchmark;
+
+import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.author.repository.AuthorRepository;
+import com.server.bookstoremanager.book.dto.BookNameAndIsbn;
+import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.enums.BookSort;
+import com.server.bookstoremanager.book.repository.BookRepository;
+import com.server.bookstoremanager.publisher.entity.Publisher;
+import com.server.bookstoremanager.publisher.repository.PublisherRepository;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class BookIndexBenchmark {
+
+    private static final int USERS = 100;
+
+    private static final long FIRST_ISBN_13 = 9780000000000L;
+
+    private static final int SAMPLES = 1024;
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000000"})
+    private int books;
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    private ConfigurableApplicationContext context;
+
+    private BookRepository bookRepository;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private User[] sampleUsers;
+
+    private long[] sampleBookIds;
+
+    private int nextSample;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start("book_index_benchmark_" + indexed);
+        bookRepository = context.getBean(BookRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        if (!indexed) {
+            jdbcTemplate.execute("alter table book drop constraint uk_book_user_name_isbn13");
+            jdbcTemplate.execute("drop index idx_book_user_id");
+            jdbcTemplate.execute("drop index idx_book_user_name");
+            jdbcTemplate.execute("drop index idx_book_user_isbn13");
+        }
+
+        Author author = new Author();
+        author.setName("Benchmark Author");
+        author.setAge(40);
+        author = context.getBean(AuthorRepository.class).save(author);
+
+        Publisher publisher = new Publisher();
+        publisher.setName("Benchmark Publisher");
+        publisher.setCode("benchmark");
+        publisher.setFoundationDate(LocalDate.of(2000, 1, 1));
+        publisher = context.getBean(PublisherRepository.class).save(publisher);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        User[] users = new User[USERS];
+        int booksPerUser = books / USERS;
+        for (int i = 0; i < USERS; i++) {
+            User user = BenchmarkContexts.benchmarkUser();
+            user.setUsername("benchmark" + i);
+            user.setEmail("benchmark" + i + "@bookstore.com");
+            users[i] = userRepository.save(user);
+            jdbcTemplate.update("insert into book (id, created_date, name, isbn, isbn13, pages, chapters, author_id, publisher_id, user_id) " +
+                            "select x, current_timestamp, 'Book ' || x, '978-3-16-148410-0', ? + x, 200, 10, ?, ?, ? " +
+                            "from system_range(?, ?)",
+                    FIRST_ISBN_13, author.getId(), publisher.getId(), users[i].getId(),
+                    (long) i * booksPerUser + 1, (long) (i + 1) * booksPerUser);
+        }
+        jdbcTemplate.execute("analyze");
+
+        Random random = new Random(42);
+        sampleUsers = new User[SAMPLES];
+        sampleBookIds = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            int userIndex = random.nextInt(USERS);
+            sampleUsers[i] = users[userIndex];
+            sampleBookIds[i] = (long) userIndex * booksPerUser + 1 + random.nextInt(booksPerUser);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Integer findDuplicateByNameAndIsbn() {
+        int sample = nextSample();
+        long bookId = sampleBookIds[sample];
+        return jdbcTemplate.queryForObject("select count(*) from book where user_id = ? and name = ? and isbn13 = ?",
+                Integer.class, sampleUsers[sample].getId(), "Book " + bookId, FIRST_ISBN_13 + bookId);
+    }
+
+    @Benchmark
+    public List<BookNameAndIsbn> findByIsbn() {
+        int sample = nextSample();
+        return bookRepository.findAllByUserAndIsbn13In(sampleUsers[sample], Collections.singleton(FIRST_ISBN_13 + sampleBookIds[sample]));
+    }
+
+    @Benchmark
+    public List<Book> findFirstPageById() {
+        User user = sampleUsers[nextSample()];
+        return findPage(user, bookRepository.findIdsByUser(user, PageRequest.of(0, PAGE_SIZE, BookSort.ID_ASC.getSort())));
+    }
+
+    @Benchmark
+    public List<Book> findPageAfterIdCursor() {
+        int sample = nextSample();
+        User user = sampleUsers[sample];
+        return findPage(user, bookRepository.findIdsByUserAfterIdAsc(user, sampleBookIds[sample], PageRequest.of(0, PAGE_SIZE)));
+    }
+
+    @Benchmark
+    public List<Book> findPageAfterNameCursor() {
+        int sample = nextSample();
+        User user = sampleUsers[sample];
+        long bookId = sampleBookIds[sample];
+        return findPage(user, bookRepository.findIdsByUserAfterNameAsc(user, "Book " + bookId, bookId, PageRequest.of(0, PAGE_SIZE)));
+    }
+
+    private List<Book> findPage(User user, List<Long> bookIds) {
+        return bookRepository.findAllByUserAndIdIn(user, bookIds);
+    }
+
+    private int nextSample() {
+        nextSample = (nextSample + 1) & (SAMPLES - 1);
+        return nextSample;
+    }
+}
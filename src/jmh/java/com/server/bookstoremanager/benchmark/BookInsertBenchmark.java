@@ -0,0 +1,102 @@
+package com.server.bookstoremanager.benchmark;
+
+import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.author.repository.AuthorRepository;
+import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.repository.BookRepository;
+import com.server.bookstoremanager.book.util.IsbnUtils;
+import com.server.bookstoremanager.publisher.entity.Publisher;
+import com.server.bookstoremanager.publisher.repository.PublisherRepository;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BookInsertBenchmark {
+
+    private static final int ROWS_PER_INVOCATION = 500;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+
+    private AuthorRepository authorRepository;
+
+    private PublisherRepository publisherRepository;
+
+    private BookRepository bookRepository;
+
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    private long invocation;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start("insert_benchmark_" + batchSize,
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        authorRepository = context.getBean(AuthorRepository.class);
+        publisherRepository = context.getBean(PublisherRepository.class);
+        bookRepository = context.getBean(BookRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        user = context.getBean(UserRepository.class).save(BenchmarkContexts.benchmarkUser());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public void insertAuthorsPublishersAndBooks() {
+        long prefix = invocation++;
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Author> authors = new ArrayList<>(ROWS_PER_INVOCATION);
+            List<Publisher> publishers = new ArrayList<>(ROWS_PER_INVOCATION);
+            List<Book> books = new ArrayList<>(ROWS_PER_INVOCATION);
+            for (int i = 0; i < ROWS_PER_INVOCATION; i++) {
+                Author author = new Author();
+                author.setName("Author " + prefix + "-" + i);
+                author.setAge(40);
+                authors.add(author);
+
+                Publisher publisher = new Publisher();
+                publisher.setName("Publisher " + prefix + "-" + i);
+                publisher.setCode(prefix + "-" + i);
+                publisher.setFoundationDate(LocalDate.of(2000, 1, 1));
+                publishers.add(publisher);
+
+                Book book = new Book();
+                String isbn = BenchmarkContexts.isbn13(prefix * ROWS_PER_INVOCATION + i);
+                book.setName("Book " + prefix + "-" + i);
+                book.setIsbn(isbn);
+                book.setIsbn13(IsbnUtils.toIsbn13(isbn));
+                book.setPages(200);
+                book.setChapters(10);
+                book.setAuthor(author);
+                book.setPublisher(publisher);
+                book.setUser(user);
+                books.add(book);
+            }
+            authorRepository.saveAll(authors);
+            publisherRepository.saveAll(publishers);
+            bookRepository.saveAll(books);
+        });
+    }
+}
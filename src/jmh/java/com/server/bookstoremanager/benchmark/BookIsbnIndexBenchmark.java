@@ -0,0 +1,54 @@
+package com.server.bookstoremanager.benchmark;
+
+import com.server.bookstoremanager.book.service.BookIsbnIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BookIsbnIndexBenchmark {
+
+    private static final int USERS = 1000;
+
+    private static final int LOOKUPS = 1024;
+
+    @Param({"100000", "1000000"})
+    private int books;
+
+    private BookIsbnIndex bookIsbnIndex;
+
+    private long[] lookupUserIds;
+
+    private long[] lookupIsbn13s;
+
+    private int nextLookup;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        bookIsbnIndex = new BookIsbnIndex(null);
+        lookupUserIds = new long[LOOKUPS];
+        lookupIsbn13s = new long[LOOKUPS];
+        for (int bookId = 1; bookId <= books; bookId++) {
+            long userId = random.nextInt(USERS) + 1;
+            long isbn13 = 9780000000000L + random.nextInt(1_000_000_000);
+            bookIsbnIndex.put(userId, isbn13, bookId);
+            if (bookId <= LOOKUPS) {
+                lookupUserIds[bookId - 1] = userId;
+                lookupIsbn13s[bookId - 1] = random.nextBoolean() ? isbn13 : isbn13 + 1;
+            }
+        }
+    }
+
+    @Benchmark
+    public long[] find() {
+        nextLookup = (nextLookup + 1) & (LOOKUPS - 1);
+        return bookIsbnIndex.find(lookupUserIds[nextLookup], lookupIsbn13s[nextLookup]);
+    }
+}
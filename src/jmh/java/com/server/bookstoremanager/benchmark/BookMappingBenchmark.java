@@ -0,0 +1,106 @@
+package com.server.bookstoremanager.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.bookstoremanager.author.builder.AuthorBuilder;
+import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.author.mapper.AuthorMapper;
+import com.server.bookstoremanager.book.builder.BookRequestBuilder;
+import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.mapper.BookMapper;
+import com.server.bookstoremanager.publisher.builder.PublisherBuilder;
+import com.server.bookstoremanager.publisher.entity.Publisher;
+import com.server.bookstoremanager.publisher.mapper.PublisherMapper;
+import com.server.bookstoremanager.user.builder.UserBuilder;
+import com.server.bookstoremanager.user.dto.UserDTO;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.mapper.UserMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BookMappingBenchmark {
+
+    private final BookMapper bookMapper = BookMapper.INSTANCE;
+
+    private final AuthorMapper authorMapper = AuthorMapper.INSTANCE;
+
+    private final PublisherMapper publisherMapper = PublisherMapper.INSTANCE;
+
+    private final UserMapper userMapper = UserMapper.INSTANCE;
+
+    @Param({"100", "1000"})
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+
+    private List<Book> books;
+
+    private List<BookResponseDTO> bookResponseDTOs;
+
+    private List<UserDTO> userDTOs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        User user = userMapper.toModel(UserBuilder.builder().build().buildUserDTO());
+        books = new ArrayList<>(listSize);
+        userDTOs = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            Author author = authorMapper.toModel(AuthorBuilder.builder()
+                    .id((long) i)
+                    .name("Author " + i)
+                    .build().buildAuthorDTO());
+            Publisher publisher = publisherMapper.toModel(PublisherBuilder.builder()
+                    .id((long) i)
+                    .name("Publisher " + i)
+                    .code("code" + i)
+                    .build().buildPublisherDTO());
+            Book book = bookMapper.toModel(BookRequestBuilder.builder()
+                    .id((long) i)
+                    .name("Book " + i)
+                    .build().buildRequestBookDTO());
+            book.setUser(user);
+            book.setAuthor(author);
+            book.setPublisher(publisher);
+            books.add(book);
+            userDTOs.add(UserBuilder.builder().id((long) i).username("user" + i).build().buildUserDTO());
+        }
+        bookResponseDTOs = mapBooksToDTOs();
+    }
+
+    @Benchmark
+    public List<BookResponseDTO> mapBooksToDTOs() {
+        return books.stream()
+                .map(bookMapper::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<User> mapUserDTOsToModels() {
+        return userDTOs.stream()
+                .map(userMapper::toModel)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serializeBookResponseDTOs() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookResponseDTOs);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeBooks() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mapBooksToDTOs());
+    }
+}
@@ -0,0 +1,115 @@
+package com.server.bookstoremanager.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.bookstoremanager.author.builder.AuthorBuilder;
+import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.author.mapper.AuthorMapper;
+import com.server.bookstoremanager.book.builder.BookRequestBuilder;
+import com.server.bookstoremanager.book.dto.BookPageDTO;
+import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.mapper.BookMapper;
+import com.server.bookstoremanager.publisher.builder.PublisherBuilder;
+import com.server.bookstoremanager.publisher.entity.Publisher;
+import com.server.bookstoremanager.publisher.mapper.PublisherMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BookRepresentationBenchmark {
+
+    private static final int AUTHORS = 5;
+
+    private final BookMapper bookMapper = BookMapper.INSTANCE;
+
+    @Param({"100"})
+    private int pageSize;
+
+    private ObjectMapper jsonMapper;
+
+    private ObjectMapper cborMapper;
+
+    private ObjectMapper smileMapper;
+
+    private List<Book> books;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+        cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+        smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+        List<Author> authors = new ArrayList<>(AUTHORS);
+        List<Publisher> publishers = new ArrayList<>(AUTHORS);
+        for (int i = 0; i < AUTHORS; i++) {
+            authors.add(AuthorMapper.INSTANCE.toModel(AuthorBuilder.builder()
+                    .id((long) i)
+                    .name("Author " + i)
+                    .build().buildAuthorDTO()));
+            publishers.add(PublisherMapper.INSTANCE.toModel(PublisherBuilder.builder()
+                    .id((long) i)
+                    .name("Publisher " + i)
+                    .code("code" + i)
+                    .build().buildPublisherDTO()));
+        }
+        books = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Book book = bookMapper.toModel(BookRequestBuilder.builder()
+                    .id((long) i)
+                    .name("Book " + i)
+                    .build().buildRequestBookDTO());
+            book.setAuthor(authors.get(i % AUTHORS));
+            book.setPublisher(publishers.get(i % AUTHORS));
+            books.add(book);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeJson() throws JsonProcessingException {
+        return jsonMapper.writeValueAsBytes(toPageDTO());
+    }
+
+    @Benchmark
+    public byte[] serializeGzipJson() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            jsonMapper.writeValue(gzip, toPageDTO());
+        }
+        return compressed.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] serializeNormalizedJson() throws JsonProcessingException {
+        return jsonMapper.writeValueAsBytes(bookMapper.toNormalizedPageDTO(books.stream()
+                .map(bookMapper::toDTO)
+                .collect(Collectors.toList()), null));
+    }
+
+    @Benchmark
+    public byte[] serializeCbor() throws JsonProcessingException {
+        return cborMapper.writeValueAsBytes(toPageDTO());
+    }
+
+    @Benchmark
+    public byte[] serializeSmile() throws JsonProcessingException {
+        return smileMapper.writeValueAsBytes(toPageDTO());
+    }
+
+    private BookPageDTO toPageDTO() {
+        return new BookPageDTO(books.stream()
+                .map(bookMapper::toDTO)
+                .collect(Collectors.toList()), null);
+    }
+}
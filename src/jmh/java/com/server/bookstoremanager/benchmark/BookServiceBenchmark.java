@@ -0,0 +1,128 @@
+package com.server.bookstoremanager.benchmark;
+
+import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.author.repository.AuthorRepository;
+import com.server.bookstoremanager.book.builder.BookRequestBuilder;
+import com.server.bookstoremanager.book.dto.BookPageDTO;
+import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.enums.BookSort;
+import com.server.bookstoremanager.book.repository.BookRepository;
+import com.server.bookstoremanager.book.service.BookService;
+import com.server.bookstoremanager.publisher.entity.Publisher;
+import com.server.bookstoremanager.publisher.repository.PublisherRepository;
+import com.server.bookstoremanager.user.dto.AuthenticatedUser;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BookServiceBenchmark {
+
+    private static final int REGISTERED_BOOKS = 1000;
+
+    private static final int PAGE_SIZE = 20;
+
+    private ConfigurableApplicationContext context;
+
+    private BookService bookService;
+
+    private AuthenticatedUser authenticatedUser;
+
+    private Author author;
+
+    private Publisher publisher;
+
+    private Long bookId;
+
+    private String secondPageCursor;
+
+    private long createdBooks;
+
+    private long updatedBooks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start("book_service_benchmark");
+        bookService = context.getBean(BookService.class);
+        User user = context.getBean(UserRepository.class).save(BenchmarkContexts.benchmarkUser());
+        authenticatedUser = new AuthenticatedUser(user.getUsername(), user.getPassword(), user.getRole().getDescription());
+
+        author = new Author();
+        author.setName("Benchmark Author");
+        author.setAge(40);
+        author = context.getBean(AuthorRepository.class).save(author);
+
+        publisher = new Publisher();
+        publisher.setName("Benchmark Publisher");
+        publisher.setCode("benchmark");
+        publisher.setFoundationDate(LocalDate.of(2000, 1, 1));
+        publisher = context.getBean(PublisherRepository.class).save(publisher);
+
+        List<Book> books = new ArrayList<>(REGISTERED_BOOKS);
+        for (int i = 0; i < REGISTERED_BOOKS; i++) {
+            Book book = new Book();
+            book.setName("Book " + i);
+            book.setIsbn("978-3-16-148410-0");
+            book.setPages(200);
+            book.setChapters(10);
+            book.setAuthor(author);
+            book.setPublisher(publisher);
+            book.setUser(user);
+            books.add(book);
+        }
+        bookId = context.getBean(BookRepository.class).saveAll(books).get(REGISTERED_BOOKS / 2).getId();
+        secondPageCursor = bookService.findAllByUser(authenticatedUser, null, PAGE_SIZE, BookSort.ID_ASC).getNextCursor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BookPageDTO findFirstPage() {
+        return bookService.findAllByUser(authenticatedUser, null, PAGE_SIZE, BookSort.ID_ASC);
+    }
+
+    @Benchmark
+    public BookPageDTO findPageAfterCursor() {
+        return bookService.findAllByUser(authenticatedUser, secondPageCursor, PAGE_SIZE, BookSort.ID_ASC);
+    }
+
+    @Benchmark
+    public BookResponseDTO findById() {
+        return bookService.findByIdAndUser(authenticatedUser, bookId);
+    }
+
+    @Benchmark
+    public BookResponseDTO update() {
+        return bookService.updateByUser(authenticatedUser, bookId, BookRequestBuilder.builder()
+                .id(bookId)
+                .name("Updated Book " + updatedBooks++)
+                .authorId(author.getId())
+                .publisherId(publisher.getId())
+                .build().buildRequestBookDTO());
+    }
+
+    @Benchmark
+    public BookResponseDTO create() {
+        return bookService.create(authenticatedUser, BookRequestBuilder.builder()
+                .id(null)
+                .name("Created Book " + createdBooks++)
+                .authorId(author.getId())
+                .publisherId(publisher.getId())
+                .build().buildRequestBookDTO());
+    }
+}
@@ -0,0 +1,63 @@
+package com.server.bookstoremanager.benchmark;
+
+import com.server.bookstoremanager.config.JwtRequestFilter;
+import com.server.bookstoremanager.user.dto.AuthenticatedUser;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.repository.UserRepository;
+import com.server.bookstoremanager.user.service.JwtTokenManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JwtRequestFilterBenchmark {
+
+    @Param({"0", "10000"})
+    private long tokenCacheSize;
+
+    private ConfigurableApplicationContext context;
+
+    private JwtRequestFilter jwtRequestFilter;
+
+    private String authorizationHeader;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start("jwt_filter_benchmark_" + tokenCacheSize,
+                "jwt.cache.maximum-size=" + tokenCacheSize);
+        jwtRequestFilter = context.getBean(JwtRequestFilter.class);
+        User user = context.getBean(UserRepository.class).save(BenchmarkContexts.benchmarkUser());
+        String token = context.getBean(JwtTokenManager.class)
+                .generateToken(new AuthenticatedUser(user.getUsername(), user.getPassword(), user.getRole().getDescription()));
+        authorizationHeader = "Bearer " + token;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object authenticateRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/books");
+        request.addHeader("Authorization", authorizationHeader);
+        try {
+            jwtRequestFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.server.bookstoremanager.benchmark;
+
+import com.server.bookstoremanager.user.dto.AuthenticatedUser;
+import com.server.bookstoremanager.user.dto.VerifiedToken;
+import com.server.bookstoremanager.user.service.JwtTokenManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JwtTokenManagerBenchmark {
+
+    private static final String SECRET = "bookstoremanager";
+
+    private static final long VALIDITY = 18000L;
+
+    private JwtTokenManager cachedJwtTokenManager;
+
+    private JwtTokenManager uncachedJwtTokenManager;
+
+    private AuthenticatedUser authenticatedUser;
+
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cachedJwtTokenManager = new JwtTokenManager(SECRET, VALIDITY, 10000L);
+        uncachedJwtTokenManager = new JwtTokenManager(SECRET, VALIDITY, 0L);
+        authenticatedUser = new AuthenticatedUser("benchmark", "benchmark", "ADMIN");
+        token = uncachedJwtTokenManager.generateToken(authenticatedUser);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return uncachedJwtTokenManager.generateToken(authenticatedUser);
+    }
+
+    @Benchmark
+    public boolean verifyAndValidateToken() {
+        VerifiedToken verifiedToken = uncachedJwtTokenManager.verifyToken(token);
+        return uncachedJwtTokenManager.validateToken(verifiedToken, authenticatedUser);
+    }
+
+    @Benchmark
+    public boolean verifyAndValidateCachedToken() {
+        VerifiedToken verifiedToken = cachedJwtTokenManager.verifyToken(token);
+        return cachedJwtTokenManager.validateToken(verifiedToken, authenticatedUser);
+    }
+}
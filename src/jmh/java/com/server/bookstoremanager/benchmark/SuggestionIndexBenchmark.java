@@ -0,0 +1,64 @@
+package com.server.bookstoremanager.benchmark;
+
+import com.server.bookstoremanager.author.builder.AuthorBuilder;
+import com.server.bookstoremanager.author.dto.AuthorDTO;
+import com.server.bookstoremanager.common.service.SuggestionIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SuggestionIndexBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Ana", "Bruno", "Carla", "Diego", "Elisa", "Fábio", "Gabriela", "Hugo"};
+
+    private static final String[] LAST_NAMES = {"Silva", "Santos", "Oliveira", "Souza", "Lima", "Pereira", "Martins", "Araújo"};
+
+    private static final int PREFIXES = 1024;
+
+    @Param({"10000", "100000"})
+    private int catalogSize;
+
+    @Param({"1", "3"})
+    private int prefixLength;
+
+    private SuggestionIndex<AuthorDTO> suggestionIndex;
+
+    private String[] prefixes;
+
+    private int nextPrefix;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<AuthorDTO> authors = new ArrayList<>(catalogSize);
+        for (int i = 0; i < catalogSize; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + i;
+            authors.add(AuthorBuilder.builder().id((long) i).name(name).build().buildAuthorDTO());
+        }
+        suggestionIndex = new SuggestionIndex<>(AuthorDTO::getId, AuthorDTO::getName);
+        suggestionIndex.replaceAll(authors);
+
+        prefixes = new String[PREFIXES];
+        for (int i = 0; i < PREFIXES; i++) {
+            String name = authors.get(random.nextInt(catalogSize)).getName();
+            String word = name.split(" ")[random.nextInt(2)];
+            prefixes[i] = word.substring(0, Math.min(prefixLength, word.length()));
+        }
+    }
+
+    @Benchmark
+    public List<AuthorDTO> suggest() {
+        nextPrefix = (nextPrefix + 1) & (PREFIXES - 1);
+        return suggestionIndex.suggest(prefixes[nextPrefix], 10);
+    }
+}
@@ -0,0 +1,165 @@
+package com.server.bookstoremanager.benchmark;
+
+import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.author.repository.AuthorRepository;
+import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.repository.BookRepository;
+import com.server.bookstoremanager.publisher.entity.Publisher;
+import com.server.bookstoremanager.publisher.repository.PublisherRepository;
+import com.server.bookstoremanager.user.dto.AuthenticatedUser;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.repository.UserRepository;
+import com.server.bookstoremanager.user.service.JwtTokenManager;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-Dhttp.maxConnections=" + VirtualThreadLoadBenchmark.CLIENTS})
+public class VirtualThreadLoadBenchmark {
+
+    static final int CLIENTS = 1024;
+
+    private static final int REQUESTS_PER_INVOCATION = 4 * CLIENTS;
+
+    // Keeps the pool above Tomcat's 200 platform threads, so only the request threads cap concurrency.
+    private static final int MAXIMUM_POOL_SIZE = 400;
+
+    private static final int BOOKS = 100;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    // Simulates the round trip to a remote database, the in-memory H2 answers without blocking.
+    @Param({"0", "10"})
+    private long statementLatencyMillis;
+
+    private ConfigurableApplicationContext context;
+
+    private String baseUrl;
+
+    private String authorizationHeader;
+
+    private ExecutorService clients;
+
+    private List<Callable<Integer>> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.startServer("virtual_thread_benchmark_" + virtualThreads + "_" + statementLatencyMillis,
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "spring.datasource.hikari.maximum-pool-size=" + MAXIMUM_POOL_SIZE,
+                "sql.slow-query-threshold=10s");
+        addStatementLatency(context.getBean(DataSource.class));
+
+        Author author = new Author();
+        author.setName("Benchmark Author");
+        author.setAge(40);
+        author = context.getBean(AuthorRepository.class).save(author);
+
+        Publisher publisher = new Publisher();
+        publisher.setName("Benchmark Publisher");
+        publisher.setCode("benchmark");
+        publisher.setFoundationDate(LocalDate.of(2000, 1, 1));
+        publisher = context.getBean(PublisherRepository.class).save(publisher);
+
+        User user = context.getBean(UserRepository.class).save(BenchmarkContexts.benchmarkUser());
+        BookRepository bookRepository = context.getBean(BookRepository.class);
+        for (int i = 0; i < BOOKS; i++) {
+            Book book = new Book();
+            book.setName("Book " + i);
+            book.setIsbn("978-3-16-148410-0");
+            book.setIsbn13(9783161484100L);
+            book.setPages(200);
+            book.setChapters(10);
+            book.setAuthor(author);
+            book.setPublisher(publisher);
+            book.setUser(user);
+            bookRepository.save(book);
+        }
+
+        String token = context.getBean(JwtTokenManager.class)
+                .generateToken(new AuthenticatedUser(user.getUsername(), user.getPassword(), user.getRole().getDescription()));
+        authorizationHeader = "Bearer " + token;
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        clients = Executors.newFixedThreadPool(CLIENTS);
+        requests = Collections.nCopies(REQUESTS_PER_INVOCATION, () -> get("/api/v1/books?size=20"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clients.shutdownNow();
+        context.close();
+    }
+
+    // Every invocation waits for its whole batch, so no request is left in flight between iterations.
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS_PER_INVOCATION)
+    public int findBookPage() throws InterruptedException, ExecutionException {
+        int succeeded = 0;
+        for (Future<Integer> response : clients.invokeAll(requests)) {
+            response.get();
+            succeeded++;
+        }
+        return succeeded;
+    }
+
+    private int get(String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        connection.setRequestProperty("Authorization", authorizationHeader);
+        int status = connection.getResponseCode();
+        try (InputStream body = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            if (body != null) {
+                body.readAllBytes();
+            }
+        }
+        if (status != 200) {
+            throw new IllegalStateException("Unexpected status " + status);
+        }
+        return status;
+    }
+
+    private void addStatementLatency(DataSource dataSource) {
+        if (statementLatencyMillis == 0) {
+            return;
+        }
+        ((ChainListener) ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener()).addListener(new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queries) {
+                try {
+                    Thread.sleep(statementLatencyMillis);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queries) {
+            }
+        });
+    }
+}
@@ -2,13 +2,18 @@ package com.server.bookstoremanager.author.controller;
 
 import com.server.bookstoremanager.author.dto.AuthorDTO;
 import com.server.bookstoremanager.author.service.AuthorService;
+import com.server.bookstoremanager.common.sql.StatementBudget;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import javax.validation.Valid;
 import java.util.List;
 
+import static com.server.bookstoremanager.common.util.ConditionalRequestUtils.isCollectionNotModified;
+import static com.server.bookstoremanager.common.util.ConditionalRequestUtils.isNotModified;
+
 @RestController
 @RequestMapping("/api/v1/authors")
 public class AuthorController implements AuthorControllerDocs {
@@ -27,15 +32,28 @@ public class AuthorController implements AuthorControllerDocs {
     }
 
     @GetMapping("/{id}")
-    public AuthorDTO findById(@PathVariable Long id) {
+    @StatementBudget(1)
+    public AuthorDTO findById(@PathVariable Long id, ServletWebRequest request) {
+        if (isNotModified(request, authorService.findVersionById(id))) {
+            return null;
+        }
         return authorService.findById(id);
     }
 
     @GetMapping
-    public List<AuthorDTO> findAll() {
+    @StatementBudget(2)
+    public List<AuthorDTO> findAll(ServletWebRequest request) {
+        if (isCollectionNotModified(request, authorService.findAllVersion())) {
+            return null;
+        }
         return authorService.findAll();
     }
 
+    @GetMapping("/suggest")
+    public List<AuthorDTO> suggest(@RequestParam("q") String prefix, @RequestParam(defaultValue = "10") int size) {
+        return authorService.suggest(prefix, size);
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void delete(@PathVariable Long id) {
@@ -5,6 +5,7 @@ import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -21,15 +22,23 @@ public interface AuthorControllerDocs {
     @ApiOperation(value = "Find author by id operation")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Success author found"),
+            @ApiResponse(code = 304, message = "Author not modified since the informed ETag or date"),
             @ApiResponse(code = 404, message = "Author not found error code")
     })
-    AuthorDTO findById(Long id);
+    AuthorDTO findById(Long id, ServletWebRequest request);
 
     @ApiOperation(value = "List all registered authors operation")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Return all registered authors"),
+            @ApiResponse(code = 304, message = "Authors not modified since the informed ETag"),
     })
-    List<AuthorDTO> findAll();
+    List<AuthorDTO> findAll(ServletWebRequest request);
+
+    @ApiOperation(value = "Suggest registered authors whose name or any name word starts with the informed prefix")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Return up to size matching authors, name prefix matches first"),
+    })
+    List<AuthorDTO> suggest(String prefix, int size);
 
     @ApiOperation(value = "Delete author by id operation")
     @ApiResponses(value = {
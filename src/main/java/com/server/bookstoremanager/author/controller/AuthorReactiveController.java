@@ -0,0 +1,34 @@
+package com.server.bookstoremanager.author.controller;
+
+import com.server.bookstoremanager.author.dto.AuthorDTO;
+import com.server.bookstoremanager.author.service.AuthorReactiveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v2/authors")
+public class AuthorReactiveController implements AuthorReactiveControllerDocs {
+
+    private AuthorReactiveService authorReactiveService;
+
+    @Autowired
+    public AuthorReactiveController(AuthorReactiveService authorReactiveService) {
+        this.authorReactiveService = authorReactiveService;
+    }
+
+    @GetMapping("/{id}")
+    public Mono<AuthorDTO> findById(@PathVariable Long id) {
+        return authorReactiveService.findById(id);
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<AuthorDTO> findAll() {
+        return authorReactiveService.findAll();
+    }
+}
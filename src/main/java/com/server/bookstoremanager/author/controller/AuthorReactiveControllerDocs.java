@@ -0,0 +1,26 @@
+package com.server.bookstoremanager.author.controller;
+
+import com.server.bookstoremanager.author.dto.AuthorDTO;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Api("Authors reactive read API")
+public interface AuthorReactiveControllerDocs {
+
+    @ApiOperation(value = "Find author by id operation")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Success author found"),
+            @ApiResponse(code = 404, message = "Author not found error code")
+    })
+    Mono<AuthorDTO> findById(Long id);
+
+    @ApiOperation(value = "Stream all registered authors as NDJSON or server-sent events")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "All registered authors. NDJSON and event streams are written as they are read, JSON is sent as one array")
+    })
+    Flux<AuthorDTO> findAll();
+}
@@ -3,19 +3,27 @@ package com.server.bookstoremanager.author.entity;
 import com.server.bookstoremanager.book.entity.Book;
 import com.server.bookstoremanager.common.entity.Auditable;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.List;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "author-entity")
+@Table(uniqueConstraints = @UniqueConstraint(name = Author.UNIQUE_NAME, columnNames = "name"))
 public class Author extends Auditable {
 
+    public static final String UNIQUE_NAME = "uk_author_name";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "author_sequence")
+    @SequenceGenerator(name = "author_sequence", sequenceName = "author_sequence", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String name;
 
     @Column(columnDefinition = "integer default 0")
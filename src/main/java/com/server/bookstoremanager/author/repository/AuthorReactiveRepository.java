@@ -0,0 +1,42 @@
+package com.server.bookstoremanager.author.repository;
+
+import com.server.bookstoremanager.author.dto.AuthorDTO;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public class AuthorReactiveRepository {
+
+    private static final String SELECT_AUTHOR = "select a.id, a.name, a.age from author a ";
+
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    public AuthorReactiveRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<AuthorDTO> findAll() {
+        return databaseClient.sql(SELECT_AUTHOR + "order by a.id")
+                .map(row -> toDTO(row, ""))
+                .all();
+    }
+
+    public Mono<AuthorDTO> findById(Long id) {
+        return databaseClient.sql(SELECT_AUTHOR + "where a.id = :id")
+                .bind("id", id)
+                .map(row -> toDTO(row, ""))
+                .one();
+    }
+
+    public static AuthorDTO toDTO(Row row, String columnPrefix) {
+        return new AuthorDTO(
+                row.get(columnPrefix + "id", Long.class),
+                row.get(columnPrefix + "name", String.class),
+                row.get(columnPrefix + "age", Integer.class));
+    }
+}
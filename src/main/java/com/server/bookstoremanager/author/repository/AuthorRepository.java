@@ -1,11 +1,38 @@
 package com.server.bookstoremanager.author.repository;
 
+import com.server.bookstoremanager.author.dto.AuthorDTO;
 import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.common.dto.ResourceVersion;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
+
+import java.util.List;
 import java.util.Optional;
 
+import static com.server.bookstoremanager.config.CacheConfig.AUTHORS_CACHE;
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 public interface AuthorRepository extends JpaRepository<Author, Long> {
 
+    @Query("select new com.server.bookstoremanager.author.dto.AuthorDTO(a.id, a.name, a.age) from Author a")
+    List<AuthorDTO> findAllDTOs();
+
+    @Query("select new com.server.bookstoremanager.common.dto.ResourceVersion(count(a), max(a.lastModified)) from Author a")
+    ResourceVersion findVersion();
+
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
     Optional<Author> findByName(String name);
+
+    @Override
+    @Cacheable(cacheNames = AUTHORS_CACHE, key = "#p0", unless = "#result == null")
+    Optional<Author> findById(Long id);
+
+    @Override
+    @CacheEvict(cacheNames = AUTHORS_CACHE, key = "#p0")
+    void deleteById(Long id);
 }
@@ -0,0 +1,29 @@
+package com.server.bookstoremanager.author.service;
+
+import com.server.bookstoremanager.author.dto.AuthorDTO;
+import com.server.bookstoremanager.author.exception.AuthorNotFoundException;
+import com.server.bookstoremanager.author.repository.AuthorReactiveRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class AuthorReactiveService {
+
+    private AuthorReactiveRepository authorReactiveRepository;
+
+    @Autowired
+    public AuthorReactiveService(AuthorReactiveRepository authorReactiveRepository) {
+        this.authorReactiveRepository = authorReactiveRepository;
+    }
+
+    public Mono<AuthorDTO> findById(Long id) {
+        return authorReactiveRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new AuthorNotFoundException(id)));
+    }
+
+    public Flux<AuthorDTO> findAll() {
+        return authorReactiveRepository.findAll();
+    }
+}
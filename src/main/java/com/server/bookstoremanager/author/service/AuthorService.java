@@ -6,50 +6,99 @@ import com.server.bookstoremanager.author.exception.AuthorAlreadyExistsException
 import com.server.bookstoremanager.author.exception.AuthorNotFoundException;
 import com.server.bookstoremanager.author.mapper.AuthorMapper;
 import com.server.bookstoremanager.author.repository.AuthorRepository;
+import com.server.bookstoremanager.common.dto.ResourceVersion;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static com.server.bookstoremanager.common.util.ConstraintViolationUtils.isViolationOf;
+import static com.server.bookstoremanager.config.CacheConfig.AUTHORS_CACHE;
+import static com.server.bookstoremanager.config.CacheConfig.AUTHOR_LIST_CACHE;
+import static com.server.bookstoremanager.config.CacheConfig.LIST_VERSION_KEY;
+
 @Service
 public class AuthorService {
 
+    public static final int MAX_SUGGESTIONS = 20;
+
     private final static AuthorMapper authorMapper = AuthorMapper.INSTANCE;
 
     private AuthorRepository authorRepository;
 
+    private AuthorSuggestionIndex authorSuggestionIndex;
+
     @Autowired
-    public AuthorService(AuthorRepository authorRepository) {
+    public AuthorService(AuthorRepository authorRepository, AuthorSuggestionIndex authorSuggestionIndex) {
         this.authorRepository = authorRepository;
+        this.authorSuggestionIndex = authorSuggestionIndex;
     }
 
+    @CacheEvict(cacheNames = AUTHOR_LIST_CACHE, allEntries = true)
+    @Transactional
     public AuthorDTO create(AuthorDTO authorDTO) {
-        verifyIfExists(authorDTO.getName());
         Author authorToCreate = authorMapper.toModel(authorDTO);
-        Author createdAuthor = authorRepository.save(authorToCreate);
+        Author createdAuthor = saveAndVerifyIfExists(authorToCreate);
+        AuthorDTO createdAuthorDTO = authorMapper.toDTO(createdAuthor);
+        authorSuggestionIndex.put(createdAuthorDTO);
 
-        return authorMapper.toDTO(createdAuthor);
+        return createdAuthorDTO;
     }
 
+    @Transactional(readOnly = true)
     public AuthorDTO findById(Long id) {
         Author foundAuthor = verifyAndGetIfExists(id);
 
         return authorMapper.toDTO(foundAuthor);
     }
 
+    @Cacheable(AUTHOR_LIST_CACHE)
+    @Transactional(readOnly = true)
     public List<AuthorDTO> findAll() {
-        return authorRepository.findAll()
-                .stream()
-                .map(authorMapper::toDTO)
-                .collect(Collectors.toList());
+        return Collections.unmodifiableList(authorRepository.findAllDTOs());
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion findVersionById(Long id) {
+        Author foundAuthor = verifyAndGetIfExists(id);
+        return new ResourceVersion(foundAuthor.getId(), foundAuthor.getLastModified());
     }
 
+    @Cacheable(cacheNames = AUTHOR_LIST_CACHE, key = LIST_VERSION_KEY)
+    @Transactional(readOnly = true)
+    public ResourceVersion findAllVersion() {
+        return authorRepository.findVersion();
+    }
+
+    public List<AuthorDTO> suggest(String prefix, int size) {
+        return authorSuggestionIndex.suggest(prefix, Math.max(1, Math.min(size, MAX_SUGGESTIONS)));
+    }
+
+    // The repository evicts the author before this transaction commits, so it is evicted again afterwards.
+    @Caching(evict = {
+            @CacheEvict(cacheNames = AUTHOR_LIST_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = AUTHORS_CACHE, key = "#p0")
+    })
+    @Transactional
     public void delete(Long id) {
         verifyAndGetIfExists(id);
         authorRepository.deleteById(id);
+        // Flushed so a rejected delete fails here, before the suggestion index changes.
+        authorRepository.flush();
+        authorSuggestionIndex.remove(id);
     }
 
+    @Transactional(readOnly = true)
     public Author verifyAndGetIfExists(Long id) {
         Author foundAuthor = authorRepository.findById(id)
                 .orElseThrow(() -> new AuthorNotFoundException(id));
@@ -57,11 +106,22 @@ public class AuthorService {
         return foundAuthor;
     }
 
-    private void verifyIfExists(String authorName) {
-        authorRepository.findByName(authorName)
-                .ifPresent(author -> {
-                    throw new AuthorAlreadyExistsException(author.getName());
-                });
+    @Transactional(readOnly = true)
+    public Map<Long, Author> findAllByIds(Collection<Long> ids) {
+        return authorRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Author::getId, Function.identity()));
+    }
+
+    private Author saveAndVerifyIfExists(Author authorToCreate) {
+        try {
+            return authorRepository.saveAndFlush(authorToCreate);
+        } catch (DataIntegrityViolationException exception) {
+            if (isViolationOf(exception, Author.UNIQUE_NAME)) {
+                throw new AuthorAlreadyExistsException(authorToCreate.getName());
+            }
+            throw exception;
+        }
     }
 
 }
@@ -0,0 +1,34 @@
+package com.server.bookstoremanager.author.service;
+
+import com.server.bookstoremanager.author.dto.AuthorDTO;
+import com.server.bookstoremanager.author.mapper.AuthorMapper;
+import com.server.bookstoremanager.author.repository.AuthorRepository;
+import com.server.bookstoremanager.common.service.SuggestionIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+@Component
+public class AuthorSuggestionIndex extends SuggestionIndex<AuthorDTO> {
+
+    private final static AuthorMapper authorMapper = AuthorMapper.INSTANCE;
+
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    public AuthorSuggestionIndex(AuthorRepository authorRepository) {
+        super(AuthorDTO::getId, AuthorDTO::getName);
+        this.authorRepository = authorRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        replaceAll(authorRepository.findAll()
+                .stream()
+                .map(authorMapper::toDTO)
+                .collect(Collectors.toList()));
+    }
+}
@@ -1,26 +1,51 @@
 package com.server.bookstoremanager.book.controller;
 
+import com.server.bookstoremanager.book.dto.BookImportReportDTO;
+import com.server.bookstoremanager.book.dto.BookPageDTO;
 import com.server.bookstoremanager.book.dto.BookRequestDTO;
 import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.dto.NormalizedBookPageDTO;
+import com.server.bookstoremanager.book.enums.BookExportFormat;
+import com.server.bookstoremanager.book.enums.BookSort;
+import com.server.bookstoremanager.book.service.BookExportService;
+import com.server.bookstoremanager.book.service.BookImportService;
 import com.server.bookstoremanager.book.service.BookService;
+import com.server.bookstoremanager.common.sql.StatementBudget;
 import com.server.bookstoremanager.user.dto.AuthenticatedUser;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 
+import static com.server.bookstoremanager.common.util.ConditionalRequestUtils.isCollectionNotModified;
+import static com.server.bookstoremanager.common.util.ConditionalRequestUtils.isNotModified;
+
 @RestController
 @RequestMapping("/api/v1/books")
 public class BookController implements BookControllerDocs {
 
     private BookService bookService;
 
+    private BookExportService bookExportService;
+
+    private BookImportService bookImportService;
+
     @Autowired
-    public BookController(BookService bookService) {
+    public BookController(BookService bookService,
+                          BookExportService bookExportService,
+                          BookImportService bookImportService) {
         this.bookService = bookService;
+        this.bookExportService = bookExportService;
+        this.bookImportService = bookImportService;
     }
 
     @PostMapping
@@ -30,15 +55,72 @@ public class BookController implements BookControllerDocs {
         return bookService.create(authenticatedUser, bookRequestDTO);
     }
 
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public BookImportReportDTO importAllByUser(@AuthenticationPrincipal AuthenticatedUser authenticatedUser,
+                                               HttpServletRequest request) throws IOException {
+        return bookImportService.importAllByUser(authenticatedUser, request.getInputStream());
+    }
+
     @GetMapping("/{bookId}")
+    @StatementBudget(2)
     public BookResponseDTO findByIdAndUser(@AuthenticationPrincipal AuthenticatedUser authenticatedUser,
-                                           @PathVariable Long bookId) {
+                                           @PathVariable Long bookId,
+                                           ServletWebRequest request) {
+        if (isNotModified(request, bookService.findVersionByIdAndUser(authenticatedUser, bookId))) {
+            return null;
+        }
         return bookService.findByIdAndUser(authenticatedUser, bookId);
     }
 
     @GetMapping
-    public List<BookResponseDTO> findAllByUser(@AuthenticationPrincipal AuthenticatedUser authenticatedUser) {
-        return bookService.findAllByUser(authenticatedUser);
+    @StatementBudget(3)
+    public BookPageDTO findAllByUser(@AuthenticationPrincipal AuthenticatedUser authenticatedUser,
+                                     @RequestParam(required = false) String cursor,
+                                     @RequestParam(defaultValue = "20") int size,
+                                     @RequestParam(defaultValue = "ID_ASC") BookSort sort,
+                                     ServletWebRequest request) {
+        if (isCollectionNotModified(request, bookService.findVersionByUser(authenticatedUser))) {
+            return null;
+        }
+        return bookService.findAllByUser(authenticatedUser, cursor, size, sort);
+    }
+
+    @GetMapping(produces = NormalizedBookPageDTO.MEDIA_TYPE_VALUE)
+    @StatementBudget(3)
+    public NormalizedBookPageDTO findNormalizedByUser(@AuthenticationPrincipal AuthenticatedUser authenticatedUser,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "20") int size,
+                                                      @RequestParam(defaultValue = "ID_ASC") BookSort sort,
+                                                      ServletWebRequest request) {
+        if (isCollectionNotModified(request, bookService.findVersionByUser(authenticatedUser))) {
+            return null;
+        }
+        return bookService.findNormalizedByUser(authenticatedUser, cursor, size, sort);
+    }
+
+    @GetMapping("/isbn/{isbn}")
+    @StatementBudget(1)
+    public List<BookResponseDTO> findAllByIsbn(@AuthenticationPrincipal AuthenticatedUser authenticatedUser,
+                                               @PathVariable String isbn) {
+        return bookService.findAllByUserAndIsbn(authenticatedUser, isbn);
+    }
+
+    @GetMapping("/search")
+    @StatementBudget(1)
+    public List<BookResponseDTO> searchByUser(@AuthenticationPrincipal AuthenticatedUser authenticatedUser,
+                                              @RequestParam("q") String query,
+                                              @RequestParam(defaultValue = "20") int size) {
+        return bookService.searchByUser(authenticatedUser, query, size);
+    }
+
+    @GetMapping("/export")
+    public void exportAllByUser(@AuthenticationPrincipal AuthenticatedUser authenticatedUser,
+                                @RequestParam(defaultValue = "NDJSON") BookExportFormat format,
+                                HttpServletResponse response) throws IOException {
+        response.setContentType(format.getMediaType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=books." + format.getExtension());
+        bookExportService.exportAllByUser(authenticatedUser, format, response.getOutputStream());
     }
 
     @PutMapping("/{bookId}")
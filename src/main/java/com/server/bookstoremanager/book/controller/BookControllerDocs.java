@@ -1,13 +1,22 @@
 package com.server.bookstoremanager.book.controller;
 
+import com.server.bookstoremanager.book.dto.BookImportReportDTO;
+import com.server.bookstoremanager.book.dto.BookPageDTO;
 import com.server.bookstoremanager.book.dto.BookRequestDTO;
 import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.dto.NormalizedBookPageDTO;
+import com.server.bookstoremanager.book.enums.BookExportFormat;
+import com.server.bookstoremanager.book.enums.BookSort;
 import com.server.bookstoremanager.user.dto.AuthenticatedUser;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 
 @Api("Books module management")
@@ -20,18 +29,55 @@ public interface BookControllerDocs {
     })
     BookResponseDTO create(AuthenticatedUser authenticatedUser, BookRequestDTO bookRequestDTO);
 
+    @ApiOperation(value = "Bulk book import operation from a JSON array or NDJSON body")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Import report with the result of each informed book"),
+            @ApiResponse(code = 400, message = "Malformed JSON body")
+    })
+    BookImportReportDTO importAllByUser(AuthenticatedUser authenticatedUser, HttpServletRequest request) throws IOException;
+
     @ApiOperation(value = "Book find by id and user operation")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Success book found"),
+            @ApiResponse(code = 304, message = "Book not modified since the informed ETag or date"),
             @ApiResponse(code = 404, message = "Book not found error")
     })
-    BookResponseDTO findByIdAndUser(AuthenticatedUser authenticatedUser, Long bookId);
+    BookResponseDTO findByIdAndUser(AuthenticatedUser authenticatedUser, Long bookId, ServletWebRequest request);
+
+    @ApiOperation(value = "List a page of books by a specific authenticated user")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Book page found by authenticated user informed"),
+            @ApiResponse(code = 304, message = "Books of the authenticated user not modified since the informed ETag"),
+            @ApiResponse(code = 400, message = "Invalid page cursor informed")
+    })
+    BookPageDTO findAllByUser(AuthenticatedUser authenticatedUser, String cursor, int size, BookSort sort, ServletWebRequest request);
+
+    @ApiOperation(value = "List a page of books by a specific authenticated user, sending each author and publisher once")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Book page with authors and publishers referenced by id"),
+            @ApiResponse(code = 304, message = "Books of the authenticated user not modified since the informed ETag"),
+            @ApiResponse(code = 400, message = "Invalid page cursor informed")
+    })
+    NormalizedBookPageDTO findNormalizedByUser(AuthenticatedUser authenticatedUser, String cursor, int size, BookSort sort, ServletWebRequest request);
+
+    @ApiOperation(value = "Find books of the authenticated user by ISBN-10 or ISBN-13, with or without hyphens")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Books registered with the informed ISBN"),
+            @ApiResponse(code = 400, message = "Invalid ISBN")
+    })
+    List<BookResponseDTO> findAllByIsbn(AuthenticatedUser authenticatedUser, String isbn);
+
+    @ApiOperation(value = "Search books of the authenticated user by name, author name or publisher name")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Books matching every informed word or word prefix, best matches first")
+    })
+    List<BookResponseDTO> searchByUser(AuthenticatedUser authenticatedUser, String query, int size);
 
-    @ApiOperation(value = "List all books by a specific authenticated user")
+    @ApiOperation(value = "Stream all books by a specific authenticated user as NDJSON or CSV")
     @ApiResponses(value = {
-            @ApiResponse(code = 200, message = "Book list found by authenticated user informed")
+            @ApiResponse(code = 200, message = "Book catalog exported for authenticated user informed")
     })
-    List<BookResponseDTO> findAllByUser(AuthenticatedUser authenticatedUser);
+    void exportAllByUser(AuthenticatedUser authenticatedUser, BookExportFormat format, HttpServletResponse response) throws IOException;
 
     @ApiOperation(value = "Book update operation")
     @ApiResponses(value = {
@@ -0,0 +1,43 @@
+package com.server.bookstoremanager.book.controller;
+
+import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.service.BookReactiveService;
+import com.server.bookstoremanager.user.dto.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v2/books")
+public class BookReactiveController implements BookReactiveControllerDocs {
+
+    private BookReactiveService bookReactiveService;
+
+    @Autowired
+    public BookReactiveController(BookReactiveService bookReactiveService) {
+        this.bookReactiveService = bookReactiveService;
+    }
+
+    @GetMapping("/{bookId}")
+    public Mono<BookResponseDTO> findByIdAndUser(@AuthenticationPrincipal AuthenticatedUser authenticatedUser,
+                                                 @PathVariable Long bookId) {
+        return bookReactiveService.findByIdAndUser(authenticatedUser, bookId);
+    }
+
+    // Spring MVC writes each element of NDJSON and event streams as it arrives, with back-pressure.
+    // For application/json it collects the whole Flux into a list first, so only the streaming types avoid buffering.
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<BookResponseDTO> findAllByUser(@AuthenticationPrincipal AuthenticatedUser authenticatedUser,
+                                               @RequestParam(required = false) Long afterId) {
+        return bookReactiveService.findAllByUser(authenticatedUser, afterId);
+    }
+
+    @GetMapping(value = "/isbn/{isbn}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<BookResponseDTO> findAllByIsbn(@AuthenticationPrincipal AuthenticatedUser authenticatedUser,
+                                               @PathVariable String isbn) {
+        return bookReactiveService.findAllByUserAndIsbn(authenticatedUser, isbn);
+    }
+}
@@ -0,0 +1,34 @@
+package com.server.bookstoremanager.book.controller;
+
+import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.user.dto.AuthenticatedUser;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Api("Books reactive read API")
+public interface BookReactiveControllerDocs {
+
+    @ApiOperation(value = "Book find by id and user operation")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Success book found"),
+            @ApiResponse(code = 404, message = "Book not found error")
+    })
+    Mono<BookResponseDTO> findByIdAndUser(AuthenticatedUser authenticatedUser, Long bookId);
+
+    @ApiOperation(value = "Stream all books of the authenticated user as NDJSON or server-sent events, in id order after the informed id")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Books of the authenticated user. NDJSON and event streams are written as they are read, JSON is sent as one array")
+    })
+    Flux<BookResponseDTO> findAllByUser(AuthenticatedUser authenticatedUser, Long afterId);
+
+    @ApiOperation(value = "Stream books of the authenticated user with the informed ISBN-10 or ISBN-13")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Books with the informed ISBN, empty when none was found"),
+            @ApiResponse(code = 400, message = "Invalid ISBN informed")
+    })
+    Flux<BookResponseDTO> findAllByIsbn(AuthenticatedUser authenticatedUser, String isbn);
+}
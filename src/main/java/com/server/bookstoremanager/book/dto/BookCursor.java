@@ -0,0 +1,15 @@
+package com.server.bookstoremanager.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookCursor {
+
+    private Long id;
+
+    private String name;
+}
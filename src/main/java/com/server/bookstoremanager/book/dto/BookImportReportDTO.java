@@ -0,0 +1,19 @@
+package com.server.bookstoremanager.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookImportReportDTO {
+
+    private int created;
+
+    private int failed;
+
+    private List<BookImportResultDTO> results;
+}
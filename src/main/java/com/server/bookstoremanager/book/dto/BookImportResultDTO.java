@@ -0,0 +1,22 @@
+package com.server.bookstoremanager.book.dto;
+
+import com.server.bookstoremanager.book.enums.BookImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookImportResultDTO {
+
+    private int row;
+
+    private BookImportStatus status;
+
+    private Long bookId;
+
+    private List<String> errors;
+}
@@ -0,0 +1,10 @@
+package com.server.bookstoremanager.book.dto;
+
+public interface BookIsbnEntry {
+
+    long getId();
+
+    long getUserId();
+
+    long getIsbn13();
+}
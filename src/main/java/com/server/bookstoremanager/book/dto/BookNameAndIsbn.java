@@ -0,0 +1,8 @@
+package com.server.bookstoremanager.book.dto;
+
+public interface BookNameAndIsbn {
+
+    String getName();
+
+    long getIsbn13();
+}
@@ -0,0 +1,17 @@
+package com.server.bookstoremanager.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookPageDTO {
+
+    private List<BookResponseDTO> books;
+
+    private String nextCursor;
+}
@@ -0,0 +1,25 @@
+package com.server.bookstoremanager.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookReferenceDTO {
+
+    private Long id;
+
+    private String name;
+
+    private String isbn;
+
+    private Integer pages;
+
+    private Integer chapters;
+
+    private Long authorId;
+
+    private Long publisherId;
+}
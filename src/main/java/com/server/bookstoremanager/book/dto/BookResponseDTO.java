@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -24,4 +26,13 @@ public class BookResponseDTO {
     private AuthorDTO author;
 
     private PublisherDTO publisher;
+
+    // Used by the JPQL constructor expressions, which cannot nest, so the author and publisher columns come flat.
+    public BookResponseDTO(Long id, String name, String isbn, Integer pages, Integer chapters,
+                           Long authorId, String authorName, Integer authorAge,
+                           Long publisherId, String publisherName, String publisherCode, LocalDate publisherFoundationDate) {
+        this(id, name, isbn, pages, chapters,
+                new AuthorDTO(authorId, authorName, authorAge),
+                new PublisherDTO(publisherId, publisherName, publisherCode, publisherFoundationDate));
+    }
 }
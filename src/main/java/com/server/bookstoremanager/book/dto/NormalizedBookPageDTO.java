@@ -0,0 +1,25 @@
+package com.server.bookstoremanager.book.dto;
+
+import com.server.bookstoremanager.author.dto.AuthorDTO;
+import com.server.bookstoremanager.publisher.dto.PublisherDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NormalizedBookPageDTO {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.bookstore.normalized+json";
+
+    private List<BookReferenceDTO> books;
+
+    private List<AuthorDTO> authors;
+
+    private List<PublisherDTO> publishers;
+
+    private String nextCursor;
+}
@@ -10,10 +10,26 @@ import javax.persistence.*;
 
 @Data
 @Entity
+@Table(
+        indexes = {
+                @Index(name = "idx_book_user_id", columnList = "user_id, id"),
+                @Index(name = "idx_book_user_name", columnList = "user_id, name, id"),
+                @Index(name = "idx_book_user_isbn13", columnList = "user_id, isbn13"),
+                @Index(name = "idx_book_user_last_modified", columnList = "user_id, lastModified")
+        },
+        uniqueConstraints = @UniqueConstraint(name = Book.UNIQUE_NAME_AND_ISBN, columnNames = {"user_id", "name", "isbn13"})
+)
+@NamedEntityGraph(name = "Book.details", attributeNodes = {
+        @NamedAttributeNode("author"),
+        @NamedAttributeNode("publisher")
+})
 public class Book extends Auditable {
 
+    public static final String UNIQUE_NAME_AND_ISBN = "uk_book_user_name_isbn13";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_sequence")
+    @SequenceGenerator(name = "book_sequence", sequenceName = "book_sequence", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -22,18 +38,23 @@ public class Book extends Auditable {
     @Column(nullable = false)
     private String isbn;
 
+    @Column(nullable = false)
+    private long isbn13;
+
     @Column(columnDefinition = "integer default 0")
     private int pages;
 
     @Column(columnDefinition = "integer default 0")
     private int chapters;
 
-    @ManyToOne(cascade = {CascadeType.MERGE})
+    // None of these cascade: they come from the users and reference-data caches and may be stale,
+    // so merging them back could undo a newer update.
+    @ManyToOne
     private Author author;
 
-    @ManyToOne(cascade = {CascadeType.MERGE})
+    @ManyToOne
     private Publisher publisher;
 
-    @ManyToOne(cascade = {CascadeType.MERGE})
+    @ManyToOne
     private User user;
 }
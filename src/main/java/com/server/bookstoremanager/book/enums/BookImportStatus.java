@@ -0,0 +1,9 @@
+package com.server.bookstoremanager.book.enums;
+
+public enum BookImportStatus {
+
+    CREATED,
+    INVALID,
+    DUPLICATED,
+    NOT_FOUND
+}
@@ -0,0 +1,17 @@
+package com.server.bookstoremanager.book.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+@Getter
+@AllArgsConstructor
+public enum BookSort {
+
+    ID_ASC(Sort.by(Sort.Direction.ASC, "user", "id")),
+    ID_DESC(Sort.by(Sort.Direction.DESC, "user", "id")),
+    NAME_ASC(Sort.by(Sort.Direction.ASC, "user", "name", "id")),
+    NAME_DESC(Sort.by(Sort.Direction.DESC, "user", "name", "id"));
+
+    private final Sort sort;
+}
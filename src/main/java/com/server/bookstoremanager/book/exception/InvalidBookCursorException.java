@@ -0,0 +1,8 @@
+package com.server.bookstoremanager.book.exception;
+
+public class InvalidBookCursorException extends IllegalArgumentException {
+
+    public InvalidBookCursorException(String cursor) {
+        super(String.format("Book cursor %s is not valid!", cursor));
+    }
+}
@@ -0,0 +1,8 @@
+package com.server.bookstoremanager.book.exception;
+
+public class InvalidIsbnException extends IllegalArgumentException {
+
+    public InvalidIsbnException(String isbn) {
+        super(String.format("ISBN %s is not a valid ISBN-10 or ISBN-13!", isbn));
+    }
+}
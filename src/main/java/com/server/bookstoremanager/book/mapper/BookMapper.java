@@ -1,19 +1,48 @@
 package com.server.bookstoremanager.book.mapper;
 
+import com.server.bookstoremanager.author.dto.AuthorDTO;
+import com.server.bookstoremanager.book.dto.BookReferenceDTO;
 import com.server.bookstoremanager.book.dto.BookRequestDTO;
 import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.dto.NormalizedBookPageDTO;
 import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.util.IsbnUtils;
+import com.server.bookstoremanager.publisher.dto.PublisherDTO;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
-@Mapper
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Mapper(imports = IsbnUtils.class)
 public interface BookMapper {
 
     BookMapper INSTANCE = Mappers.getMapper(BookMapper.class);
 
+    @Mapping(target = "isbn13", expression = "java(IsbnUtils.toIsbn13(bookRequestDTO.getIsbn()))")
     Book toModel(BookRequestDTO bookRequestDTO);
 
+    @Mapping(target = "isbn13", expression = "java(IsbnUtils.toIsbn13(bookResponseDTO.getIsbn()))")
     Book toModel(BookResponseDTO bookResponseDTO);
 
     BookResponseDTO toDTO(Book bookDTO);
+
+    @Mapping(target = "authorId", source = "author.id")
+    @Mapping(target = "publisherId", source = "publisher.id")
+    BookReferenceDTO toReferenceDTO(BookResponseDTO book);
+
+    default NormalizedBookPageDTO toNormalizedPageDTO(List<BookResponseDTO> books, String nextCursor) {
+        Map<Long, AuthorDTO> authors = new LinkedHashMap<>();
+        Map<Long, PublisherDTO> publishers = new LinkedHashMap<>();
+        List<BookReferenceDTO> bookReferences = new ArrayList<>(books.size());
+        for (BookResponseDTO book : books) {
+            authors.putIfAbsent(book.getAuthor().getId(), book.getAuthor());
+            publishers.putIfAbsent(book.getPublisher().getId(), book.getPublisher());
+            bookReferences.add(toReferenceDTO(book));
+        }
+        return new NormalizedBookPageDTO(bookReferences, new ArrayList<>(authors.values()), new ArrayList<>(publishers.values()), nextCursor);
+    }
 }
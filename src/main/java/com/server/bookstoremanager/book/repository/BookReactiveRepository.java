@@ -0,0 +1,67 @@
+package com.server.bookstoremanager.book.repository;
+
+import com.server.bookstoremanager.author.repository.AuthorReactiveRepository;
+import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.publisher.repository.PublisherReactiveRepository;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public class BookReactiveRepository {
+
+    // Author and publisher come in the same row, so a book page is a single statement.
+    private static final String SELECT_BOOK_DETAILS = "select b.id, b.name, b.isbn, b.pages, b.chapters, " +
+            "a.id as author_id, a.name as author_name, a.age as author_age, " +
+            "p.id as publisher_id, p.name as publisher_name, p.code as publisher_code, p.foundation_date as publisher_foundation_date " +
+            "from book b " +
+            "join user u on u.id = b.user_id " +
+            "join author a on a.id = b.author_id " +
+            "join publisher p on p.id = b.publisher_id " +
+            "where u.username = :username ";
+
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    public BookReactiveRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<BookResponseDTO> findAllByUsernameAfterId(String username, Long id) {
+        return databaseClient.sql(SELECT_BOOK_DETAILS + "and b.id > :id order by b.user_id, b.id")
+                .bind("username", username)
+                .bind("id", id)
+                .map(BookReactiveRepository::toBookDTO)
+                .all();
+    }
+
+    public Mono<BookResponseDTO> findByIdAndUsername(Long id, String username) {
+        return databaseClient.sql(SELECT_BOOK_DETAILS + "and b.id = :id")
+                .bind("username", username)
+                .bind("id", id)
+                .map(BookReactiveRepository::toBookDTO)
+                .one();
+    }
+
+    public Flux<BookResponseDTO> findAllByUsernameAndIsbn13(String username, long isbn13) {
+        return databaseClient.sql(SELECT_BOOK_DETAILS + "and b.isbn13 = :isbn13 order by b.id")
+                .bind("username", username)
+                .bind("isbn13", isbn13)
+                .map(BookReactiveRepository::toBookDTO)
+                .all();
+    }
+
+    private static BookResponseDTO toBookDTO(Row row) {
+        return new BookResponseDTO(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("isbn", String.class),
+                row.get("pages", Integer.class),
+                row.get("chapters", Integer.class),
+                AuthorReactiveRepository.toDTO(row, "author_"),
+                PublisherReactiveRepository.toDTO(row, "publisher_"));
+    }
+}
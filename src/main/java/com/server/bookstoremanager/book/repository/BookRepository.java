@@ -1,19 +1,113 @@
 package com.server.bookstoremanager.book.repository;
 
+import com.server.bookstoremanager.book.dto.BookIsbnEntry;
+import com.server.bookstoremanager.book.dto.BookNameAndIsbn;
+import com.server.bookstoremanager.book.dto.BookResponseDTO;
 import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.common.dto.ResourceVersion;
 import com.server.bookstoremanager.user.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
 
-    Optional<Book> findByNameAndIsbnAndUser(String name, String isbn, User user);
+    String BOOK_DETAILS_GRAPH = "Book.details";
+
+    String BOOK_RESPONSE_QUERY = "select new com.server.bookstoremanager.book.dto.BookResponseDTO(" +
+            "b.id, b.name, b.isbn, b.pages, b.chapters, a.id, a.name, a.age, p.id, p.name, p.code, p.foundationDate) " +
+            "from Book b join b.author a join b.publisher p ";
 
+    List<BookNameAndIsbn> findAllByUserAndIsbn13In(User user, Collection<Long> isbn13s);
+
+    @EntityGraph(BOOK_DETAILS_GRAPH)
     Optional<Book> findByIdAndUser(Long bookId, User user);
 
+    @EntityGraph(BOOK_DETAILS_GRAPH)
     List<Book> findAllByUser(User user);
 
+    @Query(BOOK_RESPONSE_QUERY + "where b.id = :id and b.user = :user")
+    Optional<BookResponseDTO> findResponseByIdAndUser(@Param("id") Long bookId, @Param("user") User user);
+
+    @Query(BOOK_RESPONSE_QUERY + "where b.user = :user and b.id in :ids")
+    List<BookResponseDTO> findAllResponsesByUserAndIdIn(@Param("user") User user, @Param("ids") Collection<Long> ids);
+
+    @Query("select new com.server.bookstoremanager.common.dto.ResourceVersion(b.id, b.lastModified) " +
+            "from Book b where b.id = :id and b.user = :user")
+    Optional<ResourceVersion> findVersionByIdAndUser(@Param("id") Long bookId, @Param("user") User user);
+
+    @Query("select new com.server.bookstoremanager.common.dto.ResourceVersion(count(b), max(b.lastModified)) " +
+            "from Book b where b.user = :user")
+    ResourceVersion findVersionByUser(@Param("user") User user);
+
+    @Query("select b.id from Book b where b.user = :user")
+    List<Long> findIdsByUser(@Param("user") User user, Pageable pageable);
+
+    @Query("select b.id from Book b where b.user = :user and b.id > :id " +
+            "order by b.user asc, b.id asc")
+    List<Long> findIdsByUserAfterIdAsc(@Param("user") User user,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    @Query("select b.id from Book b where b.user = :user and b.id < :id " +
+            "order by b.user desc, b.id desc")
+    List<Long> findIdsByUserAfterIdDesc(@Param("user") User user,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    @Query("select b.id from Book b where b.user = :user " +
+            "and b.name >= :name and (b.name > :name or b.id > :id) " +
+            "order by b.user asc, b.name asc, b.id asc")
+    List<Long> findIdsByUserAfterNameAsc(@Param("user") User user,
+                                         @Param("name") String name,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    @Query("select b.id from Book b where b.user = :user " +
+            "and b.name <= :name and (b.name < :name or b.id < :id) " +
+            "order by b.user desc, b.name desc, b.id desc")
+    List<Long> findIdsByUserAfterNameDesc(@Param("user") User user,
+                                          @Param("name") String name,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    @EntityGraph(BOOK_DETAILS_GRAPH)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select b from Book b where b.user = :user order by b.user asc, b.id asc")
+    Stream<Book> streamAllByUser(@Param("user") User user);
+
+    @EntityGraph(BOOK_DETAILS_GRAPH)
+    List<Book> findAllByUserAndIdIn(User user, Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"author", "publisher", "user"})
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select b from Book b")
+    Stream<Book> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select b.id as id, b.user.id as userId, b.isbn13 as isbn13 from Book b")
+    Stream<BookIsbnEntry> streamAllIsbnEntries();
+
     void deleteByIdAndUser(Long id, User user);
 }
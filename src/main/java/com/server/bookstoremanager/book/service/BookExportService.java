@@ -0,0 +1,77 @@
+package com.server.bookstoremanager.book.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.enums.BookExportFormat;
+import com.server.bookstoremanager.book.mapper.BookMapper;
+import com.server.bookstoremanager.book.repository.BookRepository;
+import com.server.bookstoremanager.book.util.BookCsvUtils;
+import com.server.bookstoremanager.user.dto.AuthenticatedUser;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.service.UserService;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class BookExportService {
+
+    public static final int EXPORT_BATCH_SIZE = 500;
+
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final BookMapper bookMapper = BookMapper.INSTANCE;
+
+    private BookRepository bookRepository;
+
+    private UserService userService;
+
+    private ObjectMapper objectMapper;
+
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public void exportAllByUser(AuthenticatedUser authenticatedUser,
+                                BookExportFormat format,
+                                OutputStream outputStream) throws IOException {
+        User foundAuthenticatedUser = userService.verifyAndGetUserIfExists(authenticatedUser.getUsername());
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == BookExportFormat.CSV) {
+            writer.write(BookCsvUtils.HEADER + LINE_SEPARATOR);
+        }
+
+        try (Stream<Book> books = bookRepository.streamAllByUser(foundAuthenticatedUser)) {
+            Iterator<Book> booksIterator = books.iterator();
+            int exportedBooks = 0;
+            while (booksIterator.hasNext()) {
+                BookResponseDTO exportedBook = bookMapper.toDTO(booksIterator.next());
+                writer.write(toLine(exportedBook, format) + LINE_SEPARATOR);
+                if (++exportedBooks % EXPORT_BATCH_SIZE == 0) {
+                    writer.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private String toLine(BookResponseDTO book, BookExportFormat format) throws IOException {
+        if (format == BookExportFormat.CSV) {
+            return BookCsvUtils.toCsvLine(book);
+        }
+        return objectMapper.writeValueAsString(book);
+    }
+}
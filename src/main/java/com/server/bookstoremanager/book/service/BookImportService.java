@@ -0,0 +1,281 @@
+package com.server.bookstoremanager.book.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.author.exception.AuthorNotFoundException;
+import com.server.bookstoremanager.author.service.AuthorService;
+import com.server.bookstoremanager.book.dto.BookImportReportDTO;
+import com.server.bookstoremanager.book.dto.BookImportResultDTO;
+import com.server.bookstoremanager.book.dto.BookNameAndIsbn;
+import com.server.bookstoremanager.book.dto.BookRequestDTO;
+import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.enums.BookImportStatus;
+import com.server.bookstoremanager.book.exception.BookAlreadyExistsException;
+import com.server.bookstoremanager.book.exception.InvalidIsbnException;
+import com.server.bookstoremanager.book.mapper.BookMapper;
+import com.server.bookstoremanager.book.repository.BookRepository;
+import com.server.bookstoremanager.book.util.IsbnUtils;
+import com.server.bookstoremanager.publisher.entity.Publisher;
+import com.server.bookstoremanager.publisher.exception.PublisherNotFoundException;
+import com.server.bookstoremanager.publisher.service.PublisherService;
+import com.server.bookstoremanager.user.dto.AuthenticatedUser;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.server.bookstoremanager.common.util.ConstraintViolationUtils.isViolationOf;
+
+@Service
+public class BookImportService {
+
+    public static final int IMPORT_CHUNK_SIZE = 500;
+
+    private final BookMapper bookMapper = BookMapper.INSTANCE;
+
+    private BookRepository bookRepository;
+
+    private UserService userService;
+
+    private AuthorService authorService;
+
+    private PublisherService publisherService;
+
+    private ObjectMapper objectMapper;
+
+    private Validator validator;
+
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private BookSearchIndex bookSearchIndex;
+
+    private BookIsbnIndex bookIsbnIndex;
+
+    @Autowired
+    public BookImportService(BookRepository bookRepository,
+                             UserService userService,
+                             AuthorService authorService,
+                             PublisherService publisherService,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             BookSearchIndex bookSearchIndex,
+                             BookIsbnIndex bookIsbnIndex) {
+        this.bookRepository = bookRepository;
+        this.userService = userService;
+        this.authorService = authorService;
+        this.publisherService = publisherService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bookSearchIndex = bookSearchIndex;
+        this.bookIsbnIndex = bookIsbnIndex;
+    }
+
+    public BookImportReportDTO importAllByUser(AuthenticatedUser authenticatedUser, InputStream inputStream) throws IOException {
+        User foundAuthenticatedUser = userService.verifyAndGetUserIfExists(authenticatedUser.getUsername());
+        List<BookImportResultDTO> importResults = new ArrayList<>();
+        List<BookRequestDTO> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        // Rows that could not be read, by position in the chunk. They are kept as null in the chunk.
+        Map<Integer, String> unreadableRows = new HashMap<>();
+
+        try (MappingIterator<BookRequestDTO> booksToImport = objectMapper.readerFor(BookRequestDTO.class).readValues(inputStream)) {
+            boolean hasNextRow = true;
+            while (hasNextRow) {
+                try {
+                    hasNextRow = booksToImport.hasNextValue();
+                    if (hasNextRow) {
+                        chunk.add(booksToImport.nextValue());
+                    }
+                } catch (JsonProcessingException exception) {
+                    unreadableRows.put(chunk.size(), toErrorMessage(exception));
+                    chunk.add(null);
+                    // A mistyped value only spoils its row, but after malformed JSON nothing more can be read.
+                    hasNextRow = !isMalformed(exception);
+                }
+                if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                    importResults.addAll(importChunk(foundAuthenticatedUser, chunk, unreadableRows, importResults.size()));
+                    chunk.clear();
+                    unreadableRows.clear();
+                }
+            }
+        } catch (JsonProcessingException exception) {
+            // The first token is read when the iterator opens, so a body that does not start as JSON fails here.
+            unreadableRows.put(chunk.size(), toErrorMessage(exception));
+            chunk.add(null);
+        }
+        if (!chunk.isEmpty()) {
+            importResults.addAll(importChunk(foundAuthenticatedUser, chunk, unreadableRows, importResults.size()));
+        }
+
+        int createdBooks = (int) importResults.stream()
+                .filter(importResult -> importResult.getStatus() == BookImportStatus.CREATED)
+                .count();
+        return new BookImportReportDTO(createdBooks, importResults.size() - createdBooks, importResults);
+    }
+
+    private List<BookImportResultDTO> importChunk(User user, List<BookRequestDTO> chunk, Map<Integer, String> unreadableRows, int firstRow) {
+        try {
+            return transactionTemplate.execute(status -> {
+                List<BookImportResultDTO> chunkResults = doImportChunk(user, chunk, unreadableRows, firstRow);
+                bookRepository.flush();
+                entityManager.clear();
+                return chunkResults;
+            });
+        } catch (DataIntegrityViolationException exception) {
+            if (!isViolationOf(exception, Book.UNIQUE_NAME_AND_ISBN)) {
+                throw exception;
+            }
+            if (chunk.size() == 1) {
+                return Collections.singletonList(duplicated(user, chunk.get(0), firstRow));
+            }
+            // Some books were registered by someone else after this chunk was checked. Row by row shows which ones.
+            List<BookImportResultDTO> chunkResults = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                Map<Integer, String> unreadableRow = unreadableRows.containsKey(i)
+                        ? Collections.singletonMap(0, unreadableRows.get(i))
+                        : Collections.emptyMap();
+                chunkResults.addAll(importChunk(user, Collections.singletonList(chunk.get(i)), unreadableRow, firstRow + i));
+            }
+            return chunkResults;
+        }
+    }
+
+    private List<BookImportResultDTO> doImportChunk(User user, List<BookRequestDTO> chunk, Map<Integer, String> unreadableRows, int firstRow) {
+        BookImportResultDTO[] chunkResults = new BookImportResultDTO[chunk.size()];
+        List<Integer> validRows = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            List<String> errors = unreadableRows.containsKey(i)
+                    ? Collections.singletonList(unreadableRows.get(i))
+                    : validate(chunk.get(i));
+            if (errors.isEmpty()) {
+                validRows.add(i);
+            } else {
+                chunkResults[i] = new BookImportResultDTO(firstRow + i, BookImportStatus.INVALID, null, errors);
+            }
+        }
+
+        Set<String> registeredBooks = findRegisteredBooks(user, validRows.stream().map(chunk::get));
+        Map<Long, Author> foundAuthors = authorService.findAllByIds(validRows.stream()
+                .map(row -> chunk.get(row).getAuthorId())
+                .collect(Collectors.toSet()));
+        Map<Long, Publisher> foundPublishers = publisherService.findAllByIds(validRows.stream()
+                .map(row -> chunk.get(row).getPublisherId())
+                .collect(Collectors.toSet()));
+
+        Map<Integer, Book> booksToSave = new LinkedHashMap<>();
+        for (Integer row : validRows) {
+            BookRequestDTO bookRequestDTO = chunk.get(row);
+            Author foundAuthor = foundAuthors.get(bookRequestDTO.getAuthorId());
+            Publisher foundPublisher = foundPublishers.get(bookRequestDTO.getPublisherId());
+            String bookKey = bookKey(bookRequestDTO.getName(), IsbnUtils.toIsbn13(bookRequestDTO.getIsbn()));
+            if (registeredBooks.contains(bookKey)) {
+                chunkResults[row] = duplicated(user, bookRequestDTO, firstRow + row);
+            } else if (foundAuthor == null || foundPublisher == null) {
+                List<String> errors = new ArrayList<>();
+                if (foundAuthor == null) {
+                    errors.add(new AuthorNotFoundException(bookRequestDTO.getAuthorId()).getMessage());
+                }
+                if (foundPublisher == null) {
+                    errors.add(new PublisherNotFoundException(bookRequestDTO.getPublisherId()).getMessage());
+                }
+                chunkResults[row] = new BookImportResultDTO(firstRow + row, BookImportStatus.NOT_FOUND, null, errors);
+            } else {
+                registeredBooks.add(bookKey);
+                Book bookToSave = bookMapper.toModel(bookRequestDTO);
+                bookToSave.setId(null);
+                bookToSave.setUser(user);
+                bookToSave.setAuthor(foundAuthor);
+                bookToSave.setPublisher(foundPublisher);
+                booksToSave.put(row, bookToSave);
+            }
+        }
+
+        bookRepository.saveAll(booksToSave.values());
+        booksToSave.values().forEach(savedBook -> {
+            bookSearchIndex.index(savedBook);
+            bookIsbnIndex.index(savedBook);
+        });
+        booksToSave.forEach((row, savedBook) -> chunkResults[row] =
+                new BookImportResultDTO(firstRow + row, BookImportStatus.CREATED, savedBook.getId(), Collections.emptyList()));
+        return Arrays.asList(chunkResults);
+    }
+
+    private List<String> validate(BookRequestDTO bookRequestDTO) {
+        List<String> errors = validator.validate(bookRequestDTO)
+                .stream()
+                .map(this::toErrorMessage)
+                .sorted()
+                .collect(Collectors.toList());
+        if (errors.isEmpty()) {
+            // The ISBN is normalized later in the chunk, where a failure would abort every row.
+            try {
+                IsbnUtils.toIsbn13(bookRequestDTO.getIsbn());
+            } catch (InvalidIsbnException exception) {
+                errors = Collections.singletonList(exception.getMessage());
+            }
+        }
+        return errors;
+    }
+
+    private String toErrorMessage(ConstraintViolation<BookRequestDTO> violation) {
+        return "Field " + violation.getPropertyPath().toString().toUpperCase() + " " + violation.getMessage();
+    }
+
+    private boolean isMalformed(JsonProcessingException exception) {
+        return !(exception instanceof JsonMappingException) || exception.getCause() instanceof JsonProcessingException;
+    }
+
+    private String toErrorMessage(JsonProcessingException exception) {
+        if (isMalformed(exception)) {
+            return "Row is not valid JSON";
+        }
+        String field = ((JsonMappingException) exception).getPath()
+                .stream()
+                .map(JsonMappingException.Reference::getFieldName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining("."));
+        return field.isEmpty() ? "Row could not be read" : "Field " + field.toUpperCase() + " has an invalid value";
+    }
+
+    // Asks the database for every ISBN of the chunk: the in-memory index only knows this instance's committed books.
+    private Set<String> findRegisteredBooks(User user, Stream<BookRequestDTO> booksToImport) {
+        Set<Long> isbn13s = booksToImport.map(bookRequestDTO -> IsbnUtils.toIsbn13(bookRequestDTO.getIsbn()))
+                .collect(Collectors.toSet());
+        if (isbn13s.isEmpty()) {
+            return new HashSet<>();
+        }
+        return bookRepository.findAllByUserAndIsbn13In(user, isbn13s)
+                .stream()
+                .map(registeredBook -> bookKey(registeredBook.getName(), registeredBook.getIsbn13()))
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private BookImportResultDTO duplicated(User user, BookRequestDTO bookRequestDTO, int row) {
+        String error = new BookAlreadyExistsException(bookRequestDTO.getName(), bookRequestDTO.getIsbn(), user.getUsername()).getMessage();
+        return new BookImportResultDTO(row, BookImportStatus.DUPLICATED, null, Collections.singletonList(error));
+    }
+
+    private String bookKey(String name, long isbn13) {
+        return name + "\u0000" + isbn13;
+    }
+}
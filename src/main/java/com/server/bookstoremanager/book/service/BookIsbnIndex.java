@@ -0,0 +1,188 @@
+package com.server.bookstoremanager.book.service;
+
+import com.server.bookstoremanager.book.dto.BookIsbnEntry;
+import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.repository.BookRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import static com.server.bookstoremanager.common.util.TransactionUtils.runAfterCommit;
+
+@Component
+public class BookIsbnIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final double LOAD_FACTOR = 0.6;
+
+    private static final long FREE = 0L;
+
+    private static final long[] NO_BOOKS = new long[0];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Open addressing over parallel primitive arrays: one (user, isbn13, book) entry per slot,
+    // so a book costs three longs and lookups never box. Book ids start at 1, 0 marks a free slot.
+    private long[] userIds;
+
+    private long[] isbn13s;
+
+    private long[] bookIds;
+
+    private int mask;
+
+    private int size;
+
+    private BookRepository bookRepository;
+
+    @Autowired
+    public BookIsbnIndex(BookRepository bookRepository) {
+        this.bookRepository = bookRepository;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            allocate(INITIAL_CAPACITY);
+            try (Stream<BookIsbnEntry> entries = bookRepository.streamAllIsbnEntries()) {
+                entries.forEach(entry -> doPut(entry.getUserId(), entry.getIsbn13(), entry.getId()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(Book book) {
+        put(book.getUser().getId(), book.getIsbn13(), book.getId());
+    }
+
+    public void remove(Book book) {
+        remove(book.getUser().getId(), book.getIsbn13(), book.getId());
+    }
+
+    // Applied after commit, so readers never see uncommitted books and a rollback leaves the index untouched.
+    public void put(long userId, long isbn13, long bookId) {
+        runAfterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                doPut(userId, isbn13, bookId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remove(long userId, long isbn13, long bookId) {
+        runAfterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                doRemove(userId, isbn13, bookId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public long[] find(long userId, long isbn13) {
+        lock.readLock().lock();
+        try {
+            long[] foundBookIds = NO_BOOKS;
+            for (int slot = slot(userId, isbn13); bookIds[slot] != FREE; slot = (slot + 1) & mask) {
+                if (userIds[slot] == userId && isbn13s[slot] == isbn13) {
+                    foundBookIds = Arrays.copyOf(foundBookIds, foundBookIds.length + 1);
+                    foundBookIds[foundBookIds.length - 1] = bookIds[slot];
+                }
+            }
+            return foundBookIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void doPut(long userId, long isbn13, long bookId) {
+        if (size + 1 > bookIds.length * LOAD_FACTOR) {
+            resize(bookIds.length * 2);
+        }
+        int slot = slot(userId, isbn13);
+        while (bookIds[slot] != FREE) {
+            if (bookIds[slot] == bookId && userIds[slot] == userId && isbn13s[slot] == isbn13) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        userIds[slot] = userId;
+        isbn13s[slot] = isbn13;
+        bookIds[slot] = bookId;
+        size++;
+    }
+
+    private void doRemove(long userId, long isbn13, long bookId) {
+        int gap = slot(userId, isbn13);
+        while (bookIds[gap] != bookId || userIds[gap] != userId || isbn13s[gap] != isbn13) {
+            if (bookIds[gap] == FREE) {
+                return;
+            }
+            gap = (gap + 1) & mask;
+        }
+
+        for (int next = (gap + 1) & mask; bookIds[next] != FREE; next = (next + 1) & mask) {
+            int home = slot(userIds[next], isbn13s[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                userIds[gap] = userIds[next];
+                isbn13s[gap] = isbn13s[next];
+                bookIds[gap] = bookIds[next];
+                gap = next;
+            }
+        }
+        bookIds[gap] = FREE;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        long[] oldUserIds = userIds;
+        long[] oldIsbn13s = isbn13s;
+        long[] oldBookIds = bookIds;
+        allocate(capacity);
+        for (int slot = 0; slot < oldBookIds.length; slot++) {
+            if (oldBookIds[slot] != FREE) {
+                doPut(oldUserIds[slot], oldIsbn13s[slot], oldBookIds[slot]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        userIds = new long[capacity];
+        isbn13s = new long[capacity];
+        bookIds = new long[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    private int slot(long userId, long isbn13) {
+        long hash = isbn13 * 0x9E3779B97F4A7C15L + userId;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+}
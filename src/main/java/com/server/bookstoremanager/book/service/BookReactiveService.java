@@ -0,0 +1,35 @@
+package com.server.bookstoremanager.book.service;
+
+import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.exception.BookNotFoundException;
+import com.server.bookstoremanager.book.repository.BookReactiveRepository;
+import com.server.bookstoremanager.book.util.IsbnUtils;
+import com.server.bookstoremanager.user.dto.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class BookReactiveService {
+
+    private BookReactiveRepository bookReactiveRepository;
+
+    @Autowired
+    public BookReactiveService(BookReactiveRepository bookReactiveRepository) {
+        this.bookReactiveRepository = bookReactiveRepository;
+    }
+
+    public Mono<BookResponseDTO> findByIdAndUser(AuthenticatedUser authenticatedUser, Long bookId) {
+        return bookReactiveRepository.findByIdAndUsername(bookId, authenticatedUser.getUsername())
+                .switchIfEmpty(Mono.error(() -> new BookNotFoundException(bookId)));
+    }
+
+    public Flux<BookResponseDTO> findAllByUser(AuthenticatedUser authenticatedUser, Long afterId) {
+        return bookReactiveRepository.findAllByUsernameAfterId(authenticatedUser.getUsername(), afterId == null ? 0L : afterId);
+    }
+
+    public Flux<BookResponseDTO> findAllByUserAndIsbn(AuthenticatedUser authenticatedUser, String isbn) {
+        return bookReactiveRepository.findAllByUsernameAndIsbn13(authenticatedUser.getUsername(), IsbnUtils.toIsbn13(isbn));
+    }
+}
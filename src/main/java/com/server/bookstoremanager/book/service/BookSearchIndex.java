@@ -0,0 +1,198 @@
+package com.server.bookstoremanager.book.service;
+
+import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.repository.BookRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.server.bookstoremanager.common.util.TextSearchUtils.tokenize;
+import static com.server.bookstoremanager.common.util.TransactionUtils.runAfterCommit;
+
+@Component
+public class BookSearchIndex {
+
+    public static final int NAME_WEIGHT = 3;
+
+    public static final int AUTHOR_WEIGHT = 2;
+
+    public static final int PUBLISHER_WEIGHT = 1;
+
+    private static final int EXACT_MATCH_MULTIPLIER = 2;
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final Map<Long, NavigableMap<String, Map<Long, Integer>>> postingsByUser = new HashMap<>();
+
+    private final Map<Long, IndexedBook> indexedBooks = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private BookRepository bookRepository;
+
+    private EntityManager entityManager;
+
+    @Autowired
+    public BookSearchIndex(BookRepository bookRepository, EntityManager entityManager) {
+        this.bookRepository = bookRepository;
+        this.entityManager = entityManager;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postingsByUser.clear();
+            indexedBooks.clear();
+            int indexedRows = 0;
+            try (Stream<Book> books = bookRepository.streamAll()) {
+                for (Book book : (Iterable<Book>) books::iterator) {
+                    doIndex(book.getId(), book.getUser().getId(), termWeights(book));
+                    if (++indexedRows % REBUILD_BATCH_SIZE == 0) {
+                        entityManager.clear();
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // The terms are read from the book now, but the postings only change after commit, so a rolled-back
+    // create leaves no postings behind and a rolled-back delete keeps its own.
+    public void index(Book book) {
+        Long bookId = book.getId();
+        Long userId = book.getUser().getId();
+        Map<String, Integer> termWeights = termWeights(book);
+        runAfterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                doIndex(bookId, userId, termWeights);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remove(Long bookId) {
+        runAfterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                doRemove(bookId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public List<Long> search(Long userId, String query, int limit) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Integer> scores = null;
+        lock.readLock().lock();
+        try {
+            NavigableMap<String, Map<Long, Integer>> postings = postingsByUser.get(userId);
+            if (postings == null) {
+                return Collections.emptyList();
+            }
+            for (String queryToken : queryTokens) {
+                Map<Long, Integer> tokenScores = scoreToken(postings, queryToken);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((bookId, score) -> score + tokenScores.get(bookId));
+                }
+                if (scores.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return scores.entrySet()
+                .stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Integer> scoreToken(NavigableMap<String, Map<Long, Integer>> postings, String queryToken) {
+        Map<Long, Integer> tokenScores = new HashMap<>();
+        postings.subMap(queryToken, true, queryToken + Character.MAX_VALUE, false)
+                .forEach((term, termPostings) -> {
+                    int multiplier = term.equals(queryToken) ? EXACT_MATCH_MULTIPLIER : 1;
+                    termPostings.forEach((bookId, weight) -> tokenScores.merge(bookId, weight * multiplier, Math::max));
+                });
+        return tokenScores;
+    }
+
+    private Map<String, Integer> termWeights(Book book) {
+        Map<String, Integer> termWeights = new HashMap<>();
+        addTerms(termWeights, book.getName(), NAME_WEIGHT);
+        if (book.getAuthor() != null) {
+            addTerms(termWeights, book.getAuthor().getName(), AUTHOR_WEIGHT);
+        }
+        if (book.getPublisher() != null) {
+            addTerms(termWeights, book.getPublisher().getName(), PUBLISHER_WEIGHT);
+        }
+        return termWeights;
+    }
+
+    private void doIndex(Long bookId, Long userId, Map<String, Integer> termWeights) {
+        doRemove(bookId);
+
+        NavigableMap<String, Map<Long, Integer>> postings = postingsByUser.computeIfAbsent(userId, id -> new TreeMap<>());
+        termWeights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(bookId, weight));
+        indexedBooks.put(bookId, new IndexedBook(userId, termWeights.keySet()));
+    }
+
+    private void addTerms(Map<String, Integer> termWeights, String text, int weight) {
+        tokenize(text).forEach(term -> termWeights.merge(term, weight, Integer::sum));
+    }
+
+    private void doRemove(Long bookId) {
+        IndexedBook indexedBook = indexedBooks.remove(bookId);
+        if (indexedBook == null) {
+            return;
+        }
+        NavigableMap<String, Map<Long, Integer>> postings = postingsByUser.get(indexedBook.userId);
+        for (String term : indexedBook.terms) {
+            Map<Long, Integer> termPostings = postings.get(term);
+            termPostings.remove(bookId);
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        if (postings.isEmpty()) {
+            postingsByUser.remove(indexedBook.userId);
+        }
+    }
+
+    private static class IndexedBook {
+
+        private final Long userId;
+
+        private final Set<String> terms;
+
+        private IndexedBook(Long userId, Set<String> terms) {
+            this.userId = userId;
+            this.terms = terms;
+        }
+    }
+}
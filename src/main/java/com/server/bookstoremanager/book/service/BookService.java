@@ -2,13 +2,20 @@ package com.server.bookstoremanager.book.service;
 
 import com.server.bookstoremanager.author.entity.Author;
 import com.server.bookstoremanager.author.service.AuthorService;
+import com.server.bookstoremanager.book.dto.BookCursor;
+import com.server.bookstoremanager.book.dto.BookPageDTO;
 import com.server.bookstoremanager.book.dto.BookRequestDTO;
 import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.dto.NormalizedBookPageDTO;
 import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.enums.BookSort;
 import com.server.bookstoremanager.book.exception.BookAlreadyExistsException;
 import com.server.bookstoremanager.book.exception.BookNotFoundException;
 import com.server.bookstoremanager.book.mapper.BookMapper;
 import com.server.bookstoremanager.book.repository.BookRepository;
+import com.server.bookstoremanager.book.util.BookCursorUtils;
+import com.server.bookstoremanager.book.util.IsbnUtils;
+import com.server.bookstoremanager.common.dto.ResourceVersion;
 import com.server.bookstoremanager.publisher.entity.Publisher;
 import com.server.bookstoremanager.publisher.service.PublisherService;
 import com.server.bookstoremanager.user.dto.AuthenticatedUser;
@@ -16,16 +23,31 @@ import com.server.bookstoremanager.user.entity.User;
 import com.server.bookstoremanager.user.service.UserService;
 import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.transaction.Transactional;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.server.bookstoremanager.common.util.ConstraintViolationUtils.isViolationOf;
 
 @Service
 @AllArgsConstructor(onConstructor = @__(@Autowired))
 public class BookService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final BookMapper bookMapper = BookMapper.INSTANCE;
 
     private BookRepository bookRepository;
@@ -36,9 +58,13 @@ public class BookService {
 
     private PublisherService publisherService;
 
+    private BookSearchIndex bookSearchIndex;
+
+    private BookIsbnIndex bookIsbnIndex;
+
+    @Transactional
     public BookResponseDTO create(AuthenticatedUser authenticatedUser, BookRequestDTO bookRequestDTO) {
         User foundAuthenticatedUser = userService.verifyAndGetUserIfExists(authenticatedUser.getUsername());
-        verifyIfIsAlreadyRegistered(bookRequestDTO, foundAuthenticatedUser);
         Author foundAuthor = authorService.verifyAndGetIfExists(bookRequestDTO.getAuthorId());
         Publisher foundPublisher = publisherService.verifyAndGetIfExists(bookRequestDTO.getPublisherId());
 
@@ -46,35 +72,129 @@ public class BookService {
         bookToSave.setUser(foundAuthenticatedUser);
         bookToSave.setAuthor(foundAuthor);
         bookToSave.setPublisher(foundPublisher);
-        Book savedBook = bookRepository.save(bookToSave);
+        Book savedBook = saveAndVerifyIfIsAlreadyRegistered(bookToSave, foundAuthenticatedUser);
+        bookSearchIndex.index(savedBook);
+        bookIsbnIndex.index(savedBook);
         return bookMapper.toDTO(savedBook);
     }
 
+    @Transactional(readOnly = true)
     public BookResponseDTO findByIdAndUser(AuthenticatedUser authenticatedUser, Long bookId) {
         User foundAuthenticatedUser = userService.verifyAndGetUserIfExists(authenticatedUser.getUsername());
-        return bookRepository.findByIdAndUser(bookId, foundAuthenticatedUser)
-                .map(bookMapper::toDTO)
+        return bookRepository.findResponseByIdAndUser(bookId, foundAuthenticatedUser)
+                .orElseThrow(() -> new BookNotFoundException(bookId));
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion findVersionByIdAndUser(AuthenticatedUser authenticatedUser, Long bookId) {
+        User foundAuthenticatedUser = userService.verifyAndGetUserIfExists(authenticatedUser.getUsername());
+        return bookRepository.findVersionByIdAndUser(bookId, foundAuthenticatedUser)
                 .orElseThrow(() -> new BookNotFoundException(bookId));
     }
 
-    public List<BookResponseDTO> findAllByUser(AuthenticatedUser authenticatedUser) {
+    @Transactional(readOnly = true)
+    public ResourceVersion findVersionByUser(AuthenticatedUser authenticatedUser) {
         User foundAuthenticatedUser = userService.verifyAndGetUserIfExists(authenticatedUser.getUsername());
-        return bookRepository.findAllByUser(foundAuthenticatedUser)
+        return bookRepository.findVersionByUser(foundAuthenticatedUser);
+    }
+
+    @Transactional(readOnly = true)
+    public BookPageDTO findAllByUser(AuthenticatedUser authenticatedUser, String cursor, int size, BookSort sort) {
+        Slice<BookResponseDTO> foundPage = findPageByUser(authenticatedUser, cursor, size, sort);
+        return new BookPageDTO(foundPage.getContent(), nextCursor(foundPage));
+    }
+
+    @Transactional(readOnly = true)
+    public NormalizedBookPageDTO findNormalizedByUser(AuthenticatedUser authenticatedUser, String cursor, int size, BookSort sort) {
+        Slice<BookResponseDTO> foundPage = findPageByUser(authenticatedUser, cursor, size, sort);
+        return bookMapper.toNormalizedPageDTO(foundPage.getContent(), nextCursor(foundPage));
+    }
+
+    @Transactional(readOnly = true)
+    public List<BookResponseDTO> findAllByUserAndIsbn(AuthenticatedUser authenticatedUser, String isbn) {
+        User foundAuthenticatedUser = userService.verifyAndGetUserIfExists(authenticatedUser.getUsername());
+        long[] foundBookIds = bookIsbnIndex.find(foundAuthenticatedUser.getId(), IsbnUtils.toIsbn13(isbn));
+        if (foundBookIds.length == 0) {
+            return Collections.emptyList();
+        }
+
+        return bookRepository.findAllResponsesByUserAndIdIn(foundAuthenticatedUser, LongStream.of(foundBookIds).boxed().collect(Collectors.toList()))
                 .stream()
-                .map(bookMapper::toDTO)
+                .sorted(Comparator.comparing(BookResponseDTO::getId))
                 .collect(Collectors.toList());
     }
 
-    private void verifyIfIsAlreadyRegistered(BookRequestDTO bookRequestDTO, User foundAuthenticatedUser) {
-        bookRepository.findByNameAndIsbnAndUser(bookRequestDTO.getName(), bookRequestDTO.getIsbn(), foundAuthenticatedUser)
-                .ifPresent(duplicatedBook -> {
-                    throw new BookAlreadyExistsException(bookRequestDTO.getName(), bookRequestDTO.getIsbn(), foundAuthenticatedUser.getUsername());
-                });
+    @Transactional(readOnly = true)
+    public List<BookResponseDTO> searchByUser(AuthenticatedUser authenticatedUser, String query, int size) {
+        User foundAuthenticatedUser = userService.verifyAndGetUserIfExists(authenticatedUser.getUsername());
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Long> rankedBookIds = bookSearchIndex.search(foundAuthenticatedUser.getId(), query, limit);
+        return findAllByUserInOrder(foundAuthenticatedUser, rankedBookIds);
+    }
+
+    private Slice<BookResponseDTO> findPageByUser(AuthenticatedUser authenticatedUser, String cursor, int size, BookSort sort) {
+        User foundAuthenticatedUser = userService.verifyAndGetUserIfExists(authenticatedUser.getUsername());
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Long> foundBookIds = findPageIdsByUser(foundAuthenticatedUser, cursor, pageSize + 1, sort);
+
+        boolean hasNextPage = foundBookIds.size() > pageSize;
+        List<BookResponseDTO> pageBooks = findAllByUserInOrder(foundAuthenticatedUser, hasNextPage ? foundBookIds.subList(0, pageSize) : foundBookIds);
+        return new SliceImpl<>(pageBooks, PageRequest.of(0, pageSize), hasNextPage);
+    }
+
+    private String nextCursor(Slice<BookResponseDTO> page) {
+        return page.hasNext() && page.hasContent() ? BookCursorUtils.encode(page.getContent().get(page.getNumberOfElements() - 1)) : null;
+    }
+
+    private List<Long> findPageIdsByUser(User user, String cursor, int limit, BookSort sort) {
+        if (cursor == null || cursor.isEmpty()) {
+            return bookRepository.findIdsByUser(user, PageRequest.of(0, limit, sort.getSort()));
+        }
+        BookCursor bookCursor = BookCursorUtils.decode(cursor);
+        Pageable pageable = PageRequest.of(0, limit);
+        switch (sort) {
+            case ID_DESC:
+                return bookRepository.findIdsByUserAfterIdDesc(user, bookCursor.getId(), pageable);
+            case NAME_ASC:
+                return bookRepository.findIdsByUserAfterNameAsc(user, bookCursor.getName(), bookCursor.getId(), pageable);
+            case NAME_DESC:
+                return bookRepository.findIdsByUserAfterNameDesc(user, bookCursor.getName(), bookCursor.getId(), pageable);
+            default:
+                return bookRepository.findIdsByUserAfterIdAsc(user, bookCursor.getId(), pageable);
+        }
     }
 
+    private List<BookResponseDTO> findAllByUserInOrder(User user, List<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, BookResponseDTO> foundBooks = bookRepository.findAllResponsesByUserAndIdIn(user, bookIds)
+                .stream()
+                .collect(Collectors.toMap(BookResponseDTO::getId, Function.identity()));
+        return bookIds.stream()
+                .map(foundBooks::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private Book saveAndVerifyIfIsAlreadyRegistered(Book bookToSave, User foundAuthenticatedUser) {
+        try {
+            return bookRepository.saveAndFlush(bookToSave);
+        } catch (DataIntegrityViolationException exception) {
+            if (isViolationOf(exception, Book.UNIQUE_NAME_AND_ISBN)) {
+                throw new BookAlreadyExistsException(bookToSave.getName(), bookToSave.getIsbn(), foundAuthenticatedUser.getUsername());
+            }
+            throw exception;
+        }
+    }
+
+    @Transactional
     public BookResponseDTO updateByUser(AuthenticatedUser authenticatedUser, Long bookId, BookRequestDTO bookRequestDTO) {
         User foundAuthenticatedUser = userService.verifyAndGetUserIfExists(authenticatedUser.getUsername());
         Book foundBook = verifyAndGetIfExists(bookId, foundAuthenticatedUser);
+        // Read before saving: the merge copies the new state onto the managed foundBook.
+        long previousIsbn13 = foundBook.getIsbn13();
 
         Author foundAuthor = authorService.verifyAndGetIfExists(bookRequestDTO.getAuthorId());
         Publisher foundPublisher = publisherService.verifyAndGetIfExists(bookRequestDTO.getPublisherId());
@@ -85,7 +205,10 @@ public class BookService {
         bookToUpdate.setAuthor(foundAuthor);
         bookToUpdate.setPublisher(foundPublisher);
         bookToUpdate.setCreatedDate(foundBook.getCreatedDate());
-        Book savedBook = bookRepository.save(bookToUpdate);
+        Book savedBook = saveAndVerifyIfIsAlreadyRegistered(bookToUpdate, foundAuthenticatedUser);
+        bookSearchIndex.index(savedBook);
+        bookIsbnIndex.remove(foundAuthenticatedUser.getId(), previousIsbn13, savedBook.getId());
+        bookIsbnIndex.index(savedBook);
         return bookMapper.toDTO(savedBook);
     }
 
@@ -94,6 +217,8 @@ public class BookService {
         User foundAuthenticatedUser = userService.verifyAndGetUserIfExists(authenticatedUser.getUsername());
         Book foundBookToDelete = verifyAndGetIfExists(bookId, foundAuthenticatedUser);
         bookRepository.deleteByIdAndUser(foundBookToDelete.getId(), foundAuthenticatedUser);
+        bookSearchIndex.remove(foundBookToDelete.getId());
+        bookIsbnIndex.remove(foundBookToDelete);
     }
 
     private Book verifyAndGetIfExists(Long bookId, User foundAuthenticatedUser) {
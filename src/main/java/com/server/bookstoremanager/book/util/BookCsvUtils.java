@@ -0,0 +1,40 @@
+package com.server.bookstoremanager.book.util;
+
+import com.server.bookstoremanager.author.dto.AuthorDTO;
+import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.publisher.dto.PublisherDTO;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+public class BookCsvUtils {
+
+    public static final String HEADER = "id,name,isbn,pages,chapters,authorId,authorName,publisherId,publisherName";
+
+    private static final String SEPARATOR = ",";
+    private static final String QUOTE = "\"";
+
+    public static String toCsvLine(BookResponseDTO book) {
+        AuthorDTO author = book.getAuthor();
+        PublisherDTO publisher = book.getPublisher();
+        return new StringJoiner(SEPARATOR)
+                .add(escape(book.getId()))
+                .add(escape(book.getName()))
+                .add(escape(book.getIsbn()))
+                .add(escape(book.getPages()))
+                .add(escape(book.getChapters()))
+                .add(escape(author == null ? null : author.getId()))
+                .add(escape(author == null ? null : author.getName()))
+                .add(escape(publisher == null ? null : publisher.getId()))
+                .add(escape(publisher == null ? null : publisher.getName()))
+                .toString();
+    }
+
+    private static String escape(Object value) {
+        String text = Objects.toString(value, "");
+        if (text.contains(SEPARATOR) || text.contains(QUOTE) || text.contains("\n") || text.contains("\r")) {
+            return QUOTE + text.replace(QUOTE, QUOTE + QUOTE) + QUOTE;
+        }
+        return text;
+    }
+}
@@ -0,0 +1,30 @@
+package com.server.bookstoremanager.book.util;
+
+import com.server.bookstoremanager.book.dto.BookCursor;
+import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.exception.InvalidBookCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class BookCursorUtils {
+
+    private static final String SEPARATOR = ":";
+
+    public static String encode(BookResponseDTO lastBook) {
+        String rawCursor = lastBook.getId() + SEPARATOR + lastBook.getName();
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(rawCursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BookCursor decode(String cursor) {
+        try {
+            String rawCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] cursorParts = rawCursor.split(SEPARATOR, 2);
+            return new BookCursor(Long.valueOf(cursorParts[0]), cursorParts[1]);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException exception) {
+            throw new InvalidBookCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.server.bookstoremanager.book.util;
+
+import com.server.bookstoremanager.book.exception.InvalidIsbnException;
+
+import java.util.regex.Pattern;
+
+public class IsbnUtils {
+
+    // Drops the same characters @ISBN ignores, so every value it accepts can be normalized here.
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\dXx]");
+
+    private static final Pattern ISBN_10 = Pattern.compile("\\d{9}[\\dXx]");
+
+    private static final Pattern ISBN_13 = Pattern.compile("\\d{13}");
+
+    private static final String ISBN_10_PREFIX = "978";
+
+    private IsbnUtils() {
+    }
+
+    public static long toIsbn13(String isbn) {
+        String digits = isbn == null ? "" : SEPARATORS.matcher(isbn).replaceAll("");
+        if (ISBN_13.matcher(digits).matches() && isbn13CheckDigit(digits) == digits.charAt(12) - '0') {
+            return Long.parseLong(digits);
+        }
+        if (ISBN_10.matcher(digits).matches() && isValidIsbn10(digits)) {
+            String isbn13 = ISBN_10_PREFIX + digits.substring(0, 9);
+            return Long.parseLong(isbn13) * 10 + isbn13CheckDigit(isbn13);
+        }
+        throw new InvalidIsbnException(isbn);
+    }
+
+    private static int isbn13CheckDigit(String digits) {
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            sum += (digits.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    private static boolean isValidIsbn10(String digits) {
+        int sum = 0;
+        for (int i = 0; i < 10; i++) {
+            char digit = digits.charAt(i);
+            sum += (digit == 'X' || digit == 'x' ? 10 : digit - '0') * (10 - i);
+        }
+        return sum % 11 == 0;
+    }
+}
@@ -0,0 +1,42 @@
+package com.server.bookstoremanager.common.dto;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class ResourceVersion {
+
+    private static final long UNKNOWN = -1L;
+
+    private final long key;
+
+    private final long lastModified;
+
+    // Used by the JPQL constructor expressions, the key is either an entity id or a row count.
+    public ResourceVersion(Long key, LocalDateTime lastModified) {
+        this.key = key == null ? 0L : key;
+        this.lastModified = lastModified == null
+                ? UNKNOWN
+                : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // Weak because the same version is sent with and without gzip, and the servlet container does not
+    // compress responses carrying a strong ETag.
+    public String getETag() {
+        return "W/\"" + version() + "\"";
+    }
+
+    public String getETag(String representation) {
+        return representation == null ? getETag() : "W/\"" + version() + "-" + representation + "\"";
+    }
+
+    private String version() {
+        return Long.toHexString(key) + "-" + Long.toHexString(Math.max(lastModified, 0L));
+    }
+}
@@ -1,5 +1,11 @@
 package com.server.bookstoremanager.common.exception;
 
+import com.server.bookstoremanager.book.exception.InvalidBookCursorException;
+import com.server.bookstoremanager.book.exception.InvalidIsbnException;
+import com.server.bookstoremanager.common.sql.StatementBudgetExceededException;
+import com.server.bookstoremanager.user.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,8 +24,18 @@ import java.util.*;
 @ControllerAdvice
 public class BookStoreExceptionHandler extends ResponseEntityExceptionHandler {
 
+    public static final String EXCEPTIONS_COUNTER = "bookstore.exceptions";
+
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    public BookStoreExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<Object> handleEntityNotFoundException(EntityNotFoundException exception) {
+        count(exception);
         return buildResponseEntity(
                 HttpStatus.NOT_FOUND,
                 exception.getMessage(),
@@ -28,12 +44,52 @@ public class BookStoreExceptionHandler extends ResponseEntityExceptionHandler {
 
     @ExceptionHandler(EntityExistsException.class)
     public ResponseEntity<Object> handleEntityExistsException(EntityExistsException exception) {
+        count(exception);
+        return buildResponseEntity(
+                HttpStatus.BAD_REQUEST,
+                exception.getMessage(),
+                Collections.singletonList(exception.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidBookCursorException.class)
+    public ResponseEntity<Object> handleInvalidBookCursorException(InvalidBookCursorException exception) {
+        count(exception);
+        return buildResponseEntity(
+                HttpStatus.BAD_REQUEST,
+                exception.getMessage(),
+                Collections.singletonList(exception.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidIsbnException.class)
+    public ResponseEntity<Object> handleInvalidIsbnException(InvalidIsbnException exception) {
+        count(exception);
         return buildResponseEntity(
                 HttpStatus.BAD_REQUEST,
                 exception.getMessage(),
                 Collections.singletonList(exception.getMessage()));
     }
 
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<Object> handlePasswordHashingUnavailableException(PasswordHashingUnavailableException exception) {
+        count(exception);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfter().getSeconds()));
+        return buildResponseEntity(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                headers,
+                exception.getMessage(),
+                Collections.singletonList(exception.getMessage()));
+    }
+
+    @ExceptionHandler(StatementBudgetExceededException.class)
+    public ResponseEntity<Object> handleStatementBudgetExceededException(StatementBudgetExceededException exception) {
+        count(exception);
+        return buildResponseEntity(
+                HttpStatus.INTERNAL_SERVER_ERROR,
+                exception.getMessage(),
+                Collections.singletonList(exception.getMessage()));
+    }
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(
             MethodArgumentNotValidException exception,
@@ -41,6 +97,7 @@ public class BookStoreExceptionHandler extends ResponseEntityExceptionHandler {
             HttpStatus status,
             WebRequest request) {
 
+        count(exception);
         List<String> errors = new ArrayList<>();
         exception.getBindingResult().getFieldErrors()
                 .forEach(fieldError -> errors.add("Field " + fieldError.getField().toUpperCase() + " " + fieldError.getDefaultMessage()));
@@ -52,13 +109,22 @@ public class BookStoreExceptionHandler extends ResponseEntityExceptionHandler {
 
     @Override
     protected ResponseEntity<Object> handleHttpMessageNotReadable(HttpMessageNotReadableException exception, HttpHeaders headers, HttpStatus status, WebRequest request) {
+        count(exception);
         return buildResponseEntity(
                 HttpStatus.BAD_REQUEST,
                 "Malformed JSON body and/or field error",
                 Collections.singletonList(exception.getLocalizedMessage()));
     }
 
+    private void count(Exception exception) {
+        meterRegistry.counter(EXCEPTIONS_COUNTER, "exception", exception.getClass().getSimpleName()).increment();
+    }
+
     private ResponseEntity<Object> buildResponseEntity(HttpStatus httpStatus, String message, List<String> errors) {
+        return buildResponseEntity(httpStatus, HttpHeaders.EMPTY, message, errors);
+    }
+
+    private ResponseEntity<Object> buildResponseEntity(HttpStatus httpStatus, HttpHeaders headers, String message, List<String> errors) {
         ApiError apiError = ApiError.builder()
                 .code(httpStatus.value())
                 .status(httpStatus.getReasonPhrase())
@@ -66,6 +132,6 @@ public class BookStoreExceptionHandler extends ResponseEntityExceptionHandler {
                 .errors(errors)
                 .timestamp(LocalDateTime.now())
                 .build();
-        return ResponseEntity.status(httpStatus).body(apiError);
+        return ResponseEntity.status(httpStatus).headers(headers).body(apiError);
     }
 }
@@ -0,0 +1,110 @@
+package com.server.bookstoremanager.common.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+import static com.server.bookstoremanager.common.util.TextSearchUtils.normalize;
+import static com.server.bookstoremanager.common.util.TextSearchUtils.tokenize;
+import static com.server.bookstoremanager.common.util.TransactionUtils.runAfterCommit;
+
+public class SuggestionIndex<T> {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final NavigableMap<String, T> nameKeys = new ConcurrentSkipListMap<>();
+
+    private final NavigableMap<String, T> wordKeys = new ConcurrentSkipListMap<>();
+
+    private final Map<Long, T> entries = new ConcurrentHashMap<>();
+
+    private final Function<T, Long> idExtractor;
+
+    private final Function<T, String> nameExtractor;
+
+    public SuggestionIndex(Function<T, Long> idExtractor, Function<T, String> nameExtractor) {
+        this.idExtractor = idExtractor;
+        this.nameExtractor = nameExtractor;
+    }
+
+    public synchronized void replaceAll(Collection<T> values) {
+        nameKeys.clear();
+        wordKeys.clear();
+        entries.clear();
+        values.forEach(this::doPut);
+    }
+
+    // Applied after commit, like the book indexes, so a rolled back create or delete never shows up in suggestions.
+    public void put(T value) {
+        runAfterCommit(() -> {
+            synchronized (this) {
+                doRemove(idExtractor.apply(value));
+                doPut(value);
+            }
+        });
+    }
+
+    public void remove(Long id) {
+        runAfterCommit(() -> {
+            synchronized (this) {
+                doRemove(id);
+            }
+        });
+    }
+
+    public List<T> suggest(String prefix, int limit) {
+        String normalizedPrefix = normalize(prefix);
+        if (normalizedPrefix.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, T> suggestions = new LinkedHashMap<>();
+        collect(nameKeys, normalizedPrefix, limit, suggestions);
+        collect(wordKeys, normalizedPrefix, limit, suggestions);
+        return new ArrayList<>(suggestions.values());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void collect(NavigableMap<String, T> keys, String prefix, int limit, Map<Long, T> suggestions) {
+        for (T value : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            if (suggestions.size() == limit) {
+                return;
+            }
+            suggestions.putIfAbsent(idExtractor.apply(value), value);
+        }
+    }
+
+    private void doPut(T value) {
+        Long id = idExtractor.apply(value);
+        String name = nameExtractor.apply(value);
+        entries.put(id, value);
+        nameKeys.put(key(normalize(name), id), value);
+        tokenize(name).stream()
+                .skip(1)
+                .forEach(word -> wordKeys.put(key(word, id), value));
+    }
+
+    private void doRemove(Long id) {
+        T removedValue = entries.remove(id);
+        if (removedValue == null) {
+            return;
+        }
+        String name = nameExtractor.apply(removedValue);
+        nameKeys.remove(key(normalize(name), id));
+        tokenize(name).forEach(word -> wordKeys.remove(key(word, id)));
+    }
+
+    private String key(String text, Long id) {
+        return text + KEY_SEPARATOR + id;
+    }
+}
@@ -0,0 +1,32 @@
+package com.server.bookstoremanager.common.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final ConnectionLimiter connectionLimiter;
+
+    public ConnectionLimitingDataSource(DataSource targetDataSource, int maxConnections, Duration acquireTimeout) {
+        super(targetDataSource);
+        this.connectionLimiter = new ConnectionLimiter(maxConnections, acquireTimeout);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connectionLimiter.getConnection(super::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connectionLimiter.getConnection(() -> super.getConnection(username, password));
+    }
+
+    public int getAvailableConnections() {
+        return connectionLimiter.getAvailableConnections();
+    }
+}
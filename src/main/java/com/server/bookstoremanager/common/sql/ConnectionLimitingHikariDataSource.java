@@ -0,0 +1,28 @@
+package com.server.bookstoremanager.common.sql;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+// Still a HikariDataSource, so Spring Boot keeps finding the pool for its metrics and health checks.
+public class ConnectionLimitingHikariDataSource extends HikariDataSource {
+
+    private final ConnectionLimiter connectionLimiter;
+
+    // Takes over the configuration of a pool that has not been started yet, the copy starts on first use.
+    public ConnectionLimitingHikariDataSource(HikariDataSource dataSource) {
+        dataSource.copyStateTo(this);
+        this.connectionLimiter = new ConnectionLimiter(getMaximumPoolSize(), Duration.ofMillis(getConnectionTimeout()));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connectionLimiter.getConnection(super::getConnection);
+    }
+
+    public int getAvailableConnections() {
+        return connectionLimiter.getAvailableConnections();
+    }
+}
@@ -0,0 +1,96 @@
+package com.server.bookstoremanager.common.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String CREATE_HEARTBEAT_TABLE = "create table if not exists replica_heartbeat (id int primary key, beat timestamp not null)";
+
+    private static final String READ_HEARTBEAT = "select beat from replica_heartbeat where id = 1";
+
+    private static final String WRITE_HEARTBEAT = "merge into replica_heartbeat key (id) values (1, ?)";
+
+    private final JdbcTemplate primary;
+
+    private final JdbcTemplate replica;
+
+    private final Duration maxLag;
+
+    private final Duration checkInterval;
+
+    private ScheduledExecutorService scheduler;
+
+    // Null until the replica has shown a heartbeat written on the primary.
+    private volatile Duration lag;
+
+    public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource, Duration maxLag, Duration checkInterval) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+    }
+
+    public void start() {
+        primary.execute(CREATE_HEARTBEAT_TABLE);
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // The replica has caught up when it shows the last heartbeat written on the primary,
+    // otherwise it is at least as far behind as the newest heartbeat it has applied.
+    public void check() {
+        boolean wasUsable = isReplicaUsable();
+        try {
+            Timestamp replicaBeat = replica.queryForObject(READ_HEARTBEAT, Timestamp.class);
+            Timestamp primaryBeat = primary.queryForObject(READ_HEARTBEAT, Timestamp.class);
+            lag = replicaBeat.equals(primaryBeat) ? Duration.ZERO : Duration.between(replicaBeat.toInstant(), Instant.now());
+        } catch (DataAccessException exception) {
+            lag = null;
+            log.debug("Replica lag could not be measured: {}", exception.getMessage());
+        }
+        if (wasUsable != isReplicaUsable()) {
+            if (isReplicaUsable()) {
+                log.info("Replica lag {} ms is within {} ms, routing read-only transactions to it", lag.toMillis(), maxLag.toMillis());
+            } else if (lag == null) {
+                log.warn("Replica lag is unknown, routing read-only transactions to the primary");
+            } else {
+                log.warn("Replica lag {} ms exceeds {} ms, routing read-only transactions to the primary", lag.toMillis(), maxLag.toMillis());
+            }
+        }
+        try {
+            primary.update(WRITE_HEARTBEAT, Timestamp.from(Instant.now()));
+        } catch (DataAccessException exception) {
+            log.warn("Replica heartbeat could not be written: {}", exception.getMessage());
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        Duration currentLag = lag;
+        return currentLag != null && currentLag.compareTo(maxLag) <= 0;
+    }
+
+    public Duration getLag() {
+        return lag;
+    }
+}
@@ -0,0 +1,68 @@
+package com.server.bookstoremanager.common.sql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Only routes correctly behind a LazyConnectionDataSourceProxy: the transaction manager asks for a
+// connection before the read-only flag of the new transaction is bound to the thread. Also needs
+// spring.jpa.open-in-view off, or the request's EntityManager keeps its first connection for every transaction.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    private final Supplier<String> currentUsername;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReplicaRoutingDataSource(DataSource primaryDataSource,
+                                    DataSource replicaDataSource,
+                                    ReplicaLagMonitor replicaLagMonitor,
+                                    Supplier<String> currentUsername,
+                                    Duration readYourWritesWindow) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.currentUsername = currentUsername;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .build();
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(Route.PRIMARY, primaryDataSource);
+        targetDataSources.put(Route.REPLICA, replicaDataSource);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primaryDataSource);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        String username = currentUsername.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (username != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recentWriters.put(username, Boolean.TRUE);
+                    }
+                });
+            }
+            return Route.PRIMARY;
+        }
+        if (username != null && recentWriters.getIfPresent(username) != null) {
+            return Route.PRIMARY;
+        }
+        return replicaLagMonitor.isReplicaUsable() ? Route.REPLICA : Route.PRIMARY;
+    }
+}
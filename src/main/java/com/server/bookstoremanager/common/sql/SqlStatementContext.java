@@ -0,0 +1,59 @@
+package com.server.bookstoremanager.common.sql;
+
+import lombok.Getter;
+
+@Getter
+public class SqlStatementContext {
+
+    public static final int UNLIMITED = 0;
+
+    private static final ThreadLocal<SqlStatementContext> CURRENT = new ThreadLocal<>();
+
+    private final String request;
+
+    private int maxStatements;
+
+    private int statements;
+
+    private long elapsedMillis;
+
+    private boolean overBudget;
+
+    private SqlStatementContext(String request, int maxStatements) {
+        this.request = request;
+        this.maxStatements = maxStatements;
+    }
+
+    public static SqlStatementContext begin(String request, int maxStatements) {
+        SqlStatementContext context = new SqlStatementContext(request, maxStatements);
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static SqlStatementContext current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    // Budgets statements from here on, so authentication done earlier in the request does not count.
+    public void limitTo(int maxStatements) {
+        this.maxStatements = statements + maxStatements;
+    }
+
+    // Returns true only for the statement that first goes over the budget.
+    boolean startStatement() {
+        statements++;
+        if (maxStatements == UNLIMITED || statements <= maxStatements || overBudget) {
+            return false;
+        }
+        overBudget = true;
+        return true;
+    }
+
+    void finishStatement(long elapsedMillis) {
+        this.elapsedMillis += elapsedMillis;
+    }
+}
@@ -0,0 +1,59 @@
+package com.server.bookstoremanager.common.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_STATEMENTS_SUMMARY = "sql.request.statements";
+
+    public static final String REQUEST_SQL_TIMER = "sql.request.time";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    private final int maxStatements;
+
+    public SqlStatementFilter(MeterRegistry meterRegistry, int maxStatements) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        SqlStatementContext context = SqlStatementContext.begin(request.getMethod() + " " + request.getRequestURI(), maxStatements);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStatementContext.end();
+            record(request, context);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementContext context) {
+        Object uriPattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String method = request.getMethod();
+        String uri = uriPattern == null ? UNKNOWN_URI : uriPattern.toString();
+        DistributionSummary.builder(REQUEST_STATEMENTS_SUMMARY)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(context.getStatements());
+        Timer.builder(REQUEST_SQL_TIMER)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(context.getElapsedMillis(), TimeUnit.MILLISECONDS);
+    }
+}
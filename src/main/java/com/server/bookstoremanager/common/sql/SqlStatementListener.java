@@ -0,0 +1,77 @@
+package com.server.bookstoremanager.common.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private final long slowQueryThresholdMillis;
+
+    private final boolean failOverBudget;
+
+    public SqlStatementListener(Duration slowQueryThreshold, boolean failOverBudget) {
+        this.slowQueryThresholdMillis = slowQueryThreshold.toMillis();
+        this.failOverBudget = failOverBudget;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queries) {
+        SqlStatementContext context = SqlStatementContext.current();
+        if (context == null || !context.startStatement()) {
+            return;
+        }
+
+        String query = queries.isEmpty() ? "" : queries.get(0).getQuery();
+        if (failOverBudget) {
+            throw new StatementBudgetExceededException(context.getRequest(), context.getMaxStatements(), query);
+        }
+        log.warn("Request {} went over its budget of {} SQL statements with: {}", context.getRequest(), context.getMaxStatements(), query);
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queries) {
+        SqlStatementContext context = SqlStatementContext.current();
+        if (context != null) {
+            context.finishStatement(executionInfo.getElapsedTime());
+        }
+
+        if (executionInfo.getElapsedTime() >= slowQueryThresholdMillis) {
+            for (QueryInfo queryInfo : queries) {
+                log.warn("Slow SQL statement took {} ms{}: {} binds {}",
+                        executionInfo.getElapsedTime(),
+                        executionInfo.isBatch() ? " for a batch of " + executionInfo.getBatchSize() : "",
+                        queryInfo.getQuery(),
+                        bindShape(queryInfo));
+            }
+        }
+    }
+
+    // Only the parameter types are logged, bound values may hold user data.
+    static String bindShape(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+        if (parametersList.isEmpty()) {
+            return "()";
+        }
+
+        String shape = parametersList.get(0).stream()
+                .map(SqlStatementListener::parameterType)
+                .collect(Collectors.joining(", ", "(", ")"));
+        return parametersList.size() > 1 ? shape + " x " + parametersList.size() : shape;
+    }
+
+    private static String parameterType(ParameterSetOperation operation) {
+        if (ParameterSetOperation.isSetNullParameterOperation(operation)) {
+            return "null";
+        }
+        Object[] args = operation.getArgs();
+        return args.length > 1 && args[1] != null ? args[1].getClass().getSimpleName() : "null";
+    }
+}
@@ -0,0 +1,8 @@
+package com.server.bookstoremanager.common.sql;
+
+public class StatementBudgetExceededException extends RuntimeException {
+
+    public StatementBudgetExceededException(String request, int maxStatements, String query) {
+        super(String.format("Request %s went over its budget of %s SQL statements with: %s", request, maxStatements, query));
+    }
+}
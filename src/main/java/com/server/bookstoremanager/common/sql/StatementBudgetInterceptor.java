@@ -0,0 +1,22 @@
+package com.server.bookstoremanager.common.sql;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+public class StatementBudgetInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementContext context = SqlStatementContext.current();
+        if (context != null && handler instanceof HandlerMethod) {
+            StatementBudget statementBudget = ((HandlerMethod) handler).getMethodAnnotation(StatementBudget.class);
+            if (statementBudget != null) {
+                context.limitTo(statementBudget.value());
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,63 @@
+package com.server.bookstoremanager.common.util;
+
+import com.server.bookstoremanager.common.dto.ResourceVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletResponse;
+import java.util.List;
+
+public class ConditionalRequestUtils {
+
+    private static final String REVALIDATE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalRequestUtils() {
+    }
+
+    public static boolean isNotModified(ServletWebRequest request, ResourceVersion version) {
+        allowRevalidation(request);
+        return request.checkNotModified(version.getETag(representation(request)), version.getLastModified());
+    }
+
+    // max(lastModified) does not move when a row is deleted, so collections are only validated by the
+    // ETag, whose count part does.
+    public static boolean isCollectionNotModified(ServletWebRequest request, ResourceVersion version) {
+        allowRevalidation(request);
+        return request.checkNotModified(version.getETag(representation(request)));
+    }
+
+    private static void allowRevalidation(ServletWebRequest request) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+    }
+
+    // The same version is served as JSON, normalized JSON, CBOR or Smile, so the ETag names the
+    // negotiated representation. Plain JSON keeps the bare version.
+    private static String representation(ServletWebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isEmpty()) {
+            return null;
+        }
+
+        try {
+            List<MediaType> acceptedTypes = MediaType.parseMediaTypes(accept);
+            if (acceptedTypes.isEmpty()) {
+                return null;
+            }
+            MediaType.sortBySpecificityAndQuality(acceptedTypes);
+            MediaType preferredType = acceptedTypes.get(0);
+            if (preferredType.isWildcardSubtype() || MediaType.APPLICATION_JSON.equalsTypeAndSubtype(preferredType)) {
+                return null;
+            }
+            return preferredType.getSubtype();
+        } catch (InvalidMediaTypeException exception) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.server.bookstoremanager.common.util;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+public class ConstraintViolationUtils {
+
+    private ConstraintViolationUtils() {
+    }
+
+    public static boolean isViolationOf(DataIntegrityViolationException exception, String... constraintNames) {
+        String violatedConstraint = violatedConstraint(exception);
+        if (violatedConstraint == null) {
+            return false;
+        }
+
+        String normalizedViolatedConstraint = violatedConstraint.toUpperCase(Locale.ROOT);
+        for (String constraintName : constraintNames) {
+            if (normalizedViolatedConstraint.contains(constraintName.toUpperCase(Locale.ROOT))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String violatedConstraint(DataIntegrityViolationException exception) {
+        Throwable cause = exception.getCause();
+        if (cause instanceof ConstraintViolationException && ((ConstraintViolationException) cause).getConstraintName() != null) {
+            return ((ConstraintViolationException) cause).getConstraintName();
+        }
+        return NestedExceptionUtils.getMostSpecificCause(exception).getMessage();
+    }
+}
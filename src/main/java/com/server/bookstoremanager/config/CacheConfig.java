@@ -0,0 +1,55 @@
+package com.server.bookstoremanager.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.Collections;
+
+// Ordered around the transaction advice: evictions and puts of transactional methods happen after commit.
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    public static final String USERS_CACHE = "users";
+
+    public static final String AUTHORS_CACHE = "authors";
+
+    public static final String AUTHOR_LIST_CACHE = "author-list";
+
+    public static final String PUBLISHERS_CACHE = "publishers";
+
+    public static final String PUBLISHER_LIST_CACHE = "publisher-list";
+
+    public static final String LIST_VERSION_KEY = "'version'";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.users.maximum-size:10000}") long usersMaximumSize,
+            @Value("${cache.users.expire-after-write:5m}") Duration usersExpireAfterWrite,
+            @Value("${cache.reference-data.maximum-size:10000}") long referenceDataMaximumSize,
+            @Value("${cache.reference-data.expire-after-write:1h}") Duration referenceDataExpireAfterWrite) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(Collections.emptyList());
+        registerCache(cacheManager, USERS_CACHE, usersMaximumSize, usersExpireAfterWrite);
+        registerCache(cacheManager, AUTHORS_CACHE, referenceDataMaximumSize, referenceDataExpireAfterWrite);
+        registerCache(cacheManager, PUBLISHERS_CACHE, referenceDataMaximumSize, referenceDataExpireAfterWrite);
+        registerCache(cacheManager, AUTHOR_LIST_CACHE, 2, referenceDataExpireAfterWrite);
+        registerCache(cacheManager, PUBLISHER_LIST_CACHE, 2, referenceDataExpireAfterWrite);
+        return cacheManager;
+    }
+
+    private void registerCache(CaffeineCacheManager cacheManager, String cacheName, long maximumSize, Duration expireAfterWrite) {
+        cacheManager.registerCustomCache(cacheName, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build());
+    }
+}
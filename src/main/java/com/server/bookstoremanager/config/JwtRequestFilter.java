@@ -1,7 +1,10 @@
 package com.server.bookstoremanager.config;
 
+import com.server.bookstoremanager.user.dto.VerifiedToken;
 import com.server.bookstoremanager.user.service.AuthenticationService;
 import com.server.bookstoremanager.user.service.JwtTokenManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -19,43 +22,54 @@ import java.io.IOException;
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
 
+    public static final String JWT_REQUEST_FILTER_TIMER = "jwt.request.filter";
+
     @Autowired
     private AuthenticationService authenticationService;
 
     @Autowired
     private JwtTokenManager jwtTokenManager;
 
+    private Timer authenticationTimer;
+
+    @Autowired
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.authenticationTimer = Timer.builder(JWT_REQUEST_FILTER_TIMER).register(meterRegistry);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
-        String username = "";
-        String jwtToken = "";
+        authenticationTimer.record(() -> authenticate(request));
+        chain.doFilter(request, response);
+    }
+
+    private void authenticate(HttpServletRequest request) {
+        VerifiedToken verifiedToken = null;
 
         String requestTokenHeader = request.getHeader("Authorization");
 
         if (isTokenPresent(requestTokenHeader)) {
-            jwtToken = requestTokenHeader.substring(7);
-            username = jwtTokenManager.getUsernameFromToken(jwtToken);
+            verifiedToken = jwtTokenManager.verifyToken(requestTokenHeader.substring(7));
         } else {
             logger.warn("JWT Token does not begin with Bearer String");
         }
 
-        if (isUsernameInContext(username)) {
-            addUsernameInContext(request, username, jwtToken);
+        if (isUsernameInContext(verifiedToken)) {
+            addUsernameInContext(request, verifiedToken);
         }
-        chain.doFilter(request, response);
     }
 
     private boolean isTokenPresent(String requestTokenHeader) {
         return requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ");
     }
 
-    private boolean isUsernameInContext(String username) {
-        return !username.isEmpty() && SecurityContextHolder.getContext().getAuthentication() == null;
+    private boolean isUsernameInContext(VerifiedToken verifiedToken) {
+        return verifiedToken != null && !verifiedToken.getUsername().isEmpty() && SecurityContextHolder.getContext().getAuthentication() == null;
     }
 
-    private void addUsernameInContext(HttpServletRequest request, String username, String jwtToken) {
-        UserDetails userDetails = authenticationService.loadUserByUsername(username);
-        if (jwtTokenManager.validateToken(jwtToken, userDetails)) {
+    private void addUsernameInContext(HttpServletRequest request, VerifiedToken verifiedToken) {
+        UserDetails userDetails = authenticationService.loadUserByUsername(verifiedToken.getUsername());
+        if (jwtTokenManager.validateToken(verifiedToken, userDetails)) {
             UsernamePasswordAuthenticationToken authenticationToken =
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
             authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -0,0 +1,84 @@
+package com.server.bookstoremanager.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Aspect
+@Component
+public class MethodTimingAspect {
+
+    public static final String METHOD_TIMER = "bookstore.method";
+
+    private static final String BASE_PACKAGE = "com.server.bookstoremanager.";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    public MethodTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Pointcut("within(com.server.bookstoremanager.book..*) || within(com.server.bookstoremanager.author..*) " +
+            "|| within(com.server.bookstoremanager.publisher..*) || within(com.server.bookstoremanager.user..*)")
+    public void inDomainPackages() {
+    }
+
+    @Around("inDomainPackages() && @within(org.springframework.web.bind.annotation.RestController)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "controller", joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    @Around("inDomainPackages() && @within(org.springframework.stereotype.Service)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service", joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "repository", repositoryName(joinPoint.getThis().getClass()));
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String layer, String className) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable throwable) {
+            exception = throwable.getClass().getSimpleName();
+            throw throwable;
+        } finally {
+            sample.stop(Timer.builder(METHOD_TIMER)
+                    .tag("layer", layer)
+                    .tag("class", className)
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    // Inherited JpaRepository methods are declared by Spring Data types, so the repository is named
+    // after the application interface implemented by the proxy.
+    private String repositoryName(Class<?> proxyClass) {
+        return repositoryNames.computeIfAbsent(proxyClass, type -> {
+            for (Class<?> proxiedInterface : type.getInterfaces()) {
+                if (proxiedInterface.getName().startsWith(BASE_PACKAGE)) {
+                    return proxiedInterface.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+}
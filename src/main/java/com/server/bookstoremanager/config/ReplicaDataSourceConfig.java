@@ -0,0 +1,103 @@
+package com.server.bookstoremanager.config;
+
+import com.server.bookstoremanager.common.sql.ConnectionLimitingDataSource;
+import com.server.bookstoremanager.common.sql.ReplicaLagMonitor;
+import com.server.bookstoremanager.common.sql.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.url")
+public class ReplicaDataSourceConfig implements DisposableBean {
+
+    // Not exposed as DataSource beans: Spring Boot initializes each DataSource bean against the primary one,
+    // which would then depend on itself while it is being created.
+    private final HikariDataSource primaryPool;
+
+    private final HikariDataSource replicaPool;
+
+    private final DataSource primaryDataSource;
+
+    private final DataSource replicaDataSource;
+
+    public ReplicaDataSourceConfig(DataSourceProperties dataSourceProperties,
+                                   Environment environment,
+                                   @Value("${spring.datasource.replica.url}") String url,
+                                   @Value("${spring.datasource.replica.username:${spring.datasource.username:sa}}") String username,
+                                   @Value("${spring.datasource.replica.password:${spring.datasource.password:}}") String password,
+                                   @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        Binder binder = Binder.get(environment);
+        this.primaryPool = createPool(binder, "spring.datasource.hikari", "primary", dataSourceProperties.initializeDataSourceBuilder());
+        this.replicaPool = createPool(binder, "spring.datasource.replica.hikari", "replica", DataSourceBuilder.create()
+                .driverClassName(dataSourceProperties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password));
+        this.primaryDataSource = limitConnections(primaryPool, virtualThreads);
+        this.replicaDataSource = limitConnections(replicaPool, virtualThreads);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReplicaLagMonitor replicaLagMonitor(@Value("${spring.datasource.replica.max-lag:2s}") Duration maxLag,
+                                               @Value("${spring.datasource.replica.lag-check-interval:1s}") Duration checkInterval) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, maxLag, checkInterval);
+    }
+
+    // A user who just wrote keeps reading from the primary until any replica still in use has caught up.
+    @Bean
+    public DataSource dataSource(ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${spring.datasource.replica.max-lag:2s}") Duration maxLag,
+                                 @Value("${spring.datasource.replica.lag-check-interval:1s}") Duration checkInterval) {
+        primaryPool.setMetricRegistry(meterRegistry);
+        replicaPool.setMetricRegistry(meterRegistry);
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource,
+                replicaLagMonitor, ReplicaDataSourceConfig::currentUsername, maxLag.plus(checkInterval)));
+    }
+
+    @Override
+    public void destroy() {
+        primaryPool.close();
+        replicaPool.close();
+    }
+
+    private static HikariDataSource createPool(Binder binder, String prefix, String poolName, DataSourceBuilder<?> dataSourceBuilder) {
+        HikariDataSource pool = dataSourceBuilder.type(HikariDataSource.class).build();
+        binder.bind(prefix, Bindable.ofInstance(pool));
+        pool.setPoolName(poolName);
+        return pool;
+    }
+
+    // The pools are not beans, so VirtualThreadConfig cannot limit them.
+    private static DataSource limitConnections(HikariDataSource pool, boolean virtualThreads) {
+        if (!virtualThreads) {
+            return pool;
+        }
+        return new ConnectionLimitingDataSource(pool, pool.getMaximumPoolSize(), Duration.ofMillis(pool.getConnectionTimeout()));
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,61 @@
+package com.server.bookstoremanager.config;
+
+import com.server.bookstoremanager.common.sql.SqlStatementFilter;
+import com.server.bookstoremanager.common.sql.SqlStatementListener;
+import com.server.bookstoremanager.common.sql.StatementBudgetInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class SqlMonitoringConfig implements WebMvcConfigurer {
+
+    @Bean
+    public static SqlStatementListener sqlStatementListener(
+            @Value("${sql.slow-query-threshold:500ms}") Duration slowQueryThreshold,
+            @Value("${sql.statement-budget.fail:false}") boolean failOverBudget) {
+        return new SqlStatementListener(slowQueryThreshold, failOverBudget);
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlMonitoringDataSourcePostProcessor(ObjectProvider<SqlStatementListener> sqlStatementListener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create((DataSource) bean)
+                            .name(beanName)
+                            .listener(sqlStatementListener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilterRegistration(
+            MeterRegistry meterRegistry,
+            @Value("${sql.statement-budget.max-statements:0}") int maxStatements) {
+        FilterRegistrationBean<SqlStatementFilter> registration = new FilterRegistrationBean<>(new SqlStatementFilter(meterRegistry, maxStatements));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StatementBudgetInterceptor());
+    }
+}
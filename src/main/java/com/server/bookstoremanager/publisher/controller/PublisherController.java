@@ -1,14 +1,19 @@
 package com.server.bookstoremanager.publisher.controller;
 
+import com.server.bookstoremanager.common.sql.StatementBudget;
 import com.server.bookstoremanager.publisher.dto.PublisherDTO;
 import com.server.bookstoremanager.publisher.service.PublisherService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import javax.validation.Valid;
 import java.util.List;
 
+import static com.server.bookstoremanager.common.util.ConditionalRequestUtils.isCollectionNotModified;
+import static com.server.bookstoremanager.common.util.ConditionalRequestUtils.isNotModified;
+
 @RestController
 @RequestMapping("api/v1/publishers")
 public class PublisherController implements PublisherControllerDocs{
@@ -27,15 +32,28 @@ public class PublisherController implements PublisherControllerDocs{
     }
 
     @GetMapping("/{id}")
-    public PublisherDTO findById(@PathVariable Long id) {
+    @StatementBudget(1)
+    public PublisherDTO findById(@PathVariable Long id, ServletWebRequest request) {
+        if (isNotModified(request, publisherService.findVersionById(id))) {
+            return null;
+        }
         return publisherService.findById(id);
     }
 
     @GetMapping
-    public List<PublisherDTO> findAll() {
+    @StatementBudget(2)
+    public List<PublisherDTO> findAll(ServletWebRequest request) {
+        if (isCollectionNotModified(request, publisherService.findAllVersion())) {
+            return null;
+        }
         return publisherService.findAll();
     }
 
+    @GetMapping("/suggest")
+    public List<PublisherDTO> suggest(@RequestParam("q") String prefix, @RequestParam(defaultValue = "10") int size) {
+        return publisherService.suggest(prefix, size);
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void delete(@PathVariable Long id) {
@@ -6,6 +6,7 @@ import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -22,16 +23,24 @@ public interface PublisherControllerDocs {
     @ApiOperation(value = "Find publisher by id operation")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Success publisher found"),
+            @ApiResponse(code = 304, message = "Publisher not modified since the informed ETag or date"),
             @ApiResponse(code = 404, message = "Publisher not found error")
     })
-    PublisherDTO findById(@PathVariable Long id);
+    PublisherDTO findById(@PathVariable Long id, ServletWebRequest request);
 
 
     @ApiOperation(value = "List all registered publishers")
     @ApiResponses(value = {
-            @ApiResponse(code = 200, message = "Return all registered publishers")
+            @ApiResponse(code = 200, message = "Return all registered publishers"),
+            @ApiResponse(code = 304, message = "Publishers not modified since the informed ETag")
     })
-    List<PublisherDTO> findAll();
+    List<PublisherDTO> findAll(ServletWebRequest request);
+
+    @ApiOperation(value = "Suggest registered publishers whose name or any name word starts with the informed prefix")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Return up to size matching publishers, name prefix matches first"),
+    })
+    List<PublisherDTO> suggest(String prefix, int size);
 
     @ApiOperation(value = "Delete publisher by id operation")
     @ApiResponses(value = {
@@ -0,0 +1,34 @@
+package com.server.bookstoremanager.publisher.controller;
+
+import com.server.bookstoremanager.publisher.dto.PublisherDTO;
+import com.server.bookstoremanager.publisher.service.PublisherReactiveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v2/publishers")
+public class PublisherReactiveController implements PublisherReactiveControllerDocs {
+
+    private PublisherReactiveService publisherReactiveService;
+
+    @Autowired
+    public PublisherReactiveController(PublisherReactiveService publisherReactiveService) {
+        this.publisherReactiveService = publisherReactiveService;
+    }
+
+    @GetMapping("/{id}")
+    public Mono<PublisherDTO> findById(@PathVariable Long id) {
+        return publisherReactiveService.findById(id);
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<PublisherDTO> findAll() {
+        return publisherReactiveService.findAll();
+    }
+}
@@ -0,0 +1,26 @@
+package com.server.bookstoremanager.publisher.controller;
+
+import com.server.bookstoremanager.publisher.dto.PublisherDTO;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Api("Publishers reactive read API")
+public interface PublisherReactiveControllerDocs {
+
+    @ApiOperation(value = "Find publisher by id operation")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Success publisher found"),
+            @ApiResponse(code = 404, message = "Publisher not found error code")
+    })
+    Mono<PublisherDTO> findById(Long id);
+
+    @ApiOperation(value = "Stream all registered publishers as NDJSON or server-sent events")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "All registered publishers. NDJSON and event streams are written as they are read, JSON is sent as one array")
+    })
+    Flux<PublisherDTO> findAll();
+}
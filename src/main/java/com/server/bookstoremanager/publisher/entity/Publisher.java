@@ -3,6 +3,8 @@ package com.server.bookstoremanager.publisher.entity;
 import com.server.bookstoremanager.book.entity.Book;
 import com.server.bookstoremanager.common.entity.Auditable;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.time.LocalDate;
@@ -10,16 +12,27 @@ import java.util.List;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "publisher-entity")
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = Publisher.UNIQUE_NAME, columnNames = "name"),
+        @UniqueConstraint(name = Publisher.UNIQUE_CODE, columnNames = "code")
+})
 public class Publisher extends Auditable {
 
+    public static final String UNIQUE_NAME = "uk_publisher_name";
+
+    public static final String UNIQUE_CODE = "uk_publisher_code";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "publisher_sequence")
+    @SequenceGenerator(name = "publisher_sequence", sequenceName = "publisher_sequence", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String name;
 
-    @Column(nullable = false, unique = true, length = 100)
+    @Column(nullable = false, length = 100)
     private String code;
 
     @Column(nullable = false, columnDefinition = "TIMESTAMP")
@@ -0,0 +1,46 @@
+package com.server.bookstoremanager.publisher.repository;
+
+import com.server.bookstoremanager.publisher.dto.PublisherDTO;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+public class PublisherReactiveRepository {
+
+    private static final String SELECT_PUBLISHER = "select p.id, p.name, p.code, p.foundation_date from publisher p ";
+
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    public PublisherReactiveRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<PublisherDTO> findAll() {
+        return databaseClient.sql(SELECT_PUBLISHER + "order by p.id")
+                .map(row -> toDTO(row, ""))
+                .all();
+    }
+
+    public Mono<PublisherDTO> findById(Long id) {
+        return databaseClient.sql(SELECT_PUBLISHER + "where p.id = :id")
+                .bind("id", id)
+                .map(row -> toDTO(row, ""))
+                .one();
+    }
+
+    // foundation_date is a TIMESTAMP column, see Publisher.
+    public static PublisherDTO toDTO(Row row, String columnPrefix) {
+        return new PublisherDTO(
+                row.get(columnPrefix + "id", Long.class),
+                row.get(columnPrefix + "name", String.class),
+                row.get(columnPrefix + "code", String.class),
+                row.get(columnPrefix + "foundation_date", LocalDateTime.class).toLocalDate());
+    }
+}
@@ -1,11 +1,31 @@
 package com.server.bookstoremanager.publisher.repository;
 
+import com.server.bookstoremanager.common.dto.ResourceVersion;
+import com.server.bookstoremanager.publisher.dto.PublisherDTO;
 import com.server.bookstoremanager.publisher.entity.Publisher;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
+import static com.server.bookstoremanager.config.CacheConfig.PUBLISHERS_CACHE;
+
 public interface PublisherRepository extends JpaRepository<Publisher, Long> {
 
-    Optional<Publisher> findByNameOrCode(String name, String code);
+    @Query("select new com.server.bookstoremanager.publisher.dto.PublisherDTO(p.id, p.name, p.code, p.foundationDate) from Publisher p")
+    List<PublisherDTO> findAllDTOs();
+
+    @Query("select new com.server.bookstoremanager.common.dto.ResourceVersion(count(p), max(p.lastModified)) from Publisher p")
+    ResourceVersion findVersion();
+
+    @Override
+    @Cacheable(cacheNames = PUBLISHERS_CACHE, key = "#p0", unless = "#result == null")
+    Optional<Publisher> findById(Long id);
+
+    @Override
+    @CacheEvict(cacheNames = PUBLISHERS_CACHE, key = "#p0")
+    void deleteById(Long id);
 }
@@ -0,0 +1,29 @@
+package com.server.bookstoremanager.publisher.service;
+
+import com.server.bookstoremanager.publisher.dto.PublisherDTO;
+import com.server.bookstoremanager.publisher.exception.PublisherNotFoundException;
+import com.server.bookstoremanager.publisher.repository.PublisherReactiveRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class PublisherReactiveService {
+
+    private PublisherReactiveRepository publisherReactiveRepository;
+
+    @Autowired
+    public PublisherReactiveService(PublisherReactiveRepository publisherReactiveRepository) {
+        this.publisherReactiveRepository = publisherReactiveRepository;
+    }
+
+    public Mono<PublisherDTO> findById(Long id) {
+        return publisherReactiveRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new PublisherNotFoundException(id)));
+    }
+
+    public Flux<PublisherDTO> findAll() {
+        return publisherReactiveRepository.findAll();
+    }
+}
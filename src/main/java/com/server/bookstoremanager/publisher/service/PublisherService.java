@@ -1,5 +1,6 @@
 package com.server.bookstoremanager.publisher.service;
 
+import com.server.bookstoremanager.common.dto.ResourceVersion;
 import com.server.bookstoremanager.publisher.dto.PublisherDTO;
 import com.server.bookstoremanager.publisher.entity.Publisher;
 import com.server.bookstoremanager.publisher.exception.PublisherAlreadyExistsException;
@@ -7,56 +8,114 @@ import com.server.bookstoremanager.publisher.exception.PublisherNotFoundExceptio
 import com.server.bookstoremanager.publisher.mapper.PublisherMapper;
 import com.server.bookstoremanager.publisher.repository.PublisherRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static com.server.bookstoremanager.common.util.ConstraintViolationUtils.isViolationOf;
+import static com.server.bookstoremanager.config.CacheConfig.LIST_VERSION_KEY;
+import static com.server.bookstoremanager.config.CacheConfig.PUBLISHERS_CACHE;
+import static com.server.bookstoremanager.config.CacheConfig.PUBLISHER_LIST_CACHE;
+
 @Service
 public class PublisherService {
 
+    public static final int MAX_SUGGESTIONS = 20;
+
     private final static PublisherMapper publisherMapper = PublisherMapper.INSTANCE;
 
     private PublisherRepository publisherRepository;
 
+    private PublisherSuggestionIndex publisherSuggestionIndex;
+
     @Autowired
-    public PublisherService(PublisherRepository publisherRepository) {
+    public PublisherService(PublisherRepository publisherRepository, PublisherSuggestionIndex publisherSuggestionIndex) {
         this.publisherRepository = publisherRepository;
+        this.publisherSuggestionIndex = publisherSuggestionIndex;
     }
 
+    @CacheEvict(cacheNames = PUBLISHER_LIST_CACHE, allEntries = true)
+    @Transactional
     public PublisherDTO create(PublisherDTO publisherDTO) {
-        verifyIfExists(publisherDTO.getName(), publisherDTO.getCode());
         Publisher publisherToCreate = publisherMapper.toModel(publisherDTO);
-        Publisher createdPublisher = publisherRepository.save(publisherToCreate);
-        return publisherMapper.toDTO(createdPublisher);
+        Publisher createdPublisher = saveAndVerifyIfExists(publisherToCreate);
+        PublisherDTO createdPublisherDTO = publisherMapper.toDTO(createdPublisher);
+        publisherSuggestionIndex.put(createdPublisherDTO);
+        return createdPublisherDTO;
     }
 
+    @Transactional(readOnly = true)
     public PublisherDTO findById(Long id) {
         return publisherRepository.findById(id)
                 .map(publisherMapper::toDTO)
                 .orElseThrow(() -> new PublisherNotFoundException(id));
     }
 
+    @Cacheable(PUBLISHER_LIST_CACHE)
+    @Transactional(readOnly = true)
     public List<PublisherDTO> findAll() {
-        return publisherRepository.findAll()
-                .stream()
-                .map(publisherMapper::toDTO)
-                .collect(Collectors.toList());
+        return Collections.unmodifiableList(publisherRepository.findAllDTOs());
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion findVersionById(Long id) {
+        Publisher foundPublisher = verifyAndGetIfExists(id);
+        return new ResourceVersion(foundPublisher.getId(), foundPublisher.getLastModified());
     }
 
+    @Cacheable(cacheNames = PUBLISHER_LIST_CACHE, key = LIST_VERSION_KEY)
+    @Transactional(readOnly = true)
+    public ResourceVersion findAllVersion() {
+        return publisherRepository.findVersion();
+    }
+
+    public List<PublisherDTO> suggest(String prefix, int size) {
+        return publisherSuggestionIndex.suggest(prefix, Math.max(1, Math.min(size, MAX_SUGGESTIONS)));
+    }
+
+    // The repository evicts the publisher before this transaction commits, so it is evicted again afterwards.
+    @Caching(evict = {
+            @CacheEvict(cacheNames = PUBLISHER_LIST_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = PUBLISHERS_CACHE, key = "#p0")
+    })
+    @Transactional
     public void delete(Long id) {
         verifyAndGetIfExists(id);
         publisherRepository.deleteById(id);
+        // Flushed so a rejected delete fails here, before the suggestion index changes.
+        publisherRepository.flush();
+        publisherSuggestionIndex.remove(id);
     }
 
-    private void verifyIfExists(String name, String code) throws PublisherAlreadyExistsException {
-        Optional<Publisher> duplicatedPublisher = publisherRepository.findByNameOrCode(name, code);
-        if (duplicatedPublisher.isPresent()) {
-            throw new PublisherAlreadyExistsException(name, code);
+    private Publisher saveAndVerifyIfExists(Publisher publisherToCreate) throws PublisherAlreadyExistsException {
+        try {
+            return publisherRepository.saveAndFlush(publisherToCreate);
+        } catch (DataIntegrityViolationException exception) {
+            if (isViolationOf(exception, Publisher.UNIQUE_NAME, Publisher.UNIQUE_CODE)) {
+                throw new PublisherAlreadyExistsException(publisherToCreate.getName(), publisherToCreate.getCode());
+            }
+            throw exception;
         }
     }
 
+    @Transactional(readOnly = true)
+    public Map<Long, Publisher> findAllByIds(Collection<Long> ids) {
+        return publisherRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Publisher::getId, Function.identity()));
+    }
+
+    @Transactional(readOnly = true)
     public Publisher verifyAndGetIfExists(Long id) {
         return publisherRepository.findById(id)
                 .orElseThrow(() -> new PublisherNotFoundException(id));
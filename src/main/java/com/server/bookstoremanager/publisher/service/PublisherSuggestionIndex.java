@@ -0,0 +1,34 @@
+package com.server.bookstoremanager.publisher.service;
+
+import com.server.bookstoremanager.publisher.dto.PublisherDTO;
+import com.server.bookstoremanager.publisher.mapper.PublisherMapper;
+import com.server.bookstoremanager.publisher.repository.PublisherRepository;
+import com.server.bookstoremanager.common.service.SuggestionIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+@Component
+public class PublisherSuggestionIndex extends SuggestionIndex<PublisherDTO> {
+
+    private final static PublisherMapper publisherMapper = PublisherMapper.INSTANCE;
+
+    private PublisherRepository publisherRepository;
+
+    @Autowired
+    public PublisherSuggestionIndex(PublisherRepository publisherRepository) {
+        super(PublisherDTO::getId, PublisherDTO::getName);
+        this.publisherRepository = publisherRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        replaceAll(publisherRepository.findAll()
+                .stream()
+                .map(publisherMapper::toDTO)
+                .collect(Collectors.toList()));
+    }
+}
@@ -5,12 +5,14 @@ import com.server.bookstoremanager.user.dto.JwtResponse;
 import com.server.bookstoremanager.user.dto.MessageDTO;
 import com.server.bookstoremanager.user.dto.UserDTO;
 import com.server.bookstoremanager.user.service.AuthenticationService;
+import com.server.bookstoremanager.user.service.PasswordHashingService;
 import com.server.bookstoremanager.user.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/users")
@@ -20,21 +22,24 @@ public class UserController implements UserControllerDocs {
 
     private AuthenticationService authenticationService;
 
+    private PasswordHashingService passwordHashingService;
+
     @Autowired
-    public UserController(UserService userService,  AuthenticationService authenticationService) {
+    public UserController(UserService userService, AuthenticationService authenticationService, PasswordHashingService passwordHashingService) {
         this.userService = userService;
         this.authenticationService = authenticationService;
+        this.passwordHashingService = passwordHashingService;
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public MessageDTO create(@RequestBody @Valid UserDTO userDTO) {
-        return userService.create(userDTO);
+    public CompletableFuture<MessageDTO> create(@RequestBody @Valid UserDTO userDTO) {
+        return passwordHashingService.submit(() -> userService.create(userDTO));
     }
 
     @PutMapping("/{id}")
-    public MessageDTO update(@PathVariable Long id, @RequestBody @Valid UserDTO userDTO) {
-        return userService.update(id, userDTO);
+    public CompletableFuture<MessageDTO> update(@PathVariable Long id, @RequestBody @Valid UserDTO userDTO) {
+        return passwordHashingService.submit(() -> userService.update(id, userDTO));
     }
 
     @DeleteMapping("/{id}")
@@ -44,7 +49,7 @@ public class UserController implements UserControllerDocs {
     }
 
     @PostMapping(value = "/authenticate")
-    public JwtResponse createAuthenticationToken(@RequestBody @Valid JwtRequest jwtRequest) {
-        return authenticationService.createAuthenticationToken(jwtRequest);
+    public CompletableFuture<JwtResponse> createAuthenticationToken(@RequestBody @Valid JwtRequest jwtRequest) {
+        return passwordHashingService.submit(() -> authenticationService.createAuthenticationToken(jwtRequest));
     }
 }
@@ -11,6 +11,7 @@ import io.swagger.annotations.ApiResponses;
 import org.springframework.web.bind.annotation.RequestBody;
 
 import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 
 @Api("System Users Management")
 public interface UserControllerDocs {
@@ -18,16 +19,18 @@ public interface UserControllerDocs {
     @ApiOperation(value = "User creation operation")
     @ApiResponses(value = {
             @ApiResponse(code = 201, message = "Success user creation"),
-            @ApiResponse(code = 400, message = "Missing required fields,, or an error on validation field rules")
+            @ApiResponse(code = 400, message = "Missing required fields,, or an error on validation field rules"),
+            @ApiResponse(code = 503, message = "Password hashing capacity exhausted, retry after the informed Retry-After")
     })
-    MessageDTO create(UserDTO userDTO);
+    CompletableFuture<MessageDTO> create(UserDTO userDTO);
 
     @ApiOperation(value = "User update operation")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Success user updated"),
-            @ApiResponse(code = 400, message = "Missing required fields,, or an error on validation field rules")
+            @ApiResponse(code = 400, message = "Missing required fields,, or an error on validation field rules"),
+            @ApiResponse(code = 503, message = "Password hashing capacity exhausted, retry after the informed Retry-After")
     })
-    MessageDTO update(Long id, UserDTO userDTO);
+    CompletableFuture<MessageDTO> update(Long id, UserDTO userDTO);
 
     @ApiOperation(value = "User exclusion operation")
     @ApiResponses(value = {
@@ -39,7 +42,8 @@ public interface UserControllerDocs {
     @ApiOperation(value = "User authentication operation")
     @ApiResponses(value = {
             @ApiResponse(code = 201, message = "Success user authenticated"),
-            @ApiResponse(code = 404, message = "User not found")
+            @ApiResponse(code = 404, message = "User not found"),
+            @ApiResponse(code = 503, message = "Password hashing capacity exhausted, retry after the informed Retry-After")
     })
-    JwtResponse createAuthenticationToken(JwtRequest jwtRequest);
+    CompletableFuture<JwtResponse> createAuthenticationToken(JwtRequest jwtRequest);
 }
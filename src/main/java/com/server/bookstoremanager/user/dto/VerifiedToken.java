@@ -0,0 +1,18 @@
+package com.server.bookstoremanager.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    private final String username;
+    private final Date expiration;
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+}
@@ -5,6 +5,8 @@ import com.server.bookstoremanager.common.entity.Auditable;
 import com.server.bookstoremanager.user.enums.Gender;
 import com.server.bookstoremanager.user.enums.Role;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.time.LocalDate;
@@ -12,10 +14,21 @@ import java.util.List;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-entity")
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = User.UNIQUE_EMAIL, columnNames = "email"),
+        @UniqueConstraint(name = User.UNIQUE_USERNAME, columnNames = "username")
+})
 public class User extends Auditable {
 
+    public static final String UNIQUE_EMAIL = "uk_user_email";
+
+    public static final String UNIQUE_USERNAME = "uk_user_username";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_sequence")
+    @SequenceGenerator(name = "user_sequence", sequenceName = "user_sequence", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -28,10 +41,10 @@ public class User extends Auditable {
     @Column(nullable = false, length = 20)
     private Gender gender;
 
-    @Column(nullable = false, unique = true, length = 100)
+    @Column(nullable = false, length = 100)
     private String email;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String username;
 
     @Column(nullable = false)
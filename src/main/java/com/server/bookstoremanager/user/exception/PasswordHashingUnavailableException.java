@@ -0,0 +1,18 @@
+package com.server.bookstoremanager.user.exception;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+
+public class PasswordHashingUnavailableException extends RejectedExecutionException {
+
+    private final Duration retryAfter;
+
+    public PasswordHashingUnavailableException(Duration retryAfter) {
+        super(String.format("Password hashing capacity is exhausted, retry in %s seconds", retryAfter.getSeconds()));
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
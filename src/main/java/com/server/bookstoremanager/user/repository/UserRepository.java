@@ -1,13 +1,20 @@
 package com.server.bookstoremanager.user.repository;
 
 import com.server.bookstoremanager.user.entity.User;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.QueryHint;
 
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+import static com.server.bookstoremanager.config.CacheConfig.USERS_CACHE;
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
 
-    Optional<User> findByEmailOrUsername(String email, String username);
+public interface UserRepository extends JpaRepository<User, Long> {
 
+    @Cacheable(cacheNames = USERS_CACHE, key = "#p0", unless = "#result == null")
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
 }
@@ -1,5 +1,9 @@
 package com.server.bookstoremanager.user.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.server.bookstoremanager.user.dto.VerifiedToken;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -7,22 +11,34 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenManager {
 
     private String secret;
     private Long jwtTokenValidity;
+    private Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtTokenManager(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.validity}") Long jwtTokenValidity) {
+            @Value("${jwt.validity}") Long jwtTokenValidity,
+            @Value("${jwt.cache.maximum-size:10000}") long verifiedTokensMaximumSize) {
         this.secret = secret;
         this.jwtTokenValidity = jwtTokenValidity;
+        if (verifiedTokensMaximumSize > 0) {
+            this.verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(verifiedTokensMaximumSize)
+                    .expireAfter(new UntilTokenExpiration())
+                    .build();
+        }
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -40,33 +56,68 @@ public class JwtTokenManager {
                 .compact();
     }
 
+    public VerifiedToken verifyToken(String token) {
+        if (verifiedTokens == null) {
+            return parseToken(token);
+        }
+        String tokenHash = hash(token);
+        VerifiedToken verifiedToken = verifiedTokens.getIfPresent(tokenHash);
+        if (verifiedToken == null) {
+            verifiedToken = parseToken(token);
+            verifiedTokens.put(tokenHash, verifiedToken);
+        }
+        return verifiedToken;
+    }
+
     public String getUsernameFromToken(String token) {
-        return getClaimForToken(token, Claims::getSubject);
+        return verifyToken(token).getUsername();
     }
 
     public Date getExpirationDateFromToken(String token) {
-        return getClaimForToken(token, Claims::getExpiration);
+        return verifyToken(token).getExpiration();
+    }
+
+    public boolean validateToken(String token, UserDetails userDetails) {
+        return validateToken(verifyToken(token), userDetails);
     }
 
-    private <T> T getClaimForToken(String token, Function<Claims, T> claimsResolver) {
-        Claims claims = getAllClaimsForToken(token);
-        return claimsResolver.apply(claims);
+    public boolean validateToken(VerifiedToken verifiedToken, UserDetails userDetails) {
+        return verifiedToken.getUsername().equals(userDetails.getUsername()) && !verifiedToken.isExpired();
     }
 
-    private Claims getAllClaimsForToken(String token) {
-        return Jwts.parser()
+    private VerifiedToken parseToken(String token) {
+        Claims claims = Jwts.parser()
                 .setSigningKey(secret)
                 .parseClaimsJws(token)
                 .getBody();
+        return new VerifiedToken(claims.getSubject(), claims.getExpiration());
     }
 
-    public boolean validateToken(String token, UserDetails userDetails) {
-        String username = getUsernameFromToken(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
-    private boolean isTokenExpired(String token) {
-        Date expirationDate = getExpirationDateFromToken(token);
-        return expirationDate.before(new Date());
+    private static class UntilTokenExpiration implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String tokenHash, VerifiedToken verifiedToken, long currentTime) {
+            long millisUntilExpiration = verifiedToken.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(millisUntilExpiration, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenHash, verifiedToken, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,62 @@
+package com.server.bookstoremanager.user.service;
+
+import com.server.bookstoremanager.user.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+@Service
+public class PasswordHashingService {
+
+    public static final String PASSWORD_HASHING_EXECUTOR = "password.hashing";
+
+    private ExecutorService passwordHashingExecutor;
+
+    private Duration retryAfter;
+
+    @Autowired
+    public PasswordHashingService(
+            MeterRegistry meterRegistry,
+            @Value("${password.hashing.pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int poolSize,
+            @Value("${password.hashing.queue-capacity:100}") int queueCapacity,
+            @Value("${password.hashing.retry-after:1s}") Duration retryAfter) {
+        this(ExecutorServiceMetrics.monitor(meterRegistry, newBoundedExecutor(poolSize, queueCapacity), PASSWORD_HASHING_EXECUTOR), retryAfter);
+    }
+
+    public PasswordHashingService(ExecutorService passwordHashingExecutor, Duration retryAfter) {
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.retryAfter = retryAfter;
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> hashingTask) {
+        try {
+            return CompletableFuture.supplyAsync(hashingTask, passwordHashingExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingUnavailableException(retryAfter);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        passwordHashingExecutor.shutdown();
+    }
+
+    private static ThreadPoolExecutor newBoundedExecutor(int poolSize, int queueCapacity) {
+        return new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
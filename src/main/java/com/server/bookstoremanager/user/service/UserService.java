@@ -8,11 +8,18 @@ import com.server.bookstoremanager.user.exception.UserNotFoundException;
 import com.server.bookstoremanager.user.mapper.UserMapper;
 import com.server.bookstoremanager.user.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Optional;
-
+import static com.server.bookstoremanager.common.util.ConstraintViolationUtils.isViolationOf;
+import static com.server.bookstoremanager.config.CacheConfig.USERS_CACHE;
 import static com.server.bookstoremanager.user.util.MessageUtils.creationMessage;
 import static com.server.bookstoremanager.user.util.MessageUtils.updatedMessage;
 
@@ -25,45 +32,73 @@ public class UserService {
 
     private PasswordEncoder passwordEncoder;
 
+    private CacheManager cacheManager;
+
+    private TransactionTemplate transactionTemplate;
+
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository,
+                       PasswordEncoder passwordEncoder,
+                       CacheManager cacheManager,
+                       PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    // Passwords are hashed before the transaction starts, so no connection is held while bcrypt runs.
     public MessageDTO create(UserDTO userDTO) {
-        verifyIfExists(userDTO.getEmail(), userDTO.getUsername());
         User userToCreate = userMapper.toModel(userDTO);
         userToCreate.setPassword(passwordEncoder.encode(userToCreate.getPassword()));
-        User createdUser = userRepository.save(userToCreate);
+        User createdUser = transactionTemplate.execute(status -> saveAndVerifyIfExists(userToCreate));
         return creationMessage(createdUser);
     }
 
     public MessageDTO update(Long id, UserDTO userDTO) {
-        User foundUser = verifyAndGetIfExists(id);
-        userDTO.setId(foundUser.getId());
+        String encodedPassword = passwordEncoder.encode(userDTO.getPassword());
+        User updatedUser = transactionTemplate.execute(status -> {
+            User foundUser = verifyAndGetIfExists(id);
+            evictFromCache(foundUser);
+            userDTO.setId(foundUser.getId());
 
-        User userToUpdate = userMapper.toModel(userDTO);
-        userToUpdate.setCreatedDate(foundUser.getCreatedDate());
-        userToUpdate.setPassword(passwordEncoder.encode(userToUpdate.getPassword()));
-        User updatedUser = userRepository.save(userToUpdate);
+            User userToUpdate = userMapper.toModel(userDTO);
+            userToUpdate.setCreatedDate(foundUser.getCreatedDate());
+            userToUpdate.setPassword(encodedPassword);
+            return saveAndVerifyIfExists(userToUpdate);
+        });
         return updatedMessage(updatedUser);
     }
 
+    @Transactional
     public void delete(Long id) {
-        verifyAndGetIfExists(id);
+        User foundUser = verifyAndGetIfExists(id);
         userRepository.deleteById(id);
+        evictFromCache(foundUser);
     }
 
+    @Transactional(readOnly = true)
     public User verifyAndGetUserIfExists(String username) {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException(username));
     }
 
-    private void verifyIfExists(String email, String username) {
-        Optional<User> foundUser = userRepository.findByEmailOrUsername(email, username);
-        if (foundUser.isPresent()) {
-            throw new UserAlreadyExistsException(email, username);
+    private User saveAndVerifyIfExists(User userToSave) {
+        try {
+            return userRepository.saveAndFlush(userToSave);
+        } catch (DataIntegrityViolationException exception) {
+            if (isViolationOf(exception, User.UNIQUE_EMAIL, User.UNIQUE_USERNAME)) {
+                throw new UserAlreadyExistsException(userToSave.getEmail(), userToSave.getUsername());
+            }
+            throw exception;
+        }
+    }
+
+    private void evictFromCache(User user) {
+        Cache usersCache = cacheManager.getCache(USERS_CACHE);
+        if (usersCache != null) {
+            // Deferred until commit, so a concurrent request cannot cache the old row again.
+            new TransactionAwareCacheDecorator(usersCache).evict(user.getUsername());
         }
     }
 
@@ -3,6 +3,7 @@ package com.server.bookstoremanager.author.controller;
 import com.server.bookstoremanager.author.builder.AuthorBuilder;
 import com.server.bookstoremanager.author.dto.AuthorDTO;
 import com.server.bookstoremanager.author.service.AuthorService;
+import com.server.bookstoremanager.common.dto.ResourceVersion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,18 +11,23 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 
 import static com.server.bookstoremanager.util.JsonConversionUtils.asJsonString;
 import static org.hamcrest.core.Is.is;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -85,13 +91,18 @@ public class AuthorControllerTest {
         //given
         AuthorDTO expectedFoundAuthorDTO = authorBuilder.buildAuthorDTO();
 
+        ResourceVersion expectedVersion = new ResourceVersion(expectedFoundAuthorDTO.getId(), LocalDateTime.of(2021, 3, 1, 10, 0));
+
         //when
+        when(authorService.findVersionById(expectedFoundAuthorDTO.getId())).thenReturn(expectedVersion);
         when(authorService.findById(expectedFoundAuthorDTO.getId())).thenReturn(expectedFoundAuthorDTO);
 
         //then
         mockMvc.perform(get(AUTHOR_API_URL_PATH + "/" + expectedFoundAuthorDTO.getId())
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedVersion.getETag()))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, expectedVersion.getLastModified()))
                 .andExpect(jsonPath("$.id", is(expectedFoundAuthorDTO.getId().intValue())))
                 .andExpect(jsonPath("$.name", is(expectedFoundAuthorDTO.getName())))
                 .andExpect(jsonPath("$.age", is(expectedFoundAuthorDTO.getAge())));
@@ -102,18 +113,88 @@ public class AuthorControllerTest {
         //given
         AuthorDTO expectedFoundAuthorDTO = authorBuilder.buildAuthorDTO();
 
+        ResourceVersion expectedVersion = new ResourceVersion(1L, LocalDateTime.of(2021, 3, 1, 10, 0));
+
         //when
+        when(authorService.findAllVersion()).thenReturn(expectedVersion);
         when(authorService.findAll()).thenReturn(Collections.singletonList(expectedFoundAuthorDTO));
 
         //then
         mockMvc.perform(get(AUTHOR_API_URL_PATH)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedVersion.getETag()))
                 .andExpect(jsonPath("$[0].id", is(expectedFoundAuthorDTO.getId().intValue())))
                 .andExpect(jsonPath("$[0].name", is(expectedFoundAuthorDTO.getName())))
                 .andExpect(jsonPath("$[0].age", is(expectedFoundAuthorDTO.getAge())));
     }
 
+    @Test
+    void whenGetWithMatchingETagIsCalledThenNotModifiedShouldBeReturned() throws Exception {
+        //given
+        Long expectedAuthorId = authorBuilder.buildAuthorDTO().getId();
+        ResourceVersion expectedVersion = new ResourceVersion(expectedAuthorId, LocalDateTime.of(2021, 3, 1, 10, 0));
+
+        //when
+        when(authorService.findVersionById(expectedAuthorId)).thenReturn(expectedVersion);
+
+        //then
+        mockMvc.perform(get(AUTHOR_API_URL_PATH + "/" + expectedAuthorId)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedVersion.getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedVersion.getETag()));
+        verify(authorService, never()).findById(expectedAuthorId);
+    }
+
+    @Test
+    void whenGetNotModifiedSinceIsCalledThenNotModifiedShouldBeReturned() throws Exception {
+        //given
+        Long expectedAuthorId = authorBuilder.buildAuthorDTO().getId();
+        ResourceVersion expectedVersion = new ResourceVersion(expectedAuthorId, LocalDateTime.of(2021, 3, 1, 10, 0));
+
+        //when
+        when(authorService.findVersionById(expectedAuthorId)).thenReturn(expectedVersion);
+
+        //then
+        mockMvc.perform(get(AUTHOR_API_URL_PATH + "/" + expectedAuthorId)
+                .header(HttpHeaders.IF_MODIFIED_SINCE, expectedVersion.getLastModified()))
+                .andExpect(status().isNotModified());
+        verify(authorService, never()).findById(expectedAuthorId);
+    }
+
+    @Test
+    void whenGetListWithMatchingETagIsCalledThenNotModifiedShouldBeReturned() throws Exception {
+        //given
+        ResourceVersion expectedVersion = new ResourceVersion(1L, LocalDateTime.of(2021, 3, 1, 10, 0));
+
+        //when
+        when(authorService.findAllVersion()).thenReturn(expectedVersion);
+
+        //then
+        mockMvc.perform(get(AUTHOR_API_URL_PATH)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedVersion.getETag()))
+                .andExpect(status().isNotModified());
+        verify(authorService, never()).findAll();
+    }
+
+    @Test
+    void whenSuggestIsCalledThenStatusOkShouldBeReturned() throws Exception {
+        //given
+        AuthorDTO expectedSuggestedAuthorDTO = authorBuilder.buildAuthorDTO();
+
+        //when
+        when(authorService.suggest("ma", 5)).thenReturn(Collections.singletonList(expectedSuggestedAuthorDTO));
+
+        //then
+        mockMvc.perform(get(AUTHOR_API_URL_PATH + "/suggest")
+                .param("q", "ma")
+                .param("size", "5")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(expectedSuggestedAuthorDTO.getId().intValue())))
+                .andExpect(jsonPath("$[0].name", is(expectedSuggestedAuthorDTO.getName())));
+    }
+
     @Test
     void whenDeleteWithValidIdIsCalledThenNoContentShouldBeReturned() throws Exception {
         //given
@@ -0,0 +1,107 @@
+package com.server.bookstoremanager.author.controller;
+
+import com.server.bookstoremanager.author.builder.AuthorBuilder;
+import com.server.bookstoremanager.author.dto.AuthorDTO;
+import com.server.bookstoremanager.author.service.AuthorReactiveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthorReactiveControllerTest {
+
+    private static final String AUTHOR_API_URL_PATH = "/api/v2/authors";
+
+    @Mock
+    private AuthorReactiveService authorReactiveService;
+
+    @InjectMocks
+    private AuthorReactiveController authorReactiveController;
+
+    private MockMvc mockMvc;
+
+    private AuthorBuilder authorBuilder;
+
+    @BeforeEach
+    void setUp() {
+        authorBuilder = AuthorBuilder.builder().build();
+        mockMvc = MockMvcBuilders.standaloneSetup(authorReactiveController).build();
+    }
+
+    @Test
+    void whenGetWithValidIdIsCalledThenStatusOkShouldBeInformed() throws Exception {
+        //given
+        AuthorDTO expectedFoundAuthorDTO = authorBuilder.buildAuthorDTO();
+
+        //when
+        when(authorReactiveService.findById(expectedFoundAuthorDTO.getId())).thenReturn(Mono.just(expectedFoundAuthorDTO));
+        MvcResult result = mockMvc.perform(get(AUTHOR_API_URL_PATH + "/" + expectedFoundAuthorDTO.getId())
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(expectedFoundAuthorDTO.getId().intValue())))
+                .andExpect(jsonPath("$.name", is(expectedFoundAuthorDTO.getName())))
+                .andExpect(jsonPath("$.age", is(expectedFoundAuthorDTO.getAge())));
+    }
+
+    @Test
+    void whenListAuthorsIsCalledWithNdjsonThenOneAuthorPerLineShouldBeStreamed() throws Exception {
+        //given
+        AuthorDTO expectedFoundAuthorDTO = authorBuilder.buildAuthorDTO();
+
+        //when
+        when(authorReactiveService.findAll()).thenReturn(Flux.just(expectedFoundAuthorDTO, expectedFoundAuthorDTO));
+        MvcResult result = mockMvc.perform(get(AUTHOR_API_URL_PATH)
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        String expectedLine = "{\"id\":1,\"name\":\"Nikolas Lacerda\",\"age\":22}\n";
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(expectedLine + expectedLine));
+    }
+
+    @Test
+    void whenListAuthorsIsCalledWithJsonThenAuthorsShouldBeReturnedAsArray() throws Exception {
+        //given
+        AuthorDTO expectedFoundAuthorDTO = authorBuilder.buildAuthorDTO();
+
+        //when
+        when(authorReactiveService.findAll()).thenReturn(Flux.just(expectedFoundAuthorDTO));
+        MvcResult result = mockMvc.perform(get(AUTHOR_API_URL_PATH)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(expectedFoundAuthorDTO.getId().intValue())))
+                .andExpect(jsonPath("$[0].name", is(expectedFoundAuthorDTO.getName())));
+    }
+}
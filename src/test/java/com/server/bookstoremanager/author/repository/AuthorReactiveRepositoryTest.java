@@ -0,0 +1,91 @@
+package com.server.bookstoremanager.author.repository;
+
+import com.server.bookstoremanager.author.builder.AuthorBuilder;
+import com.server.bookstoremanager.author.dto.AuthorDTO;
+import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.author.mapper.AuthorMapper;
+import com.server.bookstoremanager.config.JpaAuditingConfig;
+import com.server.bookstoremanager.config.R2dbcConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive_authors;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive_authors?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AuthorReactiveRepository.class, R2dbcConfig.class, JpaAuditingConfig.class})
+public class AuthorReactiveRepositoryTest {
+
+    @Autowired
+    private AuthorReactiveRepository authorReactiveRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    private Author firstAuthor;
+
+    private Author secondAuthor;
+
+    @BeforeEach
+    void setUp() {
+        firstAuthor = authorRepository.save(AuthorMapper.INSTANCE.toModel(AuthorBuilder.builder()
+                .id(null)
+                .name("First Author")
+                .build().buildAuthorDTO()));
+        secondAuthor = authorRepository.save(AuthorMapper.INSTANCE.toModel(AuthorBuilder.builder()
+                .id(null)
+                .name("Second Author")
+                .age(40)
+                .build().buildAuthorDTO()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        authorRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void whenExistingAuthorIdIsInformedThenItShouldBeMapped() {
+        //when
+        AuthorDTO foundAuthorDTO = authorReactiveRepository.findById(secondAuthor.getId()).block();
+
+        //then
+        assertThat(foundAuthorDTO, is(equalTo(AuthorMapper.INSTANCE.toDTO(secondAuthor))));
+    }
+
+    @Test
+    void whenNotExistingAuthorIdIsInformedThenNothingShouldBeFound() {
+        //when
+        AuthorDTO foundAuthorDTO = authorReactiveRepository.findById(secondAuthor.getId() + 1).block();
+
+        //then
+        assertThat(foundAuthorDTO, is(nullValue()));
+    }
+
+    @Test
+    void whenListAuthorsIsCalledThenAllAuthorsShouldBeEmittedInIdOrder() {
+        //when
+        List<AuthorDTO> foundAuthorsDTO = authorReactiveRepository.findAll().collectList().block();
+
+        //then
+        assertThat(foundAuthorsDTO, is(equalTo(List.of(
+                AuthorMapper.INSTANCE.toDTO(firstAuthor),
+                AuthorMapper.INSTANCE.toDTO(secondAuthor)))));
+    }
+}
@@ -0,0 +1,73 @@
+package com.server.bookstoremanager.author.service;
+
+import com.server.bookstoremanager.author.builder.AuthorBuilder;
+import com.server.bookstoremanager.author.dto.AuthorDTO;
+import com.server.bookstoremanager.author.exception.AuthorNotFoundException;
+import com.server.bookstoremanager.author.repository.AuthorReactiveRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthorReactiveServiceTest {
+
+    private final AuthorBuilder authorBuilder = AuthorBuilder.builder().build();
+
+    @Mock
+    private AuthorReactiveRepository authorReactiveRepository;
+
+    @InjectMocks
+    private AuthorReactiveService authorReactiveService;
+
+    @Test
+    void whenExistingAuthorIdIsInformedThenItShouldBeEmitted() {
+        //given
+        AuthorDTO expectedFoundAuthorDTO = authorBuilder.buildAuthorDTO();
+
+        //when
+        when(authorReactiveRepository.findById(expectedFoundAuthorDTO.getId())).thenReturn(Mono.just(expectedFoundAuthorDTO));
+        AuthorDTO foundAuthorDTO = authorReactiveService.findById(expectedFoundAuthorDTO.getId()).block();
+
+        //then
+        assertThat(foundAuthorDTO, is(equalTo(expectedFoundAuthorDTO)));
+    }
+
+    @Test
+    void whenNotExistingAuthorIdIsInformedThenAnErrorShouldBeEmitted() {
+        //given
+        Long expectedAuthorId = 2L;
+
+        //when
+        when(authorReactiveRepository.findById(expectedAuthorId)).thenReturn(Mono.empty());
+        Mono<AuthorDTO> foundAuthor = authorReactiveService.findById(expectedAuthorId);
+
+        //then
+        assertThrows(AuthorNotFoundException.class, foundAuthor::block);
+    }
+
+    @Test
+    void whenListAuthorsIsCalledThenAllAuthorsShouldBeEmitted() {
+        //given
+        AuthorDTO expectedFoundAuthorDTO = authorBuilder.buildAuthorDTO();
+
+        //when
+        when(authorReactiveRepository.findAll()).thenReturn(Flux.just(expectedFoundAuthorDTO));
+        List<AuthorDTO> foundAuthorsDTO = authorReactiveService.findAll().collectList().block();
+
+        //then
+        assertThat(foundAuthorsDTO, is(equalTo(Collections.singletonList(expectedFoundAuthorDTO))));
+    }
+}
@@ -0,0 +1,117 @@
+package com.server.bookstoremanager.author.service;
+
+import com.server.bookstoremanager.author.builder.AuthorBuilder;
+import com.server.bookstoremanager.author.dto.AuthorDTO;
+import com.server.bookstoremanager.common.dto.ResourceVersion;
+import com.server.bookstoremanager.config.CacheConfig;
+import com.server.bookstoremanager.config.JpaAuditingConfig;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({AuthorService.class, AuthorSuggestionIndex.class, CacheConfig.class, JpaAuditingConfig.class})
+public class AuthorServiceCacheTest {
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+
+    private AuthorDTO createdAuthorDTO;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+        createdAuthorDTO = authorService.create(AuthorBuilder.builder().id(null).build().buildAuthorDTO());
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void whenAuthorIsSearchedByIdTwiceThenDatabaseShouldBeQueriedOnce() {
+        //when
+        authorService.verifyAndGetIfExists(createdAuthorDTO.getId());
+        AuthorDTO foundAuthorDTO = authorService.findById(createdAuthorDTO.getId());
+
+        //then
+        assertThat(foundAuthorDTO, is(equalTo(createdAuthorDTO)));
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(1L)));
+    }
+
+    @Test
+    void whenAuthorsAreListedTwiceThenDatabaseShouldBeQueriedOnce() {
+        //when
+        authorService.findAll();
+        List<AuthorDTO> foundAuthors = authorService.findAll();
+
+        //then
+        assertThat(foundAuthors.size(), is(1));
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(1L)));
+    }
+
+    @Test
+    void whenAuthorsVersionIsReadWithTheListThenBothShouldStayCached() {
+        //when
+        ResourceVersion firstVersion = authorService.findAllVersion();
+        authorService.findAll();
+        ResourceVersion secondVersion = authorService.findAllVersion();
+        authorService.findAll();
+
+        //then
+        assertThat(secondVersion, is(equalTo(firstVersion)));
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(2L)));
+    }
+
+    @Test
+    void whenAuthorIsDeletedThenAuthorsVersionShouldChange() {
+        //given
+        ResourceVersion versionBeforeDelete = authorService.findAllVersion();
+
+        //when
+        authorService.delete(createdAuthorDTO.getId());
+
+        //then
+        assertThat(authorService.findAllVersion().getETag().equals(versionBeforeDelete.getETag()), is(false));
+    }
+
+    @Test
+    void whenAuthorIsDeletedThenCachedAuthorsShouldBeEvicted() {
+        //given
+        authorService.findAll();
+        authorService.verifyAndGetIfExists(createdAuthorDTO.getId());
+
+        //when
+        authorService.delete(createdAuthorDTO.getId());
+
+        //then
+        assertThat(authorService.findAll().isEmpty(), is(true));
+        assertThat(authorService.findAllByIds(List.of(createdAuthorDTO.getId())).isEmpty(), is(true));
+        assertThat(cacheManager.getCache("authors").get(createdAuthorDTO.getId()), is(equalTo(null)));
+    }
+}
@@ -8,13 +8,18 @@ import com.server.bookstoremanager.author.exception.AuthorAlreadyExistsException
 import com.server.bookstoremanager.author.exception.AuthorNotFoundException;
 import com.server.bookstoremanager.author.mapper.AuthorMapper;
 import com.server.bookstoremanager.author.repository.AuthorRepository;
+import com.server.bookstoremanager.common.dto.ResourceVersion;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +38,9 @@ public class AuthorServiceTest {
     @Mock
     private AuthorRepository authorRepository;
 
+    @Mock
+    private AuthorSuggestionIndex authorSuggestionIndex;
+
     @InjectMocks
     private AuthorService authorService;
 
@@ -50,12 +58,12 @@ public class AuthorServiceTest {
         Author expectedCreatedAuthor = authorMapper.toModel(expectedAuthorToCreatedDTO);
 
         //when
-        when(authorRepository.save(expectedCreatedAuthor)).thenReturn(expectedCreatedAuthor);
-        when(authorRepository.findByName(expectedCreatedAuthor.getName())).thenReturn(Optional.empty());
+        when(authorRepository.saveAndFlush(expectedCreatedAuthor)).thenReturn(expectedCreatedAuthor);
         AuthorDTO createdAuthorDTO = authorService.create(expectedAuthorToCreatedDTO);
 
         //then
         assertThat(createdAuthorDTO, is(equalTo(expectedAuthorToCreatedDTO)));
+        verify(authorSuggestionIndex, times(1)).put(createdAuthorDTO);
     }
 
     @Test
@@ -65,10 +73,11 @@ public class AuthorServiceTest {
         Author expectedCreatedAuthor = authorMapper.toModel(expectedAuthorToCreatedDTO);
 
         //when
-        when(authorRepository.findByName(expectedCreatedAuthor.getName())).thenReturn(Optional.of(expectedCreatedAuthor));
+        when(authorRepository.saveAndFlush(expectedCreatedAuthor)).thenThrow(constraintViolation(Author.UNIQUE_NAME));
 
         //then
         assertThrows(AuthorAlreadyExistsException.class, () -> authorService.create(expectedAuthorToCreatedDTO));
+        verify(authorSuggestionIndex, never()).put(any());
     }
 
     @Test
@@ -97,14 +106,39 @@ public class AuthorServiceTest {
         assertThrows(AuthorNotFoundException.class, () -> authorService.findById(expectedFoundAuthorDTO.getId()));
     }
 
+    @Test
+    void whenValidIdIsGivenThenAuthorVersionShouldBeReturned() {
+        //given
+        Author expectedFoundAuthor = authorMapper.toModel(authorBuilder.buildAuthorDTO());
+        expectedFoundAuthor.setLastModified(LocalDateTime.now());
+
+        //when
+        when(authorRepository.findById(expectedFoundAuthor.getId())).thenReturn(Optional.of(expectedFoundAuthor));
+        ResourceVersion foundVersion = authorService.findVersionById(expectedFoundAuthor.getId());
+
+        //then
+        assertThat(foundVersion, is(equalTo(new ResourceVersion(expectedFoundAuthor.getId(), expectedFoundAuthor.getLastModified()))));
+    }
+
+    @Test
+    void whenInvalidIdIsGivenForVersionThenAnExceptionShouldBeThrown() {
+        //given
+        Long expectedAuthorId = authorBuilder.buildAuthorDTO().getId();
+
+        //when
+        when(authorRepository.findById(expectedAuthorId)).thenReturn(Optional.empty());
+
+        //then
+        assertThrows(AuthorNotFoundException.class, () -> authorService.findVersionById(expectedAuthorId));
+    }
+
     @Test
     void whenListAuthorsIsCalledThenItShouldBeReturned() {
         //given
         AuthorDTO expectedFoundAuthorDTO = authorBuilder.buildAuthorDTO();
-        Author expectedFoundAuthor = authorMapper.toModel(expectedFoundAuthorDTO);
 
         //when
-        when(authorRepository.findAll()).thenReturn(Collections.singletonList(expectedFoundAuthor));
+        when(authorRepository.findAllDTOs()).thenReturn(Collections.singletonList(expectedFoundAuthorDTO));
         List<AuthorDTO> foundAuthorsDTO = authorService.findAll();
 
         //then
@@ -115,7 +149,7 @@ public class AuthorServiceTest {
     @Test
     void whenListAuthorsIsCalledThenEmptyListShouldBeReturned() {
         //when
-        when(authorRepository.findAll()).thenReturn(Collections.EMPTY_LIST);
+        when(authorRepository.findAllDTOs()).thenReturn(Collections.EMPTY_LIST);
         List<AuthorDTO> foundAuthorsDTO = authorService.findAll();
 
         //then
@@ -136,6 +170,7 @@ public class AuthorServiceTest {
 
         //then
         verify(authorRepository, times(1)).deleteById(expectedDeletedAuthorId);
+        verify(authorSuggestionIndex, times(1)).remove(expectedDeletedAuthorId);
         verify(authorRepository, times(1)).findById(expectedDeletedAuthorId);
     }
 
@@ -150,4 +185,23 @@ public class AuthorServiceTest {
         //then
         assertThrows(AuthorNotFoundException.class, () -> authorService.delete(expectedInvalidAuthorId));
     }
+
+    @Test
+    void whenSuggestIsCalledThenSizeShouldBeLimited() {
+        //given
+        AuthorDTO expectedSuggestedAuthorDTO = authorBuilder.buildAuthorDTO();
+
+        //when
+        when(authorSuggestionIndex.suggest("ma", AuthorService.MAX_SUGGESTIONS))
+                .thenReturn(Collections.singletonList(expectedSuggestedAuthorDTO));
+        List<AuthorDTO> suggestedAuthorsDTO = authorService.suggest("ma", 1000);
+
+        //then
+        assertThat(suggestedAuthorsDTO, is(equalTo(Collections.singletonList(expectedSuggestedAuthorDTO))));
+    }
+
+    private DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+    }
 }
@@ -0,0 +1,68 @@
+package com.server.bookstoremanager.author.service;
+
+import com.server.bookstoremanager.author.builder.AuthorBuilder;
+import com.server.bookstoremanager.author.dto.AuthorDTO;
+import com.server.bookstoremanager.author.repository.AuthorRepository;
+import com.server.bookstoremanager.config.CacheConfig;
+import com.server.bookstoremanager.config.JpaAuditingConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AuthorService.class, AuthorSuggestionIndex.class, CacheConfig.class, JpaAuditingConfig.class})
+public class AuthorServiceTransactionTest {
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private AuthorSuggestionIndex authorSuggestionIndex;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final AuthorDTO authorToCreate = AuthorBuilder.builder().id(null).build().buildAuthorDTO();
+
+    @AfterEach
+    void tearDown() {
+        authorRepository.deleteAllInBatch();
+        authorSuggestionIndex.rebuild();
+    }
+
+    @Test
+    void whenAuthorIsCreatedThenItShouldBeSuggested() {
+        //when
+        AuthorDTO createdAuthorDTO = authorService.create(authorToCreate);
+
+        //then
+        assertThat(authorSuggestionIndex.suggest(authorToCreate.getName(), 10), is(equalTo(List.of(createdAuthorDTO))));
+    }
+
+    @Test
+    void whenAuthorCreateRollsBackThenItShouldNotBeSuggested() {
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            authorService.create(authorToCreate);
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(authorSuggestionIndex.suggest(authorToCreate.getName(), 10).isEmpty(), is(true));
+    }
+}
@@ -2,9 +2,20 @@ package com.server.bookstoremanager.book.controller;
 
 import com.server.bookstoremanager.book.builder.BookRequestBuilder;
 import com.server.bookstoremanager.book.builder.BookResponseBuilder;
+import com.server.bookstoremanager.book.dto.BookImportReportDTO;
+import com.server.bookstoremanager.book.dto.BookImportResultDTO;
+import com.server.bookstoremanager.book.dto.BookPageDTO;
+import com.server.bookstoremanager.book.dto.BookReferenceDTO;
 import com.server.bookstoremanager.book.dto.BookRequestDTO;
 import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.dto.NormalizedBookPageDTO;
+import com.server.bookstoremanager.book.enums.BookExportFormat;
+import com.server.bookstoremanager.book.enums.BookImportStatus;
+import com.server.bookstoremanager.book.enums.BookSort;
+import com.server.bookstoremanager.book.service.BookExportService;
+import com.server.bookstoremanager.book.service.BookImportService;
 import com.server.bookstoremanager.book.service.BookService;
+import com.server.bookstoremanager.common.dto.ResourceVersion;
 import com.server.bookstoremanager.user.dto.AuthenticatedUser;
 import com.server.bookstoremanager.util.JsonConversionUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,19 +25,26 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -38,6 +56,12 @@ public class BookControllerTest {
     @Mock
     private BookService bookService;
 
+    @Mock
+    private BookExportService bookExportService;
+
+    @Mock
+    private BookImportService bookImportService;
+
     @InjectMocks
     private BookController bookController;
 
@@ -96,35 +120,192 @@ public class BookControllerTest {
         BookRequestDTO expectedBookToFindDTO = bookRequestDTOBuilder.buildRequestBookDTO();
         BookResponseDTO expectedFoundBookDTO = bookResponseDTOBuilder.buildBookResponseDTO();
 
+        ResourceVersion expectedVersion = new ResourceVersion(expectedBookToFindDTO.getId(), LocalDateTime.of(2021, 3, 1, 10, 0));
+
         //when
+        when(bookService.findVersionByIdAndUser(any(AuthenticatedUser.class), eq(expectedBookToFindDTO.getId()))).thenReturn(expectedVersion);
         when(bookService.findByIdAndUser(any(AuthenticatedUser.class), eq(expectedBookToFindDTO.getId()))).thenReturn(expectedFoundBookDTO);
 
         //then
         mockMvc.perform(get(BOOKS_API_URL_PATH + "/" + expectedBookToFindDTO.getId())
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedVersion.getETag()))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, expectedVersion.getLastModified()))
                 .andExpect(jsonPath("$.id", is(expectedFoundBookDTO.getId().intValue())))
                 .andExpect(jsonPath("$.name", is(expectedFoundBookDTO.getName())))
                 .andExpect(jsonPath("$.isbn", is(expectedFoundBookDTO.getIsbn())));
     }
 
+    @Test
+    void whenGetByIsbnIsCalledThenStatusOkShouldBeInformed() throws Exception {
+        //given
+        BookResponseDTO expectedFoundBookDTO = bookResponseDTOBuilder.buildBookResponseDTO();
+
+        //when
+        when(bookService.findAllByUserAndIsbn(any(AuthenticatedUser.class), eq(expectedFoundBookDTO.getIsbn())))
+                .thenReturn(Collections.singletonList(expectedFoundBookDTO));
+
+        //then
+        mockMvc.perform(get(BOOKS_API_URL_PATH + "/isbn/" + expectedFoundBookDTO.getIsbn())
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(expectedFoundBookDTO.getId().intValue())))
+                .andExpect(jsonPath("$[0].isbn", is(expectedFoundBookDTO.getIsbn())));
+    }
+
+    @Test
+    void whenSearchIsCalledThenStatusOkShouldBeInformed() throws Exception {
+        //given
+        BookResponseDTO expectedFoundBookDTO = bookResponseDTOBuilder.buildBookResponseDTO();
+
+        //when
+        when(bookService.searchByUser(any(AuthenticatedUser.class), eq("spring pro"), eq(5)))
+                .thenReturn(Collections.singletonList(expectedFoundBookDTO));
+
+        //then
+        mockMvc.perform(get(BOOKS_API_URL_PATH + "/search")
+                .param("q", "spring pro")
+                .param("size", "5")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(expectedFoundBookDTO.getId().intValue())))
+                .andExpect(jsonPath("$[0].name", is(expectedFoundBookDTO.getName())));
+    }
+
     @Test
     void whenGetListIsCalledThenStatusOkShouldBeInformed() throws Exception {
         //given
         BookRequestDTO expectedBookToFind = bookRequestDTOBuilder.buildRequestBookDTO();
         BookResponseDTO expectedCreatedBookDTO = bookResponseDTOBuilder.buildBookResponseDTO();
 
+        ResourceVersion expectedVersion = new ResourceVersion(1L, LocalDateTime.of(2021, 3, 1, 10, 0));
+
         //when
-        when(bookService.findAllByUser(any(AuthenticatedUser.class)))
-                .thenReturn(Collections.singletonList(expectedCreatedBookDTO));
+        when(bookService.findVersionByUser(any(AuthenticatedUser.class))).thenReturn(expectedVersion);
+        when(bookService.findAllByUser(any(AuthenticatedUser.class), eq("nextCursor"), eq(10), eq(BookSort.NAME_DESC)))
+                .thenReturn(new BookPageDTO(Collections.singletonList(expectedCreatedBookDTO), "otherCursor"));
 
         //then
         mockMvc.perform(get(BOOKS_API_URL_PATH)
+                .param("cursor", "nextCursor")
+                .param("size", "10")
+                .param("sort", "NAME_DESC")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id", is(expectedBookToFind.getId().intValue())))
-                .andExpect(jsonPath("$[0].name", is(expectedBookToFind.getName())))
-                .andExpect(jsonPath("$[0].isbn", is(expectedBookToFind.getIsbn())));
+                .andExpect(header().string(HttpHeaders.ETAG, expectedVersion.getETag()))
+                .andExpect(jsonPath("$.books[0].id", is(expectedBookToFind.getId().intValue())))
+                .andExpect(jsonPath("$.books[0].name", is(expectedBookToFind.getName())))
+                .andExpect(jsonPath("$.books[0].isbn", is(expectedBookToFind.getIsbn())))
+                .andExpect(jsonPath("$.nextCursor", is("otherCursor")));
+    }
+
+    @Test
+    void whenGetWithMatchingETagIsCalledThenNotModifiedShouldBeInformed() throws Exception {
+        //given
+        Long expectedBookId = bookRequestDTOBuilder.buildRequestBookDTO().getId();
+        ResourceVersion expectedVersion = new ResourceVersion(expectedBookId, LocalDateTime.of(2021, 3, 1, 10, 0));
+
+        //when
+        when(bookService.findVersionByIdAndUser(any(AuthenticatedUser.class), eq(expectedBookId))).thenReturn(expectedVersion);
+
+        //then
+        mockMvc.perform(get(BOOKS_API_URL_PATH + "/" + expectedBookId)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedVersion.getETag()))
+                .andExpect(status().isNotModified());
+        verify(bookService, never()).findByIdAndUser(any(AuthenticatedUser.class), eq(expectedBookId));
+    }
+
+    @Test
+    void whenGetListWithMatchingETagIsCalledThenNotModifiedShouldBeInformed() throws Exception {
+        //given
+        ResourceVersion expectedVersion = new ResourceVersion(1L, LocalDateTime.of(2021, 3, 1, 10, 0));
+
+        //when
+        when(bookService.findVersionByUser(any(AuthenticatedUser.class))).thenReturn(expectedVersion);
+
+        //then
+        mockMvc.perform(get(BOOKS_API_URL_PATH)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedVersion.getETag()))
+                .andExpect(status().isNotModified());
+        verify(bookService, never()).findAllByUser(any(AuthenticatedUser.class), any(), anyInt(), any(BookSort.class));
+    }
+
+    @Test
+    void whenNormalizedListIsRequestedThenAuthorsAndPublishersShouldBeReferencedById() throws Exception {
+        //given
+        BookResponseDTO expectedFoundBookDTO = bookResponseDTOBuilder.buildBookResponseDTO();
+        BookReferenceDTO expectedBookReference = new BookReferenceDTO(expectedFoundBookDTO.getId(), expectedFoundBookDTO.getName(),
+                expectedFoundBookDTO.getIsbn(), expectedFoundBookDTO.getPages(), expectedFoundBookDTO.getChapters(),
+                expectedFoundBookDTO.getAuthor().getId(), expectedFoundBookDTO.getPublisher().getId());
+        NormalizedBookPageDTO expectedPage = new NormalizedBookPageDTO(Collections.singletonList(expectedBookReference),
+                Collections.singletonList(expectedFoundBookDTO.getAuthor()), Collections.singletonList(expectedFoundBookDTO.getPublisher()), null);
+        ResourceVersion expectedVersion = new ResourceVersion(1L, LocalDateTime.of(2021, 3, 1, 10, 0));
+
+        //when
+        when(bookService.findVersionByUser(any(AuthenticatedUser.class))).thenReturn(expectedVersion);
+        when(bookService.findNormalizedByUser(any(AuthenticatedUser.class), eq(null), eq(20), eq(BookSort.ID_ASC))).thenReturn(expectedPage);
+
+        //then
+        mockMvc.perform(get(BOOKS_API_URL_PATH)
+                .accept(NormalizedBookPageDTO.MEDIA_TYPE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(NormalizedBookPageDTO.MEDIA_TYPE_VALUE))
+                .andExpect(header().string(HttpHeaders.ETAG, expectedVersion.getETag("vnd.bookstore.normalized+json")))
+                .andExpect(jsonPath("$.books[0].authorId", is(expectedFoundBookDTO.getAuthor().getId().intValue())))
+                .andExpect(jsonPath("$.books[0].publisherId", is(expectedFoundBookDTO.getPublisher().getId().intValue())))
+                .andExpect(jsonPath("$.authors[0].name", is(expectedFoundBookDTO.getAuthor().getName())))
+                .andExpect(jsonPath("$.publishers[0].name", is(expectedFoundBookDTO.getPublisher().getName())));
+    }
+
+    @Test
+    void whenCborListIsRequestedWithJsonETagThenCborRepresentationShouldBeInformed() throws Exception {
+        //given
+        BookResponseDTO expectedFoundBookDTO = bookResponseDTOBuilder.buildBookResponseDTO();
+        ResourceVersion expectedVersion = new ResourceVersion(1L, LocalDateTime.of(2021, 3, 1, 10, 0));
+
+        //when
+        when(bookService.findVersionByUser(any(AuthenticatedUser.class))).thenReturn(expectedVersion);
+        when(bookService.findAllByUser(any(AuthenticatedUser.class), eq(null), eq(20), eq(BookSort.ID_ASC)))
+                .thenReturn(new BookPageDTO(Collections.singletonList(expectedFoundBookDTO), null));
+
+        //then
+        mockMvc.perform(get(BOOKS_API_URL_PATH)
+                .accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedVersion.getETag()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, expectedVersion.getETag("cbor")))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    }
+
+    @Test
+    void whenExportIsCalledThenStatusOkWithFormatContentTypeShouldBeInformed() throws Exception {
+        //then
+        mockMvc.perform(get(BOOKS_API_URL_PATH + "/export")
+                .param("format", "CSV"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"));
+        verify(bookExportService).exportAllByUser(any(AuthenticatedUser.class), eq(BookExportFormat.CSV), any());
+    }
+
+    @Test
+    void whenImportIsCalledThenImportReportShouldBeInformed() throws Exception {
+        //given
+        BookRequestDTO expectedBookToImportDTO = bookRequestDTOBuilder.buildRequestBookDTO();
+        BookImportReportDTO expectedImportReport = new BookImportReportDTO(1, 0, Collections.singletonList(
+                new BookImportResultDTO(0, BookImportStatus.CREATED, 1L, Collections.emptyList())));
+
+        //when
+        when(bookImportService.importAllByUser(any(AuthenticatedUser.class), any())).thenReturn(expectedImportReport);
+
+        //then
+        mockMvc.perform(post(BOOKS_API_URL_PATH + "/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(JsonConversionUtils.asJsonString(expectedBookToImportDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.results[0].status", is(BookImportStatus.CREATED.name())));
     }
 
     @Test
@@ -0,0 +1,110 @@
+package com.server.bookstoremanager.book.controller;
+
+import com.server.bookstoremanager.book.builder.BookResponseBuilder;
+import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.service.BookReactiveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class BookReactiveControllerTest {
+
+    private static final String BOOKS_API_URL_PATH = "/api/v2/books";
+
+    @Mock
+    private BookReactiveService bookReactiveService;
+
+    @InjectMocks
+    private BookReactiveController bookReactiveController;
+
+    private MockMvc mockMvc;
+
+    private BookResponseBuilder bookResponseDTOBuilder;
+
+    @BeforeEach
+    void setUp() {
+        bookResponseDTOBuilder = BookResponseBuilder.builder().build();
+        mockMvc = MockMvcBuilders.standaloneSetup(bookReactiveController).build();
+    }
+
+    @Test
+    void whenGetWithValidIdIsCalledThenStatusOkShouldBeInformed() throws Exception {
+        //given
+        BookResponseDTO expectedFoundBookDTO = bookResponseDTOBuilder.buildBookResponseDTO();
+
+        //when
+        when(bookReactiveService.findByIdAndUser(any(), eq(expectedFoundBookDTO.getId()))).thenReturn(Mono.just(expectedFoundBookDTO));
+        MvcResult result = mockMvc.perform(get(BOOKS_API_URL_PATH + "/" + expectedFoundBookDTO.getId())
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(expectedFoundBookDTO.getId().intValue())))
+                .andExpect(jsonPath("$.name", is(expectedFoundBookDTO.getName())));
+    }
+
+    @Test
+    void whenListBooksIsCalledWithNdjsonThenOneBookPerLineShouldBeStreamed() throws Exception {
+        //given
+        BookResponseDTO expectedFoundBookDTO = bookResponseDTOBuilder.buildBookResponseDTO();
+
+        //when
+        when(bookReactiveService.findAllByUser(any(), isNull())).thenReturn(Flux.just(expectedFoundBookDTO, expectedFoundBookDTO));
+        MvcResult result = mockMvc.perform(get(BOOKS_API_URL_PATH)
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(containsString("}}\n{\"id\":" + expectedFoundBookDTO.getId() + ",")));
+    }
+
+    @Test
+    void whenListBooksIsCalledWithJsonThenBooksShouldBeReturnedAsArray() throws Exception {
+        //given
+        BookResponseDTO expectedFoundBookDTO = bookResponseDTOBuilder.buildBookResponseDTO();
+
+        //when
+        when(bookReactiveService.findAllByUser(any(), eq(10L))).thenReturn(Flux.just(expectedFoundBookDTO));
+        MvcResult result = mockMvc.perform(get(BOOKS_API_URL_PATH)
+                .param("afterId", "10")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(expectedFoundBookDTO.getId().intValue())))
+                .andExpect(jsonPath("$[0].isbn", is(expectedFoundBookDTO.getIsbn())));
+    }
+}
@@ -0,0 +1,169 @@
+package com.server.bookstoremanager.book.repository;
+
+import com.server.bookstoremanager.author.builder.AuthorBuilder;
+import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.author.mapper.AuthorMapper;
+import com.server.bookstoremanager.book.builder.BookRequestBuilder;
+import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.mapper.BookMapper;
+import com.server.bookstoremanager.config.JpaAuditingConfig;
+import com.server.bookstoremanager.config.R2dbcConfig;
+import com.server.bookstoremanager.publisher.builder.PublisherBuilder;
+import com.server.bookstoremanager.publisher.entity.Publisher;
+import com.server.bookstoremanager.publisher.mapper.PublisherMapper;
+import com.server.bookstoremanager.user.builder.UserBuilder;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.mapper.UserMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive_books;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive_books?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({BookReactiveRepository.class, R2dbcConfig.class, JpaAuditingConfig.class})
+public class BookReactiveRepositoryTest {
+
+    private static final long ISBN_13 = 9783161484100L;
+
+    private static final String OTHER_ISBN = "978-0-306-40615-7";
+
+    @Autowired
+    private BookReactiveRepository bookReactiveRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    private Author author;
+
+    private Publisher publisher;
+
+    private Book firstBook;
+
+    private Book secondBook;
+
+    private Book otherUserBook;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            user = persist(UserMapper.INSTANCE.toModel(UserBuilder.builder().id(null).build().buildUserDTO()));
+            User otherUser = persist(UserMapper.INSTANCE.toModel(UserBuilder.builder()
+                    .id(null)
+                    .username("other")
+                    .email("other@teste.com")
+                    .build().buildUserDTO()));
+            author = persist(AuthorMapper.INSTANCE.toModel(AuthorBuilder.builder().id(null).build().buildAuthorDTO()));
+            publisher = persist(PublisherMapper.INSTANCE.toModel(PublisherBuilder.builder().id(null).build().buildPublisherDTO()));
+
+            firstBook = persist(book(user, "First Book", BookRequestBuilder.builder().build().buildRequestBookDTO().getIsbn()));
+            secondBook = persist(book(user, "Second Book", OTHER_ISBN));
+            otherUserBook = persist(book(otherUser, "Other User Book", OTHER_ISBN));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("delete from Book").executeUpdate();
+            entityManager.createQuery("delete from User").executeUpdate();
+            entityManager.createQuery("delete from Author").executeUpdate();
+            entityManager.createQuery("delete from Publisher").executeUpdate();
+        });
+    }
+
+    @Test
+    void whenBookIsFoundByIdAndUsernameThenAuthorAndPublisherShouldBeMapped() {
+        //when
+        BookResponseDTO foundBook = bookReactiveRepository.findByIdAndUsername(firstBook.getId(), user.getUsername()).block();
+
+        //then
+        assertThat(foundBook.getId(), is(equalTo(firstBook.getId())));
+        assertThat(foundBook.getName(), is(equalTo(firstBook.getName())));
+        assertThat(foundBook.getIsbn(), is(equalTo(firstBook.getIsbn())));
+        assertThat(foundBook.getPages(), is(equalTo(firstBook.getPages())));
+        assertThat(foundBook.getChapters(), is(equalTo(firstBook.getChapters())));
+        assertThat(foundBook.getAuthor().getId(), is(equalTo(author.getId())));
+        assertThat(foundBook.getAuthor().getName(), is(equalTo(author.getName())));
+        assertThat(foundBook.getAuthor().getAge(), is(equalTo(author.getAge())));
+        assertThat(foundBook.getPublisher().getId(), is(equalTo(publisher.getId())));
+        assertThat(foundBook.getPublisher().getCode(), is(equalTo(publisher.getCode())));
+        assertThat(foundBook.getPublisher().getFoundationDate(), is(equalTo(LocalDate.of(2020, 6, 1))));
+    }
+
+    @Test
+    void whenBookOfAnotherUserIsSearchedByIdThenNothingShouldBeFound() {
+        //when
+        BookResponseDTO foundBook = bookReactiveRepository.findByIdAndUsername(otherUserBook.getId(), user.getUsername()).block();
+
+        //then
+        assertThat(foundBook, is(nullValue()));
+    }
+
+    @Test
+    void whenBooksAreListedAfterAnIdThenOnlyLaterBooksOfTheUserShouldBeReturnedInIdOrder() {
+        //when
+        List<Long> allIds = ids(bookReactiveRepository.findAllByUsernameAfterId(user.getUsername(), 0L).collectList().block());
+        List<Long> idsAfterFirst = ids(bookReactiveRepository.findAllByUsernameAfterId(user.getUsername(), firstBook.getId()).collectList().block());
+
+        //then
+        assertThat(allIds, is(equalTo(List.of(firstBook.getId(), secondBook.getId()))));
+        assertThat(idsAfterFirst, is(equalTo(List.of(secondBook.getId()))));
+    }
+
+    @Test
+    void whenBooksAreSearchedByIsbn13ThenOnlyMatchingBooksOfTheUserShouldBeReturned() {
+        //when
+        List<Long> foundIds = ids(bookReactiveRepository.findAllByUsernameAndIsbn13(user.getUsername(), ISBN_13).collectList().block());
+
+        //then
+        assertThat(foundIds, is(equalTo(List.of(firstBook.getId()))));
+    }
+
+    private Book book(User owner, String name, String isbn) {
+        Book book = BookMapper.INSTANCE.toModel(BookRequestBuilder.builder()
+                .id(null)
+                .name(name)
+                .isbn(isbn)
+                .build().buildRequestBookDTO());
+        book.setUser(owner);
+        book.setAuthor(author);
+        book.setPublisher(publisher);
+        return book;
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private List<Long> ids(List<BookResponseDTO> books) {
+        return books.stream().map(BookResponseDTO::getId).collect(Collectors.toList());
+    }
+}
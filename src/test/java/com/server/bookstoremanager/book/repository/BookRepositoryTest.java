@@ -0,0 +1,322 @@
+package com.server.bookstoremanager.book.repository;
+
+import com.server.bookstoremanager.author.builder.AuthorBuilder;
+import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.author.mapper.AuthorMapper;
+import com.server.bookstoremanager.book.builder.BookRequestBuilder;
+import com.server.bookstoremanager.book.dto.BookIsbnEntry;
+import com.server.bookstoremanager.book.dto.BookNameAndIsbn;
+import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.enums.BookSort;
+import com.server.bookstoremanager.book.mapper.BookMapper;
+import com.server.bookstoremanager.common.dto.ResourceVersion;
+import com.server.bookstoremanager.config.JpaAuditingConfig;
+import com.server.bookstoremanager.publisher.builder.PublisherBuilder;
+import com.server.bookstoremanager.publisher.entity.Publisher;
+import com.server.bookstoremanager.publisher.mapper.PublisherMapper;
+import com.server.bookstoremanager.user.builder.UserBuilder;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.mapper.UserMapper;
+import com.server.bookstoremanager.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(JpaAuditingConfig.class)
+public class BookRepositoryTest {
+
+    private static final int BOOKS_TO_CREATE = 5;
+
+    private static final long EXPECTED_ISBN_13 = 9783161484100L;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private String username;
+
+    private Long bookId;
+
+    @BeforeEach
+    void setUp() {
+        User user = UserMapper.INSTANCE.toModel(UserBuilder.builder().id(null).build().buildUserDTO());
+        username = testEntityManager.persist(user).getUsername();
+
+        for (int i = 0; i < BOOKS_TO_CREATE; i++) {
+            Author author = AuthorMapper.INSTANCE.toModel(AuthorBuilder.builder()
+                    .id(null)
+                    .name("Author " + i)
+                    .build().buildAuthorDTO());
+            Publisher publisher = PublisherMapper.INSTANCE.toModel(PublisherBuilder.builder()
+                    .id(null)
+                    .name("Publisher " + i)
+                    .code("code" + i)
+                    .build().buildPublisherDTO());
+            Book book = BookMapper.INSTANCE.toModel(BookRequestBuilder.builder()
+                    .id(null)
+                    .name("Book " + i)
+                    .build().buildRequestBookDTO());
+            book.setUser(user);
+            book.setAuthor(testEntityManager.persist(author));
+            book.setPublisher(testEntityManager.persist(publisher));
+            bookId = testEntityManager.persist(book).getId();
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void whenBookIdPageIsLoadedThenIdsShouldBeReturnedInSortOrder() {
+        //given
+        User foundUser = userRepository.findByUsername(username).orElseThrow();
+
+        //when
+        List<Long> foundBookIds = bookRepository.findIdsByUser(foundUser, PageRequest.of(0, 10, BookSort.NAME_DESC.getSort()));
+
+        //then
+        assertThat(foundBookIds.size(), is(BOOKS_TO_CREATE));
+        assertThat(foundBookIds.get(0), is(equalTo(bookId)));
+    }
+
+    @Test
+    void whenBookIdPageAfterNameCursorIsLoadedThenFollowingIdsShouldBeReturned() {
+        //given
+        User foundUser = userRepository.findByUsername(username).orElseThrow();
+
+        //when
+        List<Long> foundBookIds = bookRepository.findIdsByUserAfterNameAsc(foundUser, "Book 1", 0L, PageRequest.of(0, 10));
+
+        //then
+        assertThat(foundBookIds.size(), is(BOOKS_TO_CREATE - 1));
+        assertThat(foundBookIds.get(BOOKS_TO_CREATE - 2), is(equalTo(bookId)));
+    }
+
+    @Test
+    void whenBookIdPageAfterDescendingIdCursorIsLoadedThenIdsShouldBeReturnedInDescendingOrder() {
+        //given
+        User foundUser = userRepository.findByUsername(username).orElseThrow();
+
+        //when
+        List<Long> foundBookIds = bookRepository.findIdsByUserAfterIdDesc(foundUser, bookId, PageRequest.of(0, 10));
+
+        //then
+        assertThat(foundBookIds.size(), is(BOOKS_TO_CREATE - 1));
+        assertThat(foundBookIds.get(0), is(equalTo(bookId - 1)));
+        assertThat(foundBookIds.get(BOOKS_TO_CREATE - 2), is(equalTo(bookId - BOOKS_TO_CREATE + 1)));
+    }
+
+    @Test
+    void whenBookVersionIsLoadedThenIdAndLastModifiedShouldBeReturnedWithoutLoadingTheBook() {
+        //given
+        User foundUser = userRepository.findByUsername(username).orElseThrow();
+        Book expectedBook = testEntityManager.find(Book.class, bookId);
+        testEntityManager.clear();
+        statistics.clear();
+
+        //when
+        ResourceVersion foundVersion = bookRepository.findVersionByIdAndUser(bookId, foundUser).orElseThrow();
+
+        //then
+        assertThat(foundVersion, is(equalTo(new ResourceVersion(bookId, expectedBook.getLastModified()))));
+        assertThat(statistics.getEntityLoadCount(), is(0L));
+    }
+
+    @Test
+    void whenUserBooksVersionIsLoadedThenCountAndLatestModificationShouldBeReturned() {
+        //given
+        User foundUser = userRepository.findByUsername(username).orElseThrow();
+        Book lastModifiedBook = testEntityManager.find(Book.class, bookId);
+        testEntityManager.clear();
+        statistics.clear();
+
+        //when
+        ResourceVersion foundVersion = bookRepository.findVersionByUser(foundUser);
+
+        //then
+        assertThat(foundVersion, is(equalTo(new ResourceVersion((long) BOOKS_TO_CREATE, lastModifiedBook.getLastModified()))));
+        assertThat(statistics.getEntityLoadCount(), is(0L));
+    }
+
+    @Test
+    void whenBookWithSameNameAndIsbnIsSavedForSameUserThenUniqueConstraintShouldRejectIt() {
+        //given
+        Book registeredBook = testEntityManager.find(Book.class, bookId);
+        Book duplicatedBook = BookMapper.INSTANCE.toModel(BookRequestBuilder.builder()
+                .id(null)
+                .name(registeredBook.getName())
+                .build().buildRequestBookDTO());
+        duplicatedBook.setUser(registeredBook.getUser());
+        duplicatedBook.setAuthor(registeredBook.getAuthor());
+        duplicatedBook.setPublisher(registeredBook.getPublisher());
+
+        //then
+        assertThrows(PersistenceException.class, () -> testEntityManager.persistAndFlush(duplicatedBook));
+    }
+
+    @Test
+    void whenBookIsLoadedByIdWithDetailsThenASingleStatementShouldBeExecuted() {
+        //given
+        User foundUser = userRepository.findByUsername(username).orElseThrow();
+        statistics.clear();
+
+        //when
+        Optional<Book> foundBook = bookRepository.findByIdAndUser(bookId, foundUser);
+        foundBook.ifPresent(book -> {
+            book.getAuthor().getName();
+            book.getPublisher().getName();
+        });
+
+        //then
+        assertThat(foundBook.isPresent(), is(true));
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(1L)));
+    }
+
+    @Test
+    void whenBooksAreStreamedThenAllBooksShouldBeReadInIdOrder() {
+        //given
+        User foundUser = userRepository.findByUsername(username).orElseThrow();
+        statistics.clear();
+
+        //when
+        long streamedBooks;
+        try (Stream<Book> books = bookRepository.streamAllByUser(foundUser)) {
+            streamedBooks = books.peek(book -> book.getAuthor().getName()).count();
+        }
+
+        //then
+        assertThat(streamedBooks, is((long) BOOKS_TO_CREATE));
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(1L)));
+    }
+
+    @Test
+    void whenAllBooksAreStreamedForIndexingThenASingleStatementShouldBeExecuted() {
+        //given
+        statistics.clear();
+
+        //when
+        long streamedBooks;
+        try (Stream<Book> books = bookRepository.streamAll()) {
+            streamedBooks = books.peek(book -> {
+                book.getAuthor().getName();
+                book.getPublisher().getName();
+            }).count();
+        }
+
+        //then
+        assertThat(streamedBooks, is((long) BOOKS_TO_CREATE));
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(1L)));
+    }
+
+    @Test
+    void whenBookIdsAreInformedThenOnlyUserBooksWithDetailsShouldBeReturned() {
+        //given
+        User foundUser = userRepository.findByUsername(username).orElseThrow();
+        statistics.clear();
+
+        //when
+        List<Book> foundBooks = bookRepository.findAllByUserAndIdIn(foundUser, Arrays.asList(bookId, -1L));
+        foundBooks.forEach(book -> book.getAuthor().getName());
+
+        //then
+        assertThat(foundBooks.size(), is(1));
+        assertThat(foundBooks.get(0).getId(), is(equalTo(bookId)));
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(1L)));
+    }
+
+    @Test
+    void whenBookResponseIsLoadedByIdThenNoEntityShouldBeLoaded() {
+        //given
+        User foundUser = userRepository.findByUsername(username).orElseThrow();
+        statistics.clear();
+
+        //when
+        Optional<BookResponseDTO> foundBook = bookRepository.findResponseByIdAndUser(bookId, foundUser);
+
+        //then
+        assertThat(foundBook.isPresent(), is(true));
+        assertThat(foundBook.get().getAuthor().getName(), is(equalTo("Author " + (BOOKS_TO_CREATE - 1))));
+        assertThat(foundBook.get().getPublisher().getCode(), is(equalTo("code" + (BOOKS_TO_CREATE - 1))));
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(1L)));
+        assertThat(statistics.getEntityLoadCount(), is(equalTo(0L)));
+    }
+
+    @Test
+    void whenBookResponseIdsAreInformedThenOnlyUserBooksShouldBeReturned() {
+        //given
+        User foundUser = userRepository.findByUsername(username).orElseThrow();
+        statistics.clear();
+
+        //when
+        List<BookResponseDTO> foundBooks = bookRepository.findAllResponsesByUserAndIdIn(foundUser, Arrays.asList(bookId, -1L));
+
+        //then
+        assertThat(foundBooks.size(), is(1));
+        assertThat(foundBooks.get(0).getId(), is(equalTo(bookId)));
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(1L)));
+        assertThat(statistics.getEntityLoadCount(), is(equalTo(0L)));
+    }
+
+    @Test
+    void whenIsbnsAreInformedThenRegisteredNamesAndIsbnsShouldBeReturned() {
+        //given
+        User foundUser = userRepository.findByUsername(username).orElseThrow();
+
+        //when
+        List<BookNameAndIsbn> registeredBooks = bookRepository.findAllByUserAndIsbn13In(foundUser, Collections.singleton(EXPECTED_ISBN_13));
+
+        //then
+        assertThat(registeredBooks.size(), is(BOOKS_TO_CREATE));
+        assertThat(registeredBooks.get(0).getIsbn13(), is(equalTo(EXPECTED_ISBN_13)));
+    }
+
+    @Test
+    void whenIsbnEntriesAreStreamedThenEveryBookShouldBeReturnedWithItsUserAndIsbn13() {
+        //given
+        User foundUser = userRepository.findByUsername(username).orElseThrow();
+
+        //when
+        List<BookIsbnEntry> isbnEntries;
+        try (Stream<BookIsbnEntry> entries = bookRepository.streamAllIsbnEntries()) {
+            isbnEntries = entries.collect(Collectors.toList());
+        }
+
+        //then
+        assertThat(isbnEntries.size(), is(BOOKS_TO_CREATE));
+        assertThat(isbnEntries.get(0).getUserId(), is(equalTo(foundUser.getId())));
+        assertThat(isbnEntries.get(0).getIsbn13(), is(equalTo(EXPECTED_ISBN_13)));
+    }
+}
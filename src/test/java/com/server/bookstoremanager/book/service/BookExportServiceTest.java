@@ -0,0 +1,128 @@
+package com.server.bookstoremanager.book.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.bookstoremanager.book.builder.BookResponseBuilder;
+import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.enums.BookExportFormat;
+import com.server.bookstoremanager.book.mapper.BookMapper;
+import com.server.bookstoremanager.book.repository.BookRepository;
+import com.server.bookstoremanager.book.util.BookCsvUtils;
+import com.server.bookstoremanager.user.dto.AuthenticatedUser;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BookExportServiceTest {
+
+    private final BookMapper bookMapper = BookMapper.INSTANCE;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private BookExportService bookExportService;
+
+    private BookResponseBuilder bookResponseDTOBuilder;
+
+    private AuthenticatedUser authenticatedUser;
+
+    @BeforeEach
+    void setUp() {
+        bookExportService = new BookExportService(bookRepository, userService, objectMapper, entityManager);
+        bookResponseDTOBuilder = BookResponseBuilder.builder().build();
+        authenticatedUser = new AuthenticatedUser("nikolas", "123456", "ADMIN");
+    }
+
+    @Test
+    void whenNdjsonExportIsCalledThenOneJsonLinePerBookShouldBeWritten() throws Exception {
+        //given
+        BookResponseDTO expectedExportedBookDTO = bookResponseDTOBuilder.buildBookResponseDTO();
+        Book expectedExportedBook = bookMapper.toModel(expectedExportedBookDTO);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
+        when(bookRepository.streamAllByUser(any(User.class))).thenReturn(Stream.of(expectedExportedBook, expectedExportedBook));
+        bookExportService.exportAllByUser(authenticatedUser, BookExportFormat.NDJSON, outputStream);
+
+        //then
+        String[] exportedLines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exportedLines.length, is(2));
+        assertThat(objectMapper.readValue(exportedLines[0], BookResponseDTO.class), is(equalTo(expectedExportedBookDTO)));
+    }
+
+    @Test
+    void whenCsvExportIsCalledThenHeaderAndOneLinePerBookShouldBeWritten() throws Exception {
+        //given
+        BookResponseDTO expectedExportedBookDTO = bookResponseDTOBuilder.buildBookResponseDTO();
+        Book expectedExportedBook = bookMapper.toModel(expectedExportedBookDTO);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
+        when(bookRepository.streamAllByUser(any(User.class))).thenReturn(Stream.of(expectedExportedBook));
+        bookExportService.exportAllByUser(authenticatedUser, BookExportFormat.CSV, outputStream);
+
+        //then
+        String[] exportedLines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exportedLines[0], is(equalTo(BookCsvUtils.HEADER)));
+        assertThat(exportedLines[1], is(equalTo(BookCsvUtils.toCsvLine(expectedExportedBookDTO))));
+    }
+
+    @Test
+    void whenExportIsBiggerThanBatchSizeThenPersistenceContextShouldBeCleared() throws Exception {
+        //given
+        Book expectedExportedBook = bookMapper.toModel(bookResponseDTOBuilder.buildBookResponseDTO());
+        Stream<Book> exportedBooks = IntStream.range(0, BookExportService.EXPORT_BATCH_SIZE * 2)
+                .mapToObj(i -> expectedExportedBook);
+
+        //when
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
+        when(bookRepository.streamAllByUser(any(User.class))).thenReturn(exportedBooks);
+        bookExportService.exportAllByUser(authenticatedUser, BookExportFormat.NDJSON, new ByteArrayOutputStream());
+
+        //then
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void whenBookNameHasSeparatorsThenCsvValueShouldBeQuoted() {
+        //given
+        BookResponseDTO expectedExportedBookDTO = BookResponseBuilder.builder()
+                .name("Spring, \"Boot\" Pro")
+                .build()
+                .buildBookResponseDTO();
+
+        //when
+        String csvLine = BookCsvUtils.toCsvLine(expectedExportedBookDTO);
+
+        //then
+        assertThat(csvLine, startsWith("1,\"Spring, \"\"Boot\"\" Pro\",978-3-16-148410-0,"));
+    }
+}
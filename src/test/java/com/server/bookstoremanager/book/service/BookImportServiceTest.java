@@ -0,0 +1,284 @@
+package com.server.bookstoremanager.book.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.author.service.AuthorService;
+import com.server.bookstoremanager.book.builder.BookRequestBuilder;
+import com.server.bookstoremanager.book.dto.BookImportReportDTO;
+import com.server.bookstoremanager.book.dto.BookNameAndIsbn;
+import com.server.bookstoremanager.book.dto.BookRequestDTO;
+import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.enums.BookImportStatus;
+import com.server.bookstoremanager.book.repository.BookRepository;
+import com.server.bookstoremanager.publisher.entity.Publisher;
+import com.server.bookstoremanager.publisher.service.PublisherService;
+import com.server.bookstoremanager.user.dto.AuthenticatedUser;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.service.UserService;
+import com.server.bookstoremanager.util.JsonConversionUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+import javax.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BookImportServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private AuthorService authorService;
+
+    @Mock
+    private PublisherService publisherService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+
+    @Mock
+    private BookIsbnIndex bookIsbnIndex;
+
+    private BookImportService bookImportService;
+
+    private BookRequestBuilder bookRequestDTOBuilder;
+
+    private AuthenticatedUser authenticatedUser;
+
+    @BeforeEach
+    void setUp() {
+        bookImportService = new BookImportService(
+                bookRepository,
+                userService,
+                authorService,
+                publisherService,
+                new ObjectMapper().findAndRegisterModules(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                entityManager,
+                transactionManager,
+                bookSearchIndex,
+                bookIsbnIndex);
+        bookRequestDTOBuilder = BookRequestBuilder.builder().build();
+        authenticatedUser = new AuthenticatedUser("nikolas", "123456", "ADMIN");
+    }
+
+    @Test
+    void whenJsonArrayIsImportedThenValidBooksShouldBeCreated() throws Exception {
+        //given
+        BookRequestDTO expectedBookToImportDTO = bookRequestDTOBuilder.buildRequestBookDTO();
+        InputStream importBody = asInputStream(JsonConversionUtils.asJsonString(Collections.singletonList(expectedBookToImportDTO)));
+
+        //when
+        mockReferenceData(expectedBookToImportDTO);
+        BookImportReportDTO importReport = bookImportService.importAllByUser(authenticatedUser, importBody);
+
+        //then
+        assertThat(importReport.getCreated(), is(1));
+        assertThat(importReport.getFailed(), is(0));
+        assertThat(importReport.getResults().get(0).getStatus(), is(BookImportStatus.CREATED));
+        verify(bookRepository).saveAll(anyCollection());
+        verify(bookRepository).findAllByUserAndIsbn13In(any(User.class), eq(Collections.singleton(9783161484100L)));
+        verify(bookIsbnIndex).index(any(Book.class));
+        verify(entityManager).clear();
+    }
+
+    @Test
+    void whenNdjsonWithInvalidDuplicatedAndUnknownBooksIsImportedThenEachRowShouldBeReported() throws Exception {
+        //given
+        BookRequestDTO expectedBookToImportDTO = bookRequestDTOBuilder.buildRequestBookDTO();
+        BookRequestDTO expectedInvalidBookDTO = BookRequestBuilder.builder().isbn("").build().buildRequestBookDTO();
+        BookRequestDTO expectedUnknownAuthorBookDTO = BookRequestBuilder.builder().name("Other").authorId(99L).build().buildRequestBookDTO();
+        InputStream importBody = asInputStream(Arrays.asList(
+                JsonConversionUtils.asJsonString(expectedBookToImportDTO),
+                JsonConversionUtils.asJsonString(expectedInvalidBookDTO),
+                JsonConversionUtils.asJsonString(expectedBookToImportDTO),
+                JsonConversionUtils.asJsonString(expectedUnknownAuthorBookDTO))
+                .stream()
+                .collect(Collectors.joining("\n")));
+
+        //when
+        mockReferenceData(expectedBookToImportDTO);
+        BookImportReportDTO importReport = bookImportService.importAllByUser(authenticatedUser, importBody);
+
+        //then
+        assertThat(importReport.getCreated(), is(1));
+        assertThat(importReport.getFailed(), is(3));
+        assertThat(importReport.getResults().get(0).getStatus(), is(BookImportStatus.CREATED));
+        assertThat(importReport.getResults().get(1).getStatus(), is(BookImportStatus.INVALID));
+        assertThat(importReport.getResults().get(2).getStatus(), is(BookImportStatus.DUPLICATED));
+        assertThat(importReport.getResults().get(3).getStatus(), is(BookImportStatus.NOT_FOUND));
+    }
+
+    @Test
+    void whenAlreadyRegisteredBookIsImportedThenItShouldBeReportedAsDuplicated() throws Exception {
+        //given
+        BookRequestDTO expectedDuplicatedBookDTO = bookRequestDTOBuilder.buildRequestBookDTO();
+        InputStream importBody = asInputStream(JsonConversionUtils.asJsonString(Collections.singletonList(expectedDuplicatedBookDTO)));
+        BookNameAndIsbn registeredBook = mock(BookNameAndIsbn.class);
+
+        //when
+        mockReferenceData(expectedDuplicatedBookDTO);
+        when(registeredBook.getName()).thenReturn(expectedDuplicatedBookDTO.getName());
+        when(registeredBook.getIsbn13()).thenReturn(9783161484100L);
+        when(bookRepository.findAllByUserAndIsbn13In(any(User.class), eq(Collections.singleton(9783161484100L))))
+                .thenReturn(Collections.singletonList(registeredBook));
+        BookImportReportDTO importReport = bookImportService.importAllByUser(authenticatedUser, importBody);
+
+        //then
+        assertThat(importReport.getResults().get(0).getStatus(), is(equalTo(BookImportStatus.DUPLICATED)));
+    }
+
+    @Test
+    void whenChunkHitsTheUniqueConstraintThenItsRowsShouldBeRetriedOneByOne() throws Exception {
+        //given
+        BookRequestDTO expectedDuplicatedBookDTO = bookRequestDTOBuilder.buildRequestBookDTO();
+        BookRequestDTO expectedBookToImportDTO = BookRequestBuilder.builder().name("Other").build().buildRequestBookDTO();
+        InputStream importBody = asInputStream(JsonConversionUtils.asJsonString(Arrays.asList(expectedDuplicatedBookDTO, expectedBookToImportDTO)));
+        DataIntegrityViolationException uniqueViolation = new DataIntegrityViolationException("Unique index violation",
+                new ConstraintViolationException("Unique index violation", new SQLException(), Book.UNIQUE_NAME_AND_ISBN));
+
+        //when
+        mockReferenceData(expectedBookToImportDTO);
+        doThrow(uniqueViolation).doThrow(uniqueViolation).doNothing().when(bookRepository).flush();
+        BookImportReportDTO importReport = bookImportService.importAllByUser(authenticatedUser, importBody);
+
+        //then
+        assertThat(importReport.getCreated(), is(1));
+        assertThat(importReport.getResults().get(0).getRow(), is(0));
+        assertThat(importReport.getResults().get(0).getStatus(), is(BookImportStatus.DUPLICATED));
+        assertThat(importReport.getResults().get(1).getRow(), is(1));
+        assertThat(importReport.getResults().get(1).getStatus(), is(BookImportStatus.CREATED));
+        verify(bookRepository, times(3)).saveAll(anyCollection());
+    }
+
+    @Test
+    void whenImportIsBiggerThanChunkSizeThenEachChunkShouldBeResolvedOnce() throws Exception {
+        //given
+        BookRequestDTO expectedBookToImportDTO = bookRequestDTOBuilder.buildRequestBookDTO();
+        List<BookRequestDTO> booksToImport = IntStream.range(0, BookImportService.IMPORT_CHUNK_SIZE + 1)
+                .mapToObj(i -> BookRequestBuilder.builder().name("Book " + i).build().buildRequestBookDTO())
+                .collect(Collectors.toList());
+        InputStream importBody = asInputStream(JsonConversionUtils.asJsonString(booksToImport));
+
+        //when
+        mockReferenceData(expectedBookToImportDTO);
+        BookImportReportDTO importReport = bookImportService.importAllByUser(authenticatedUser, importBody);
+
+        //then
+        assertThat(importReport.getCreated(), is(BookImportService.IMPORT_CHUNK_SIZE + 1));
+        verify(authorService, times(2)).findAllByIds(anyCollection());
+        verify(bookRepository, times(2)).saveAll(anyCollection());
+    }
+
+    @Test
+    void whenRowOfSecondChunkHasMistypedValueThenOnlyThatRowShouldBeInvalid() throws Exception {
+        //given
+        BookRequestDTO expectedBookToImportDTO = bookRequestDTOBuilder.buildRequestBookDTO();
+        List<String> rowsToImport = IntStream.range(0, BookImportService.IMPORT_CHUNK_SIZE + 2)
+                .mapToObj(i -> JsonConversionUtils.asJsonString(BookRequestBuilder.builder().name("Book " + i).build().buildRequestBookDTO()))
+                .collect(Collectors.toList());
+        rowsToImport.set(BookImportService.IMPORT_CHUNK_SIZE, rowsToImport.get(BookImportService.IMPORT_CHUNK_SIZE)
+                .replaceFirst("\"pages\":\\d+", "\"pages\":\"abc\""));
+        InputStream importBody = asInputStream(String.join("\n", rowsToImport));
+
+        //when
+        mockReferenceData(expectedBookToImportDTO);
+        BookImportReportDTO importReport = bookImportService.importAllByUser(authenticatedUser, importBody);
+
+        //then
+        assertThat(importReport.getCreated(), is(BookImportService.IMPORT_CHUNK_SIZE + 1));
+        assertThat(importReport.getFailed(), is(1));
+        assertThat(importReport.getResults().get(BookImportService.IMPORT_CHUNK_SIZE).getStatus(), is(BookImportStatus.INVALID));
+        assertThat(importReport.getResults().get(BookImportService.IMPORT_CHUNK_SIZE).getErrors(),
+                is(equalTo(Collections.singletonList("Field PAGES has an invalid value"))));
+        assertThat(importReport.getResults().get(BookImportService.IMPORT_CHUNK_SIZE + 1).getStatus(), is(BookImportStatus.CREATED));
+    }
+
+    @Test
+    void whenImportIsCutOffThenReadRowsShouldBeImportedAndTheRestReportedAsInvalid() throws Exception {
+        //given
+        BookRequestDTO expectedBookToImportDTO = bookRequestDTOBuilder.buildRequestBookDTO();
+        InputStream importBody = asInputStream(JsonConversionUtils.asJsonString(expectedBookToImportDTO) + "\n{\"name\":\"Cut");
+
+        //when
+        mockReferenceData(expectedBookToImportDTO);
+        BookImportReportDTO importReport = bookImportService.importAllByUser(authenticatedUser, importBody);
+
+        //then
+        assertThat(importReport.getCreated(), is(1));
+        assertThat(importReport.getFailed(), is(1));
+        assertThat(importReport.getResults().get(1).getStatus(), is(BookImportStatus.INVALID));
+    }
+
+    @Test
+    void whenBodyIsNotJsonThenItShouldBeReportedAsAnInvalidRow() throws Exception {
+        //when
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
+        BookImportReportDTO importReport = bookImportService.importAllByUser(authenticatedUser, asInputStream("not json"));
+
+        //then
+        assertThat(importReport.getCreated(), is(0));
+        assertThat(importReport.getResults().get(0).getStatus(), is(BookImportStatus.INVALID));
+        assertThat(importReport.getResults().get(0).getErrors(), is(equalTo(Collections.singletonList("Row is not valid JSON"))));
+    }
+
+    @Test
+    void whenIsbnHasSeparatorsAcceptedByBeanValidationThenBookShouldBeCreated() throws Exception {
+        //given
+        BookRequestDTO expectedBookToImportDTO = BookRequestBuilder.builder().isbn("978.0306406157").build().buildRequestBookDTO();
+        InputStream importBody = asInputStream(JsonConversionUtils.asJsonString(Collections.singletonList(expectedBookToImportDTO)));
+
+        //when
+        mockReferenceData(expectedBookToImportDTO);
+        BookImportReportDTO importReport = bookImportService.importAllByUser(authenticatedUser, importBody);
+
+        //then
+        assertThat(importReport.getResults().get(0).getStatus(), is(BookImportStatus.CREATED));
+    }
+
+    private void mockReferenceData(BookRequestDTO bookRequestDTO) {
+        User expectedUser = new User();
+        expectedUser.setId(1L);
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(expectedUser);
+        when(authorService.findAllByIds(anyCollection())).thenReturn(Map.of(bookRequestDTO.getAuthorId(), new Author()));
+        when(publisherService.findAllByIds(anyCollection())).thenReturn(Map.of(bookRequestDTO.getPublisherId(), new Publisher()));
+        lenient().when(bookRepository.saveAll(anyCollection())).thenReturn(Collections.emptyList());
+    }
+
+    private InputStream asInputStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,142 @@
+package com.server.bookstoremanager.book.service;
+
+import com.server.bookstoremanager.author.builder.AuthorBuilder;
+import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.author.mapper.AuthorMapper;
+import com.server.bookstoremanager.author.service.AuthorService;
+import com.server.bookstoremanager.author.service.AuthorSuggestionIndex;
+import com.server.bookstoremanager.book.builder.BookRequestBuilder;
+import com.server.bookstoremanager.book.dto.BookImportReportDTO;
+import com.server.bookstoremanager.book.dto.BookRequestDTO;
+import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.enums.BookImportStatus;
+import com.server.bookstoremanager.book.mapper.BookMapper;
+import com.server.bookstoremanager.book.repository.BookRepository;
+import com.server.bookstoremanager.book.util.IsbnUtils;
+import com.server.bookstoremanager.config.CacheConfig;
+import com.server.bookstoremanager.config.JpaAuditingConfig;
+import com.server.bookstoremanager.publisher.builder.PublisherBuilder;
+import com.server.bookstoremanager.publisher.entity.Publisher;
+import com.server.bookstoremanager.publisher.mapper.PublisherMapper;
+import com.server.bookstoremanager.publisher.service.PublisherService;
+import com.server.bookstoremanager.publisher.service.PublisherSuggestionIndex;
+import com.server.bookstoremanager.user.builder.UserBuilder;
+import com.server.bookstoremanager.user.dto.AuthenticatedUser;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.mapper.UserMapper;
+import com.server.bookstoremanager.user.service.UserService;
+import com.server.bookstoremanager.util.JsonConversionUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Import({BookImportService.class, BookSearchIndex.class, BookIsbnIndex.class, UserService.class, AuthorService.class, AuthorSuggestionIndex.class,
+        PublisherService.class, PublisherSuggestionIndex.class, CacheConfig.class, JpaAuditingConfig.class})
+public class BookImportServiceTransactionTest {
+
+    @Autowired
+    private BookImportService bookImportService;
+
+    @Autowired
+    private BookIsbnIndex bookIsbnIndex;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    private AuthenticatedUser authenticatedUser;
+
+    private User user;
+
+    private Author author;
+
+    private Publisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+        transactionTemplate.executeWithoutResult(status -> {
+            user = UserMapper.INSTANCE.toModel(UserBuilder.builder().id(null).build().buildUserDTO());
+            author = AuthorMapper.INSTANCE.toModel(AuthorBuilder.builder().id(null).build().buildAuthorDTO());
+            publisher = PublisherMapper.INSTANCE.toModel(PublisherBuilder.builder().id(null).build().buildPublisherDTO());
+            entityManager.persist(user);
+            entityManager.persist(author);
+            entityManager.persist(publisher);
+        });
+        authenticatedUser = new AuthenticatedUser(user.getUsername(), user.getPassword(), user.getRole().name());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            bookRepository.deleteAll();
+            entityManager.remove(entityManager.merge(user));
+            entityManager.remove(entityManager.merge(author));
+            entityManager.remove(entityManager.merge(publisher));
+        });
+        bookIsbnIndex.rebuild();
+    }
+
+    @Test
+    void whenBookIsRegisteredButNotInTheIsbnIndexThenItsImportShouldBeReportedAsDuplicated() throws Exception {
+        //given
+        BookRequestDTO bookToImport = BookRequestBuilder.builder()
+                .id(null)
+                .authorId(author.getId())
+                .publisherId(publisher.getId())
+                .build().buildRequestBookDTO();
+        transactionTemplate.executeWithoutResult(status -> {
+            Book registeredBook = BookMapper.INSTANCE.toModel(bookToImport);
+            registeredBook.setUser(user);
+            registeredBook.setAuthor(author);
+            registeredBook.setPublisher(publisher);
+            entityManager.persist(registeredBook);
+        });
+        long isbn13 = IsbnUtils.toIsbn13(bookToImport.getIsbn());
+        assertThat(bookIsbnIndex.find(user.getId(), isbn13).length, is(equalTo(0)));
+
+        //when
+        BookImportReportDTO importReport = bookImportService.importAllByUser(authenticatedUser, new ByteArrayInputStream(
+                JsonConversionUtils.asJsonString(Collections.singletonList(bookToImport)).getBytes(StandardCharsets.UTF_8)));
+
+        //then
+        assertThat(importReport.getCreated(), is(equalTo(0)));
+        assertThat(importReport.getResults().get(0).getStatus(), is(equalTo(BookImportStatus.DUPLICATED)));
+        assertThat(bookRepository.count(), is(equalTo(1L)));
+    }
+}
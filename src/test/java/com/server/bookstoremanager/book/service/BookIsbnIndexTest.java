@@ -0,0 +1,112 @@
+package com.server.bookstoremanager.book.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class BookIsbnIndexTest {
+
+    private static final long ISBN_13 = 9783161484100L;
+
+    private static final long OTHER_ISBN_13 = 9780306406157L;
+
+    private BookIsbnIndex bookIsbnIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookIsbnIndex = new BookIsbnIndex(null);
+    }
+
+    @Test
+    void whenIsbnIsRegisteredThenOnlyBooksOfTheSameUserShouldBeFound() {
+        //when
+        bookIsbnIndex.put(1L, ISBN_13, 10L);
+        bookIsbnIndex.put(1L, ISBN_13, 11L);
+        bookIsbnIndex.put(2L, ISBN_13, 12L);
+        bookIsbnIndex.put(1L, OTHER_ISBN_13, 13L);
+
+        //then
+        assertThat(sorted(bookIsbnIndex.find(1L, ISBN_13)), is(equalTo(new long[]{10L, 11L})));
+        assertThat(bookIsbnIndex.find(2L, ISBN_13), is(equalTo(new long[]{12L})));
+        assertThat(bookIsbnIndex.find(2L, OTHER_ISBN_13).length, is(0));
+    }
+
+    @Test
+    void whenSameEntryIsPutTwiceThenItShouldBeStoredOnce() {
+        //when
+        bookIsbnIndex.put(1L, ISBN_13, 10L);
+        bookIsbnIndex.put(1L, ISBN_13, 10L);
+
+        //then
+        assertThat(bookIsbnIndex.size(), is(1));
+        assertThat(bookIsbnIndex.find(1L, ISBN_13), is(equalTo(new long[]{10L})));
+    }
+
+    @Test
+    void whenEntryIsRemovedThenOtherBooksWithTheSameIsbnShouldStillBeFound() {
+        //given
+        bookIsbnIndex.put(1L, ISBN_13, 10L);
+        bookIsbnIndex.put(1L, ISBN_13, 11L);
+
+        //when
+        bookIsbnIndex.remove(1L, ISBN_13, 10L);
+        bookIsbnIndex.remove(1L, OTHER_ISBN_13, 11L);
+
+        //then
+        assertThat(bookIsbnIndex.find(1L, ISBN_13), is(equalTo(new long[]{11L})));
+        assertThat(bookIsbnIndex.size(), is(1));
+    }
+
+    @Test
+    void whenManyEntriesAreAddedAndRemovedThenIndexShouldMatchAReferenceMap() {
+        //given
+        Random random = new Random(42);
+        Map<Long, Set<Long>> expectedBookIds = new HashMap<>();
+
+        //when
+        for (long bookId = 1; bookId <= 20_000; bookId++) {
+            long userId = random.nextInt(50);
+            long isbn13 = 9780000000000L + random.nextInt(500);
+            bookIsbnIndex.put(userId, isbn13, bookId);
+            expectedBookIds.computeIfAbsent(key(userId, isbn13), key -> new HashSet<>()).add(bookId);
+            if (bookId % 3 == 0) {
+                bookIsbnIndex.remove(userId, isbn13, bookId - 1);
+                expectedBookIds.get(key(userId, isbn13)).remove(bookId - 1);
+            }
+        }
+
+        //then
+        int expectedSize = expectedBookIds.values().stream().mapToInt(Set::size).sum();
+        assertThat(bookIsbnIndex.size(), is(expectedSize));
+        for (long userId = 0; userId < 50; userId++) {
+            for (long isbn13 = 9780000000000L; isbn13 < 9780000000500L; isbn13++) {
+                long[] expected = expectedBookIds.getOrDefault(key(userId, isbn13), new HashSet<>())
+                        .stream()
+                        .mapToLong(Long::longValue)
+                        .sorted()
+                        .toArray();
+                assertThat(sorted(bookIsbnIndex.find(userId, isbn13)), is(equalTo(expected)));
+            }
+        }
+    }
+
+    private long key(long userId, long isbn13) {
+        return userId * 1_000L + isbn13 % 1_000L;
+    }
+
+    private long[] sorted(long[] bookIds) {
+        long[] sortedBookIds = bookIds.clone();
+        Arrays.sort(sortedBookIds);
+        return sortedBookIds;
+    }
+}
@@ -0,0 +1,100 @@
+package com.server.bookstoremanager.book.service;
+
+import com.server.bookstoremanager.book.builder.BookResponseBuilder;
+import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.exception.BookNotFoundException;
+import com.server.bookstoremanager.book.repository.BookReactiveRepository;
+import com.server.bookstoremanager.user.dto.AuthenticatedUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BookReactiveServiceTest {
+
+    @Mock
+    private BookReactiveRepository bookReactiveRepository;
+
+    @InjectMocks
+    private BookReactiveService bookReactiveService;
+
+    private BookResponseBuilder bookResponseDTOBuilder;
+
+    private AuthenticatedUser authenticatedUser;
+
+    @BeforeEach
+    void setUp() {
+        bookResponseDTOBuilder = BookResponseBuilder.builder().build();
+        authenticatedUser = new AuthenticatedUser("nikolas", "123456", "ADMIN");
+    }
+
+    @Test
+    void whenExistingBookIdIsInformedThenItShouldBeEmitted() {
+        //given
+        BookResponseDTO expectedFoundBookDTO = bookResponseDTOBuilder.buildBookResponseDTO();
+
+        //when
+        when(bookReactiveRepository.findByIdAndUsername(expectedFoundBookDTO.getId(), authenticatedUser.getUsername()))
+                .thenReturn(Mono.just(expectedFoundBookDTO));
+        BookResponseDTO foundBookDTO = bookReactiveService.findByIdAndUser(authenticatedUser, expectedFoundBookDTO.getId()).block();
+
+        //then
+        assertThat(foundBookDTO, is(equalTo(expectedFoundBookDTO)));
+    }
+
+    @Test
+    void whenNotExistingBookIdIsInformedThenAnErrorShouldBeEmitted() {
+        //given
+        Long expectedBookId = 2L;
+
+        //when
+        when(bookReactiveRepository.findByIdAndUsername(expectedBookId, authenticatedUser.getUsername())).thenReturn(Mono.empty());
+        Mono<BookResponseDTO> foundBook = bookReactiveService.findByIdAndUser(authenticatedUser, expectedBookId);
+
+        //then
+        assertThrows(BookNotFoundException.class, foundBook::block);
+    }
+
+    @Test
+    void whenListBooksIsCalledWithoutCursorThenBooksShouldBeEmittedFromTheStart() {
+        //given
+        BookResponseDTO expectedFoundBookDTO = bookResponseDTOBuilder.buildBookResponseDTO();
+
+        //when
+        when(bookReactiveRepository.findAllByUsernameAfterId(authenticatedUser.getUsername(), 0L))
+                .thenReturn(Flux.just(expectedFoundBookDTO));
+        List<BookResponseDTO> foundBooksDTO = bookReactiveService.findAllByUser(authenticatedUser, null).collectList().block();
+
+        //then
+        assertThat(foundBooksDTO, is(equalTo(Collections.singletonList(expectedFoundBookDTO))));
+    }
+
+    @Test
+    void whenIsbnIsInformedThenBooksShouldBeSearchedByIsbn13() {
+        //given
+        BookResponseDTO expectedFoundBookDTO = bookResponseDTOBuilder.buildBookResponseDTO();
+
+        //when
+        when(bookReactiveRepository.findAllByUsernameAndIsbn13(authenticatedUser.getUsername(), 9783161484100L))
+                .thenReturn(Flux.just(expectedFoundBookDTO));
+        List<BookResponseDTO> foundBooksDTO = bookReactiveService.findAllByUserAndIsbn(authenticatedUser, expectedFoundBookDTO.getIsbn())
+                .collectList().block();
+
+        //then
+        assertThat(foundBooksDTO, is(equalTo(Collections.singletonList(expectedFoundBookDTO))));
+    }
+}
@@ -0,0 +1,134 @@
+package com.server.bookstoremanager.book.service;
+
+import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.publisher.entity.Publisher;
+import com.server.bookstoremanager.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class BookSearchIndexTest {
+
+    private static final Long USER_ID = 1L;
+
+    private static final Long OTHER_USER_ID = 2L;
+
+    private BookSearchIndex bookSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookSearchIndex = new BookSearchIndex(null, null);
+        bookSearchIndex.index(book(1L, USER_ID, "Spring Boot Pro", "Nikolas Lacerda", "Casa do Código"));
+        bookSearchIndex.index(book(2L, USER_ID, "Clean Code", "Robert Martin", "Prentice Hall"));
+        bookSearchIndex.index(book(3L, USER_ID, "Java Efetivo", "Joshua Bloch", "Alta Books"));
+        bookSearchIndex.index(book(4L, USER_ID, "Código Limpo", "Robert Martin", "Alta Books"));
+        bookSearchIndex.index(book(5L, OTHER_USER_ID, "Spring in Action", "Craig Walls", "Manning"));
+    }
+
+    @Test
+    void whenWordPrefixIsSearchedThenMatchingBooksShouldBeReturned() {
+        //when
+        List<Long> foundBookIds = bookSearchIndex.search(USER_ID, "spr", 10);
+
+        //then
+        assertThat(foundBookIds, is(equalTo(Collections.singletonList(1L))));
+    }
+
+    @Test
+    void whenBookNameMatchesThenItShouldRankAboveAuthorAndPublisherMatches() {
+        //when
+        List<Long> foundBookIds = bookSearchIndex.search(USER_ID, "codigo", 10);
+
+        //then
+        assertThat(foundBookIds, is(equalTo(Arrays.asList(4L, 1L))));
+    }
+
+    @Test
+    void whenExactWordMatchesThenItShouldRankAbovePrefixMatches() {
+        //when
+        List<Long> foundBookIds = bookSearchIndex.search(USER_ID, "code", 10);
+
+        //then
+        assertThat(foundBookIds.get(0), is(equalTo(2L)));
+    }
+
+    @Test
+    void whenSeveralWordsAreSearchedThenOnlyBooksMatchingAllWordsShouldBeReturned() {
+        //when
+        List<Long> foundBookIds = bookSearchIndex.search(USER_ID, "robert limpo", 10);
+
+        //then
+        assertThat(foundBookIds, is(equalTo(Collections.singletonList(4L))));
+    }
+
+    @Test
+    void whenOtherUserBooksMatchThenTheyShouldNotBeReturned() {
+        //when
+        List<Long> foundBookIds = bookSearchIndex.search(OTHER_USER_ID, "spring", 10);
+
+        //then
+        assertThat(foundBookIds, is(equalTo(Collections.singletonList(5L))));
+    }
+
+    @Test
+    void whenBookIsUpdatedThenOldTermsShouldNotMatchAnymore() {
+        //when
+        bookSearchIndex.index(book(3L, USER_ID, "Effective Java", "Joshua Bloch", "Addison Wesley"));
+
+        //then
+        assertThat(bookSearchIndex.search(USER_ID, "efetivo", 10).isEmpty(), is(true));
+        assertThat(bookSearchIndex.search(USER_ID, "effective", 10), is(equalTo(Collections.singletonList(3L))));
+    }
+
+    @Test
+    void whenBookIsRemovedThenItShouldNotBeReturned() {
+        //when
+        bookSearchIndex.remove(2L);
+
+        //then
+        assertThat(bookSearchIndex.search(USER_ID, "robert", 10), is(equalTo(Collections.singletonList(4L))));
+    }
+
+    @Test
+    void whenLimitIsInformedThenResultsShouldBeTruncated() {
+        //when
+        List<Long> foundBookIds = bookSearchIndex.search(USER_ID, "alta", 1);
+
+        //then
+        assertThat(foundBookIds, is(equalTo(Collections.singletonList(3L))));
+    }
+
+    @Test
+    void whenQueryHasNoWordsThenEmptyListShouldBeReturned() {
+        //when
+        List<Long> foundBookIds = bookSearchIndex.search(USER_ID, " - ", 10);
+
+        //then
+        assertThat(foundBookIds.isEmpty(), is(true));
+    }
+
+    private Book book(Long id, Long userId, String name, String authorName, String publisherName) {
+        User user = new User();
+        user.setId(userId);
+        Author author = new Author();
+        author.setName(authorName);
+        Publisher publisher = new Publisher();
+        publisher.setName(publisherName);
+
+        Book book = new Book();
+        book.setId(id);
+        book.setName(name);
+        book.setUser(user);
+        book.setAuthor(author);
+        book.setPublisher(publisher);
+        return book;
+    }
+}
@@ -0,0 +1,142 @@
+package com.server.bookstoremanager.book.service;
+
+import com.server.bookstoremanager.author.builder.AuthorBuilder;
+import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.author.mapper.AuthorMapper;
+import com.server.bookstoremanager.author.service.AuthorService;
+import com.server.bookstoremanager.book.builder.BookRequestBuilder;
+import com.server.bookstoremanager.book.dto.BookRequestDTO;
+import com.server.bookstoremanager.book.exception.BookAlreadyExistsException;
+import com.server.bookstoremanager.book.repository.BookRepository;
+import com.server.bookstoremanager.config.JpaAuditingConfig;
+import com.server.bookstoremanager.publisher.builder.PublisherBuilder;
+import com.server.bookstoremanager.publisher.entity.Publisher;
+import com.server.bookstoremanager.publisher.mapper.PublisherMapper;
+import com.server.bookstoremanager.publisher.service.PublisherService;
+import com.server.bookstoremanager.user.builder.UserBuilder;
+import com.server.bookstoremanager.user.dto.AuthenticatedUser;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.mapper.UserMapper;
+import com.server.bookstoremanager.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({BookService.class, BookSearchIndex.class, BookIsbnIndex.class, JpaAuditingConfig.class})
+public class BookServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private AuthorService authorService;
+
+    @MockBean
+    private PublisherService publisherService;
+
+    private AuthenticatedUser authenticatedUser;
+
+    private User user;
+
+    private Author author;
+
+    private Publisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            user = UserMapper.INSTANCE.toModel(UserBuilder.builder().id(null).build().buildUserDTO());
+            author = AuthorMapper.INSTANCE.toModel(AuthorBuilder.builder().id(null).build().buildAuthorDTO());
+            publisher = PublisherMapper.INSTANCE.toModel(PublisherBuilder.builder().id(null).build().buildPublisherDTO());
+            entityManager.persist(user);
+            entityManager.persist(author);
+            entityManager.persist(publisher);
+        });
+        authenticatedUser = new AuthenticatedUser(user.getUsername(), user.getPassword(), user.getRole().name());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            bookRepository.deleteAll();
+            entityManager.remove(entityManager.merge(user));
+            entityManager.remove(entityManager.merge(author));
+            entityManager.remove(entityManager.merge(publisher));
+        });
+    }
+
+    @Test
+    void whenSameBookIsCreatedConcurrentlyThenOnlyOneShouldBeSaved() throws Exception {
+        //given
+        BookRequestDTO bookRequestDTO = BookRequestBuilder.builder().build().buildRequestBookDTO();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        //when
+        when(userService.verifyAndGetUserIfExists(user.getUsername())).thenReturn(user);
+        when(authorService.verifyAndGetIfExists(bookRequestDTO.getAuthorId())).thenReturn(author);
+        when(publisherService.verifyAndGetIfExists(bookRequestDTO.getPublisherId())).thenReturn(publisher);
+        List<Future<?>> creations = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            creations.add(executorService.submit(() -> {
+                startLatch.await();
+                return bookService.create(authenticatedUser, bookRequestDTO);
+            }));
+        }
+        startLatch.countDown();
+
+        int createdBooks = 0;
+        for (Future<?> creation : creations) {
+            try {
+                creation.get(30, TimeUnit.SECONDS);
+                createdBooks++;
+            } catch (ExecutionException exception) {
+                assertThat(exception.getCause(), is(instanceOf(BookAlreadyExistsException.class)));
+            }
+        }
+        executorService.shutdown();
+
+        //then
+        assertThat(createdBooks, is(equalTo(1)));
+        assertThat(bookRepository.count(), is(equalTo(1L)));
+    }
+}
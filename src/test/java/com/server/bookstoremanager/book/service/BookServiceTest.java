@@ -4,25 +4,38 @@ import com.server.bookstoremanager.author.entity.Author;
 import com.server.bookstoremanager.author.service.AuthorService;
 import com.server.bookstoremanager.book.builder.BookRequestBuilder;
 import com.server.bookstoremanager.book.builder.BookResponseBuilder;
+import com.server.bookstoremanager.book.dto.BookPageDTO;
 import com.server.bookstoremanager.book.dto.BookRequestDTO;
 import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.dto.NormalizedBookPageDTO;
 import com.server.bookstoremanager.book.entity.Book;
+import com.server.bookstoremanager.book.enums.BookSort;
 import com.server.bookstoremanager.book.exception.BookAlreadyExistsException;
 import com.server.bookstoremanager.book.exception.BookNotFoundException;
+import com.server.bookstoremanager.book.exception.InvalidBookCursorException;
+import com.server.bookstoremanager.book.exception.InvalidIsbnException;
 import com.server.bookstoremanager.book.mapper.BookMapper;
 import com.server.bookstoremanager.book.repository.BookRepository;
+import com.server.bookstoremanager.book.util.BookCursorUtils;
+import com.server.bookstoremanager.common.dto.ResourceVersion;
 import com.server.bookstoremanager.publisher.entity.Publisher;
 import com.server.bookstoremanager.publisher.service.PublisherService;
 import com.server.bookstoremanager.user.dto.AuthenticatedUser;
 import com.server.bookstoremanager.user.entity.User;
 import com.server.bookstoremanager.user.service.UserService;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +43,7 @@ import java.util.Optional;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -38,6 +52,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class BookServiceTest {
 
+    private static final long EXPECTED_ISBN_13 = 9783161484100L;
+
     private final BookMapper bookMapper = BookMapper.INSTANCE;
 
     @Mock
@@ -52,6 +68,12 @@ public class BookServiceTest {
     @Mock
     private PublisherService publisherService;
 
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+
+    @Mock
+    private BookIsbnIndex bookIsbnIndex;
+
     @InjectMocks
     private BookService bookService;
 
@@ -76,37 +98,42 @@ public class BookServiceTest {
         Book expectedCreatedBook = bookMapper.toModel(expectedCreatedBookDTO);
 
         //when
-        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
-        when(bookRepository.findByNameAndIsbnAndUser(
-                eq(expectedBookToCreateDTO.getName()),
-                eq(expectedBookToCreateDTO.getIsbn()),
-                any(User.class)))
-                .thenReturn(Optional.empty());
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(expectedUser());
         when(authorService.verifyAndGetIfExists(expectedBookToCreateDTO.getAuthorId())).thenReturn(new Author());
         when(publisherService.verifyAndGetIfExists(expectedBookToCreateDTO.getPublisherId())).thenReturn(new Publisher());
-        when(bookRepository.save(any(Book.class))).thenReturn(expectedCreatedBook);
+        when(bookRepository.saveAndFlush(any(Book.class))).thenReturn(expectedCreatedBook);
         BookResponseDTO createdBookResponseDTO = bookService.create(authenticatedUser, expectedBookToCreateDTO);
 
         //then
         assertThat(createdBookResponseDTO, is(equalTo(expectedCreatedBookDTO)));
+        verify(bookIsbnIndex, times(1)).index(expectedCreatedBook);
     }
 
     @Test
     void whenExistingBookIsInformedThenAnExceptionShouldBeThrown() {
         //given
         BookRequestDTO expectedBookToCreateDTO = bookRequestDTOBuilder.buildRequestBookDTO();
-        Book expectedDuplicatedBook = bookMapper.toModel(expectedBookToCreateDTO);
 
         //when
-        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
-        when(bookRepository.findByNameAndIsbnAndUser(
-                eq(expectedBookToCreateDTO.getName()),
-                eq(expectedBookToCreateDTO.getIsbn()),
-                any(User.class)))
-                .thenReturn(Optional.of(expectedDuplicatedBook));
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(expectedUser());
+        when(bookRepository.saveAndFlush(any(Book.class))).thenThrow(constraintViolation(Book.UNIQUE_NAME_AND_ISBN));
 
         //then
         assertThrows(BookAlreadyExistsException.class, () -> bookService.create(authenticatedUser, expectedBookToCreateDTO));
+        verify(bookIsbnIndex, never()).index(any());
+    }
+
+    @Test
+    void whenOtherConstraintIsViolatedOnCreateThenOriginalExceptionShouldBeThrown() {
+        //given
+        BookRequestDTO expectedBookToCreateDTO = bookRequestDTOBuilder.buildRequestBookDTO();
+
+        //when
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(expectedUser());
+        when(bookRepository.saveAndFlush(any(Book.class))).thenThrow(constraintViolation("fk_book_author"));
+
+        //then
+        assertThrows(DataIntegrityViolationException.class, () -> bookService.create(authenticatedUser, expectedBookToCreateDTO));
     }
 
     @Test
@@ -114,14 +141,13 @@ public class BookServiceTest {
         //given
         BookRequestDTO expectedBookToFindDTO = bookRequestDTOBuilder.buildRequestBookDTO();
         BookResponseDTO expectedFoundBookDTO = bookResponseDTOBuilder.buildBookResponseDTO();
-        Book expectedFoundBook = bookMapper.toModel(expectedFoundBookDTO);
 
         //when
         when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
-        when(bookRepository.findByIdAndUser(
+        when(bookRepository.findResponseByIdAndUser(
                 eq(expectedBookToFindDTO.getId()),
                 any(User.class)))
-                .thenReturn(Optional.of(expectedFoundBook));
+                .thenReturn(Optional.of(expectedFoundBookDTO));
         BookResponseDTO foundBookDTO = bookService.findByIdAndUser(authenticatedUser, expectedBookToFindDTO.getId());
 
 
@@ -136,7 +162,7 @@ public class BookServiceTest {
 
         //when
         when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
-        when(bookRepository.findByIdAndUser(
+        when(bookRepository.findResponseByIdAndUser(
                 eq(expectedBookToFindDTO.getId()),
                 any(User.class)))
                 .thenReturn(Optional.empty());
@@ -145,32 +171,211 @@ public class BookServiceTest {
         assertThrows(BookNotFoundException.class, () -> bookService.findByIdAndUser(authenticatedUser, expectedBookToFindDTO.getId()));
     }
 
+    @Test
+    void whenExistingBookIsInformedThenItsVersionShouldBeReturned() {
+        //given
+        Long expectedBookId = bookRequestDTOBuilder.buildRequestBookDTO().getId();
+        ResourceVersion expectedVersion = new ResourceVersion(expectedBookId, LocalDateTime.now());
+
+        //when
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
+        when(bookRepository.findVersionByIdAndUser(eq(expectedBookId), any(User.class))).thenReturn(Optional.of(expectedVersion));
+        ResourceVersion foundVersion = bookService.findVersionByIdAndUser(authenticatedUser, expectedBookId);
+
+        //then
+        assertThat(foundVersion, is(equalTo(expectedVersion)));
+        verify(bookRepository, never()).findResponseByIdAndUser(any(), any());
+    }
+
+    @Test
+    void whenNotExistingBookVersionIsInformedThenAnExceptionShouldBeThrown() {
+        //given
+        Long expectedBookId = bookRequestDTOBuilder.buildRequestBookDTO().getId();
+
+        //when
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
+        when(bookRepository.findVersionByIdAndUser(eq(expectedBookId), any(User.class))).thenReturn(Optional.empty());
+
+        //then
+        assertThrows(BookNotFoundException.class, () -> bookService.findVersionByIdAndUser(authenticatedUser, expectedBookId));
+    }
+
     @Test
     void whenListBookIsCalledThenItShouldBeReturned() {
         //given
-        BookResponseDTO expectedFoundBookDTO = bookResponseDTOBuilder.buildBookResponseDTO();
-        Book expectedFoundBook = bookMapper.toModel(expectedFoundBookDTO);
+        BookResponseDTO expectedFoundBook = bookResponseDTOBuilder.buildBookResponseDTO();
 
         //when
         when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
-        when(bookRepository.findAllByUser(any(User.class)))
+        when(bookRepository.findIdsByUser(any(User.class), any(Pageable.class)))
+                .thenReturn(Collections.singletonList(expectedFoundBook.getId()));
+        when(bookRepository.findAllResponsesByUserAndIdIn(any(User.class), eq(Collections.singletonList(expectedFoundBook.getId()))))
                 .thenReturn(Collections.singletonList(expectedFoundBook));
-        List<BookResponseDTO> bookResponseList = bookService.findAllByUser(authenticatedUser);
+        BookPageDTO bookResponsePage = bookService.findAllByUser(authenticatedUser, null, 20, BookSort.ID_ASC);
 
         //then
-        assertThat(bookResponseList.size(), is(1));
-        assertThat(bookResponseList.get(0), is(equalTo(expectedFoundBookDTO)));
+        assertThat(bookResponsePage.getBooks().size(), is(1));
+        assertThat(bookResponsePage.getBooks().get(0), is(equalTo(expectedFoundBook)));
+        assertThat(bookResponsePage.getNextCursor(), is(nullValue()));
+    }
+
+    @Test
+    void whenNormalizedListBookIsCalledThenAuthorsAndPublishersShouldBeSentOnce() {
+        //given
+        BookResponseDTO expectedFirstBook = bookResponseDTOBuilder.buildBookResponseDTO();
+        BookResponseDTO expectedSecondBook = BookResponseBuilder.builder().id(2L).name("Other Book").build().buildBookResponseDTO();
+        List<Long> expectedBookIds = Arrays.asList(expectedFirstBook.getId(), expectedSecondBook.getId());
+
+        //when
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
+        when(bookRepository.findIdsByUser(any(User.class), any(Pageable.class))).thenReturn(expectedBookIds);
+        when(bookRepository.findAllResponsesByUserAndIdIn(any(User.class), eq(expectedBookIds)))
+                .thenReturn(Arrays.asList(expectedSecondBook, expectedFirstBook));
+        NormalizedBookPageDTO normalizedPage = bookService.findNormalizedByUser(authenticatedUser, null, 20, BookSort.ID_ASC);
+
+        //then
+        assertThat(normalizedPage.getBooks().size(), is(2));
+        assertThat(normalizedPage.getBooks().get(0).getId(), is(equalTo(expectedFirstBook.getId())));
+        assertThat(normalizedPage.getBooks().get(1).getAuthorId(), is(equalTo(expectedSecondBook.getAuthor().getId())));
+        assertThat(normalizedPage.getAuthors().size(), is(1));
+        assertThat(normalizedPage.getPublishers().size(), is(1));
+        assertThat(normalizedPage.getNextCursor(), is(nullValue()));
     }
 
     @Test
     void whenListBookIsCalledThenEmptyListShouldBeReturned() {
         //when
         when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
-        when(bookRepository.findAllByUser(any(User.class))).thenReturn(Collections.emptyList());
-        List<BookResponseDTO> bookResponseDTOListByUser = bookService.findAllByUser(authenticatedUser);
+        when(bookRepository.findIdsByUser(any(User.class), any(Pageable.class))).thenReturn(Collections.emptyList());
+        BookPageDTO bookResponsePageByUser = bookService.findAllByUser(authenticatedUser, null, 20, BookSort.ID_ASC);
+
+        //then
+        assertThat(bookResponsePageByUser.getBooks().size(), is(0));
+        verify(bookRepository, never()).findAllResponsesByUserAndIdIn(any(), any());
+    }
+
+    @Test
+    void whenListBookHasMoreBooksThanPageSizeThenNextCursorShouldBeReturned() {
+        //given
+        BookResponseDTO expectedFirstBook = bookResponseDTOBuilder.buildBookResponseDTO();
+        BookResponseDTO expectedSecondBook = BookResponseBuilder.builder().id(2L).build().buildBookResponseDTO();
+
+        //when
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
+        when(bookRepository.findIdsByUser(any(User.class), any(Pageable.class)))
+                .thenReturn(Arrays.asList(expectedFirstBook.getId(), expectedSecondBook.getId()));
+        when(bookRepository.findAllResponsesByUserAndIdIn(any(User.class), eq(Collections.singletonList(expectedFirstBook.getId()))))
+                .thenReturn(Collections.singletonList(expectedFirstBook));
+        BookPageDTO bookResponsePage = bookService.findAllByUser(authenticatedUser, null, 1, BookSort.ID_ASC);
 
         //then
-        assertThat(bookResponseDTOListByUser.size(), is(0));
+        assertThat(bookResponsePage.getBooks().size(), is(1));
+        assertThat(bookResponsePage.getNextCursor(), is(equalTo(BookCursorUtils.encode(expectedFirstBook))));
+    }
+
+    @Test
+    void whenListBookIsCalledWithCursorThenNextPageShouldBeReturned() {
+        //given
+        BookResponseDTO expectedLastBook = bookResponseDTOBuilder.buildBookResponseDTO();
+        BookResponseDTO expectedNextBook = BookResponseBuilder.builder().id(2L).build().buildBookResponseDTO();
+        String cursor = BookCursorUtils.encode(expectedLastBook);
+
+        //when
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
+        when(bookRepository.findIdsByUserAfterIdAsc(
+                any(User.class),
+                eq(expectedLastBook.getId()),
+                any(Pageable.class)))
+                .thenReturn(Collections.singletonList(expectedNextBook.getId()));
+        when(bookRepository.findAllResponsesByUserAndIdIn(any(User.class), eq(Collections.singletonList(expectedNextBook.getId()))))
+                .thenReturn(Collections.singletonList(expectedNextBook));
+        BookPageDTO bookResponsePage = bookService.findAllByUser(authenticatedUser, cursor, 20, BookSort.ID_ASC);
+
+        //then
+        assertThat(bookResponsePage.getBooks().get(0).getId(), is(equalTo(expectedNextBook.getId())));
+        assertThat(bookResponsePage.getNextCursor(), is(nullValue()));
+    }
+
+    @Test
+    void whenInvalidCursorIsInformedThenAnExceptionShouldBeThrown() {
+        //when
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
+
+        //then
+        assertThrows(InvalidBookCursorException.class,
+                () -> bookService.findAllByUser(authenticatedUser, "invalid", 20, BookSort.ID_ASC));
+    }
+
+    @Test
+    void whenRegisteredIsbnIsInformedThenItsBooksShouldBeReturned() {
+        //given
+        BookResponseDTO expectedFoundBook = bookResponseDTOBuilder.buildBookResponseDTO();
+
+        //when
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(expectedUser());
+        when(bookIsbnIndex.find(1L, EXPECTED_ISBN_13)).thenReturn(new long[]{expectedFoundBook.getId()});
+        when(bookRepository.findAllResponsesByUserAndIdIn(any(User.class), eq(Collections.singletonList(expectedFoundBook.getId()))))
+                .thenReturn(Collections.singletonList(expectedFoundBook));
+        List<BookResponseDTO> foundBooks = bookService.findAllByUserAndIsbn(authenticatedUser, "9783161484100");
+
+        //then
+        assertThat(foundBooks.size(), is(1));
+        assertThat(foundBooks.get(0).getId(), is(equalTo(expectedFoundBook.getId())));
+    }
+
+    @Test
+    void whenUnregisteredIsbnIsInformedThenDatabaseShouldNotBeQueried() {
+        //when
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(expectedUser());
+        when(bookIsbnIndex.find(1L, EXPECTED_ISBN_13)).thenReturn(new long[0]);
+        List<BookResponseDTO> foundBooks = bookService.findAllByUserAndIsbn(authenticatedUser, "978-3-16-148410-0");
+
+        //then
+        assertThat(foundBooks.isEmpty(), is(true));
+        verify(bookRepository, never()).findAllResponsesByUserAndIdIn(any(), any());
+    }
+
+    @Test
+    void whenInvalidIsbnIsInformedThenAnExceptionShouldBeThrown() {
+        //when
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(expectedUser());
+
+        //then
+        assertThrows(InvalidIsbnException.class, () -> bookService.findAllByUserAndIsbn(authenticatedUser, "978-3-16-148410-1"));
+    }
+
+    @Test
+    void whenSearchIsCalledThenBooksShouldBeReturnedInRankOrder() {
+        //given
+        User expectedUser = new User();
+        expectedUser.setId(1L);
+        BookResponseDTO firstRankedBook = bookResponseDTOBuilder.buildBookResponseDTO();
+        firstRankedBook.setId(2L);
+        BookResponseDTO secondRankedBook = bookResponseDTOBuilder.buildBookResponseDTO();
+
+        //when
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(expectedUser);
+        when(bookSearchIndex.search(expectedUser.getId(), "spring", 20)).thenReturn(Arrays.asList(2L, 1L));
+        when(bookRepository.findAllResponsesByUserAndIdIn(expectedUser, Arrays.asList(2L, 1L)))
+                .thenReturn(Arrays.asList(secondRankedBook, firstRankedBook));
+        List<BookResponseDTO> foundBooks = bookService.searchByUser(authenticatedUser, "spring", 20);
+
+        //then
+        assertThat(foundBooks.size(), is(2));
+        assertThat(foundBooks.get(0).getId(), is(equalTo(2L)));
+        assertThat(foundBooks.get(1).getId(), is(equalTo(1L)));
+    }
+
+    @Test
+    void whenSearchHasNoMatchesThenEmptyListShouldBeReturned() {
+        //when
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
+        when(bookSearchIndex.search(any(), eq("unknown"), eq(20))).thenReturn(Collections.emptyList());
+        List<BookResponseDTO> foundBooks = bookService.searchByUser(authenticatedUser, "unknown", 20);
+
+        //then
+        assertThat(foundBooks.isEmpty(), is(true));
+        verify(bookRepository, never()).findAllResponsesByUserAndIdIn(any(), any());
     }
 
     @Test
@@ -179,14 +384,16 @@ public class BookServiceTest {
         BookRequestDTO expectedBookToUpdateDTO = bookRequestDTOBuilder.buildRequestBookDTO();
         BookResponseDTO expectedUpdatedBookDTO = bookResponseDTOBuilder.buildBookResponseDTO();
         Book expectedUpdatedBook = bookMapper.toModel(expectedUpdatedBookDTO);
+        User authenticatedUserEntity = new User();
+        authenticatedUserEntity.setId(1L);
 
         //when
-        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(new User());
+        when(userService.verifyAndGetUserIfExists(authenticatedUser.getUsername())).thenReturn(authenticatedUserEntity);
         when(bookRepository.findByIdAndUser(eq(expectedBookToUpdateDTO.getId()), any(User.class)))
                 .thenReturn(Optional.of(expectedUpdatedBook));
         when(authorService.verifyAndGetIfExists(expectedBookToUpdateDTO.getAuthorId())).thenReturn(new Author());
         when(publisherService.verifyAndGetIfExists(expectedBookToUpdateDTO.getPublisherId())).thenReturn(new Publisher());
-        when(bookRepository.save(any(Book.class))).thenReturn(expectedUpdatedBook);
+        when(bookRepository.saveAndFlush(any(Book.class))).thenReturn(expectedUpdatedBook);
         BookResponseDTO updatedBookResponse = bookService.updateByUser(
                 authenticatedUser,
                 expectedBookToUpdateDTO.getId(),
@@ -194,6 +401,9 @@ public class BookServiceTest {
 
         //then
         assertThat(updatedBookResponse, is(equalTo(expectedUpdatedBookDTO)));
+        verify(bookSearchIndex, times(1)).index(expectedUpdatedBook);
+        verify(bookIsbnIndex, times(1)).remove(1L, expectedUpdatedBook.getIsbn13(), expectedUpdatedBook.getId());
+        verify(bookIsbnIndex, times(1)).index(expectedUpdatedBook);
     }
 
     @Test
@@ -230,6 +440,8 @@ public class BookServiceTest {
 
         //then
         verify(bookRepository, times(1)).deleteByIdAndUser(eq(expectedBookToDeleteDTO.getId()), any(User.class));
+        verify(bookSearchIndex, times(1)).remove(expectedBookToDeleteDTO.getId());
+        verify(bookIsbnIndex, times(1)).remove(any(Book.class));
     }
 
     @Test
@@ -248,4 +460,15 @@ public class BookServiceTest {
         assertThrows(BookNotFoundException.class, () -> bookService.deleteByIdAndUser(authenticatedUser, expectedBookToDeleteDTO.getId()));
         verify(bookRepository, times(0)).deleteByIdAndUser(eq(expectedBookToDeleteDTO.getId()), any(User.class));
     }
+
+    private User expectedUser() {
+        User expectedUser = new User();
+        expectedUser.setId(1L);
+        return expectedUser;
+    }
+
+    private DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+    }
 }
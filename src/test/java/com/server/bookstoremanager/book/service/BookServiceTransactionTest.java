@@ -0,0 +1,282 @@
+package com.server.bookstoremanager.book.service;
+
+import com.server.bookstoremanager.author.builder.AuthorBuilder;
+import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.author.mapper.AuthorMapper;
+import com.server.bookstoremanager.author.service.AuthorService;
+import com.server.bookstoremanager.author.service.AuthorSuggestionIndex;
+import com.server.bookstoremanager.book.builder.BookRequestBuilder;
+import com.server.bookstoremanager.book.dto.BookPageDTO;
+import com.server.bookstoremanager.book.dto.BookRequestDTO;
+import com.server.bookstoremanager.book.dto.BookResponseDTO;
+import com.server.bookstoremanager.book.enums.BookSort;
+import com.server.bookstoremanager.book.repository.BookRepository;
+import com.server.bookstoremanager.book.util.IsbnUtils;
+import com.server.bookstoremanager.config.CacheConfig;
+import com.server.bookstoremanager.config.JpaAuditingConfig;
+import com.server.bookstoremanager.publisher.builder.PublisherBuilder;
+import com.server.bookstoremanager.publisher.entity.Publisher;
+import com.server.bookstoremanager.publisher.mapper.PublisherMapper;
+import com.server.bookstoremanager.publisher.service.PublisherService;
+import com.server.bookstoremanager.publisher.service.PublisherSuggestionIndex;
+import com.server.bookstoremanager.user.builder.UserBuilder;
+import com.server.bookstoremanager.user.dto.AuthenticatedUser;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.mapper.UserMapper;
+import com.server.bookstoremanager.user.service.UserService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({BookService.class, BookSearchIndex.class, BookIsbnIndex.class, UserService.class, AuthorService.class, AuthorSuggestionIndex.class,
+        PublisherService.class, PublisherSuggestionIndex.class, CacheConfig.class, JpaAuditingConfig.class})
+public class BookServiceTransactionTest {
+
+    private static final String UPDATED_ISBN = "978-0-306-40615-7";
+
+    private static final String UPDATED_EMAIL = "updated@teste.com";
+
+    private static final String UPDATED_NAME = "Updated Name";
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookIsbnIndex bookIsbnIndex;
+
+    @Autowired
+    private BookSearchIndex bookSearchIndex;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    private AuthenticatedUser authenticatedUser;
+
+    private User user;
+
+    private Author author;
+
+    private Publisher publisher;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+        transactionTemplate.executeWithoutResult(status -> {
+            user = UserMapper.INSTANCE.toModel(UserBuilder.builder().id(null).build().buildUserDTO());
+            author = AuthorMapper.INSTANCE.toModel(AuthorBuilder.builder().id(null).build().buildAuthorDTO());
+            publisher = PublisherMapper.INSTANCE.toModel(PublisherBuilder.builder().id(null).build().buildPublisherDTO());
+            entityManager.persist(user);
+            entityManager.persist(author);
+            entityManager.persist(publisher);
+        });
+        authenticatedUser = new AuthenticatedUser(user.getUsername(), user.getPassword(), user.getRole().name());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            bookRepository.deleteAll();
+            entityManager.remove(entityManager.merge(user));
+            entityManager.remove(entityManager.merge(author));
+            entityManager.remove(entityManager.merge(publisher));
+        });
+        bookIsbnIndex.rebuild();
+        bookSearchIndex.rebuild();
+    }
+
+    @Test
+    void whenBookIsCreatedThenLookupsAndInsertShouldShareOneTransaction() {
+        //when
+        bookService.create(authenticatedUser, bookRequest(null));
+
+        //then
+        assertThat(statistics.getTransactionCount(), is(equalTo(1L)));
+        assertThat(bookRepository.count(), is(equalTo(1L)));
+    }
+
+    @Test
+    void whenBookPageIsReadThenItShouldRunInOneTransactionWithoutFlushing() {
+        //given
+        bookService.create(authenticatedUser, bookRequest(null));
+        statistics.clear();
+
+        //when
+        BookPageDTO foundPage = bookService.findAllByUser(authenticatedUser, null, 20, BookSort.ID_ASC);
+
+        //then
+        assertThat(foundPage.getBooks().size(), is(equalTo(1)));
+        assertThat(statistics.getTransactionCount(), is(equalTo(1L)));
+        assertThat(statistics.getFlushCount(), is(equalTo(0L)));
+    }
+
+    @Test
+    void whenBookIsbnIsUpdatedThenPreviousIsbnShouldLeaveTheIsbnIndex() {
+        //given
+        BookResponseDTO createdBook = bookService.create(authenticatedUser, bookRequest(null));
+        BookRequestDTO bookToUpdate = bookRequest(createdBook.getId());
+        bookToUpdate.setIsbn(UPDATED_ISBN);
+
+        //when
+        bookService.updateByUser(authenticatedUser, createdBook.getId(), bookToUpdate);
+
+        //then
+        assertThat(bookIsbnIndex.find(user.getId(), IsbnUtils.toIsbn13(createdBook.getIsbn())).length, is(equalTo(0)));
+        assertThat(bookIsbnIndex.find(user.getId(), IsbnUtils.toIsbn13(UPDATED_ISBN)).length, is(equalTo(1)));
+    }
+
+    @Test
+    void whenBookCreateRollsBackThenItsIsbnShouldNotBeIndexed() {
+        //given
+        BookRequestDTO bookToCreate = bookRequest(null);
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            bookService.create(authenticatedUser, bookToCreate);
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(bookIsbnIndex.find(user.getId(), IsbnUtils.toIsbn13(bookToCreate.getIsbn())).length, is(equalTo(0)));
+    }
+
+    @Test
+    void whenBookDeleteRollsBackThenItsIsbnShouldStayIndexed() {
+        //given
+        BookResponseDTO createdBook = bookService.create(authenticatedUser, bookRequest(null));
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            bookService.deleteByIdAndUser(authenticatedUser, createdBook.getId());
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(bookIsbnIndex.find(user.getId(), IsbnUtils.toIsbn13(createdBook.getIsbn())),
+                is(equalTo(new long[]{createdBook.getId()})));
+        assertThat(bookService.findAllByUserAndIsbn(authenticatedUser, createdBook.getIsbn()).size(), is(equalTo(1)));
+    }
+
+    @Test
+    void whenBookCreateRollsBackThenItShouldNotBeSearchable() {
+        //given
+        BookRequestDTO bookToCreate = bookRequest(null);
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            bookService.create(authenticatedUser, bookToCreate);
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(bookSearchIndex.search(user.getId(), bookToCreate.getName(), 20).isEmpty(), is(true));
+    }
+
+    @Test
+    void whenBookDeleteRollsBackThenItShouldStaySearchable() {
+        //given
+        BookResponseDTO createdBook = bookService.create(authenticatedUser, bookRequest(null));
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            bookService.deleteByIdAndUser(authenticatedUser, createdBook.getId());
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(bookSearchIndex.search(user.getId(), createdBook.getName(), 20), is(equalTo(List.of(createdBook.getId()))));
+    }
+
+    @Test
+    void whenCachedUserIsStaleThenBookUpdateShouldNotOverwriteTheUser() {
+        //given
+        BookResponseDTO createdBook = bookService.create(authenticatedUser, bookRequest(null));
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.find(User.class, user.getId()).setEmail(UPDATED_EMAIL));
+
+        //when
+        bookService.updateByUser(authenticatedUser, createdBook.getId(), bookRequest(createdBook.getId()));
+
+        //then
+        User foundUser = transactionTemplate.execute(status -> entityManager.find(User.class, user.getId()));
+        assertThat(foundUser.getEmail(), is(equalTo(UPDATED_EMAIL)));
+    }
+
+    @Test
+    void whenCachedAuthorIsStaleThenBookUpdateShouldNotOverwriteTheAuthor() {
+        //given
+        BookResponseDTO createdBook = bookService.create(authenticatedUser, bookRequest(null));
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.find(Author.class, author.getId()).setName(UPDATED_NAME));
+
+        //when
+        bookService.updateByUser(authenticatedUser, createdBook.getId(), bookRequest(createdBook.getId()));
+
+        //then
+        Author foundAuthor = transactionTemplate.execute(status -> entityManager.find(Author.class, author.getId()));
+        assertThat(foundAuthor.getName(), is(equalTo(UPDATED_NAME)));
+    }
+
+    @Test
+    void whenCachedPublisherIsStaleThenBookUpdateShouldNotOverwriteThePublisher() {
+        //given
+        BookResponseDTO createdBook = bookService.create(authenticatedUser, bookRequest(null));
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.find(Publisher.class, publisher.getId()).setName(UPDATED_NAME));
+
+        //when
+        bookService.updateByUser(authenticatedUser, createdBook.getId(), bookRequest(createdBook.getId()));
+
+        //then
+        Publisher foundPublisher = transactionTemplate.execute(status -> entityManager.find(Publisher.class, publisher.getId()));
+        assertThat(foundPublisher.getName(), is(equalTo(UPDATED_NAME)));
+    }
+
+    private BookRequestDTO bookRequest(Long id) {
+        return BookRequestBuilder.builder()
+                .id(id)
+                .authorId(author.getId())
+                .publisherId(publisher.getId())
+                .build().buildRequestBookDTO();
+    }
+}
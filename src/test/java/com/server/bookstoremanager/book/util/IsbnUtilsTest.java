@@ -0,0 +1,37 @@
+package com.server.bookstoremanager.book.util;
+
+import com.server.bookstoremanager.book.exception.InvalidIsbnException;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IsbnUtilsTest {
+
+    @Test
+    void whenHyphenatedIsbn13IsInformedThenItShouldBeNormalized() {
+        assertThat(IsbnUtils.toIsbn13("978-3-16-148410-0"), is(equalTo(9783161484100L)));
+        assertThat(IsbnUtils.toIsbn13("978.0306406157"), is(equalTo(9780306406157L)));
+    }
+
+    @Test
+    void whenIsbn10IsInformedThenItShouldBeConvertedToIsbn13() {
+        assertThat(IsbnUtils.toIsbn13("0-306-40615-2"), is(equalTo(9780306406157L)));
+        assertThat(IsbnUtils.toIsbn13("0 8044 2957 X"), is(equalTo(9780804429573L)));
+    }
+
+    @Test
+    void whenChecksumIsWrongThenAnExceptionShouldBeThrown() {
+        assertThrows(InvalidIsbnException.class, () -> IsbnUtils.toIsbn13("978-3-16-148410-1"));
+        assertThrows(InvalidIsbnException.class, () -> IsbnUtils.toIsbn13("0-306-40615-3"));
+    }
+
+    @Test
+    void whenIsbnHasWrongLengthOrCharactersThenAnExceptionShouldBeThrown() {
+        assertThrows(InvalidIsbnException.class, () -> IsbnUtils.toIsbn13("978316148410"));
+        assertThrows(InvalidIsbnException.class, () -> IsbnUtils.toIsbn13("97831614841O0"));
+        assertThrows(InvalidIsbnException.class, () -> IsbnUtils.toIsbn13(null));
+    }
+}
@@ -0,0 +1,77 @@
+package com.server.bookstoremanager.common.exception;
+
+import com.server.bookstoremanager.book.exception.BookNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class BookStoreExceptionHandlerTest {
+
+    private MeterRegistry meterRegistry;
+
+    private BookStoreExceptionHandler bookStoreExceptionHandler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bookStoreExceptionHandler = new BookStoreExceptionHandler(meterRegistry);
+    }
+
+    @Test
+    void whenDomainExceptionIsHandledThenItShouldBeCounted() {
+        //when
+        ResponseEntity<Object> response = bookStoreExceptionHandler.handleEntityNotFoundException(new BookNotFoundException(1L));
+        bookStoreExceptionHandler.handleEntityNotFoundException(new BookNotFoundException(2L));
+
+        //then
+        assertThat(response.getStatusCode(), is(HttpStatus.NOT_FOUND));
+        assertThat(meterRegistry.counter(BookStoreExceptionHandler.EXCEPTIONS_COUNTER, "exception", "BookNotFoundException").count(),
+                is(equalTo(2.0)));
+    }
+
+    @Test
+    void whenValidationErrorIsHandledThenItShouldBeCounted() throws Exception {
+        //given
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "bookRequestDTO");
+        bindingResult.addError(new FieldError("bookRequestDTO", "name", "must not be blank"));
+        MethodParameter parameter = new MethodParameter(Object.class.getMethod("equals", Object.class), 0);
+
+        //when
+        ResponseEntity<Object> response = bookStoreExceptionHandler.handleMethodArgumentNotValid(
+                new MethodArgumentNotValidException(parameter, bindingResult), HttpHeaders.EMPTY, HttpStatus.BAD_REQUEST, null);
+
+        //then
+        assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST));
+        assertThat(meterRegistry.counter(BookStoreExceptionHandler.EXCEPTIONS_COUNTER, "exception", "MethodArgumentNotValidException").count(),
+                is(equalTo(1.0)));
+    }
+
+    @Test
+    void whenMalformedBodyIsHandledThenItShouldBeCounted() {
+        //given
+        HttpMessageNotReadableException exception = new HttpMessageNotReadableException("Malformed body", new MockHttpInputMessage(new byte[0]));
+
+        //when
+        ResponseEntity<Object> response = bookStoreExceptionHandler.handleHttpMessageNotReadable(
+                exception, HttpHeaders.EMPTY, HttpStatus.BAD_REQUEST, null);
+
+        //then
+        assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST));
+        assertThat(meterRegistry.counter(BookStoreExceptionHandler.EXCEPTIONS_COUNTER, "exception", "HttpMessageNotReadableException").count(),
+                is(equalTo(1.0)));
+    }
+}
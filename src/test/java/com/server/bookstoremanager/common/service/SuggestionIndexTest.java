@@ -0,0 +1,106 @@
+package com.server.bookstoremanager.common.service;
+
+import com.server.bookstoremanager.author.builder.AuthorBuilder;
+import com.server.bookstoremanager.author.dto.AuthorDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class SuggestionIndexTest {
+
+    private SuggestionIndex<AuthorDTO> suggestionIndex;
+
+    @BeforeEach
+    void setUp() {
+        suggestionIndex = new SuggestionIndex<>(AuthorDTO::getId, AuthorDTO::getName);
+        suggestionIndex.replaceAll(Arrays.asList(
+                author(1L, "Robert Martin"),
+                author(2L, "Martin Fowler"),
+                author(3L, "Joshua Bloch"),
+                author(4L, "Márcio Marques"),
+                author(5L, "Maria Martins")));
+    }
+
+    @Test
+    void whenNamePrefixIsInformedThenNameMatchesShouldComeBeforeWordMatches() {
+        //when
+        List<Long> suggestedIds = ids(suggestionIndex.suggest("mart", 10));
+
+        //then
+        assertThat(suggestedIds, is(equalTo(Arrays.asList(2L, 1L, 5L))));
+    }
+
+    @Test
+    void whenPrefixHasAccentsOrUpperCaseThenItShouldBeIgnored() {
+        //when
+        List<Long> suggestedIds = ids(suggestionIndex.suggest("MARC", 10));
+
+        //then
+        assertThat(suggestedIds, is(equalTo(Collections.singletonList(4L))));
+    }
+
+    @Test
+    void whenPrefixSpansSeveralWordsThenFullNameShouldBeMatched() {
+        //when
+        List<Long> suggestedIds = ids(suggestionIndex.suggest("joshua  bl", 10));
+
+        //then
+        assertThat(suggestedIds, is(equalTo(Collections.singletonList(3L))));
+    }
+
+    @Test
+    void whenLimitIsInformedThenOnlyTopSuggestionsShouldBeReturned() {
+        //when
+        List<Long> suggestedIds = ids(suggestionIndex.suggest("ma", 2));
+
+        //then
+        assertThat(suggestedIds, is(equalTo(Arrays.asList(4L, 5L))));
+    }
+
+    @Test
+    void whenEntryIsRemovedThenItShouldNotBeSuggested() {
+        //when
+        suggestionIndex.remove(1L);
+
+        //then
+        assertThat(ids(suggestionIndex.suggest("robert", 10)).isEmpty(), is(true));
+        assertThat(ids(suggestionIndex.suggest("martin", 10)), is(equalTo(Arrays.asList(2L, 5L))));
+        assertThat(suggestionIndex.size(), is(4));
+    }
+
+    @Test
+    void whenEntryIsPutAgainThenOnlyItsNewNameShouldBeSuggested() {
+        //when
+        suggestionIndex.put(author(3L, "Brian Goetz"));
+
+        //then
+        assertThat(ids(suggestionIndex.suggest("josh", 10)).isEmpty(), is(true));
+        assertThat(ids(suggestionIndex.suggest("goe", 10)), is(equalTo(Collections.singletonList(3L))));
+        assertThat(suggestionIndex.size(), is(5));
+    }
+
+    @Test
+    void whenPrefixIsBlankThenNothingShouldBeSuggested() {
+        //when
+        List<AuthorDTO> suggestions = suggestionIndex.suggest(" ", 10);
+
+        //then
+        assertThat(suggestions.isEmpty(), is(true));
+    }
+
+    private AuthorDTO author(Long id, String name) {
+        return AuthorBuilder.builder().id(id).name(name).build().buildAuthorDTO();
+    }
+
+    private List<Long> ids(List<AuthorDTO> suggestions) {
+        return suggestions.stream().map(AuthorDTO::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,71 @@
+package com.server.bookstoremanager.common.sql;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection targetConnection;
+
+    @Test
+    void whenConnectionIsClosedThenItsPermitShouldBeReleasedOnce() throws SQLException {
+        //given
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(targetDataSource, 2, Duration.ofMillis(10));
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+
+        //when
+        Connection connection = dataSource.getConnection();
+        int availableWhileOpen = dataSource.getAvailableConnections();
+        connection.close();
+        connection.close();
+
+        //then
+        assertThat(availableWhileOpen, is(equalTo(1)));
+        assertThat(dataSource.getAvailableConnections(), is(equalTo(2)));
+        verify(targetConnection, times(2)).close();
+    }
+
+    @Test
+    void whenAllConnectionsAreInUseThenGetConnectionShouldTimeOut() throws SQLException {
+        //given
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(targetDataSource, 1, Duration.ofMillis(10));
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        dataSource.getConnection();
+
+        //then
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(targetDataSource, times(1)).getConnection();
+    }
+
+    @Test
+    void whenTargetFailsThenPermitShouldBeReleased() throws SQLException {
+        //given
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(targetDataSource, 1, Duration.ofMillis(10));
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        //then
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertThat(dataSource.getAvailableConnections(), is(equalTo(1)));
+    }
+}
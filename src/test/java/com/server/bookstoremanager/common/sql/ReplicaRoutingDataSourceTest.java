@@ -0,0 +1,155 @@
+package com.server.bookstoremanager.common.sql;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class ReplicaRoutingDataSourceTest {
+
+    private static final String CREATE_HEARTBEAT_TABLE = "create table replica_heartbeat (id int primary key, beat timestamp not null)";
+
+    private DataSource primaryDataSource;
+
+    private DataSource replicaDataSource;
+
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    private AtomicReference<String> currentUsername;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primaryDataSource = h2DataSource("primary");
+        replicaDataSource = h2DataSource("replica");
+        replicaLagMonitor = new ReplicaLagMonitor(primaryDataSource, replicaDataSource, Duration.ofSeconds(2), Duration.ofSeconds(1));
+        currentUsername = new AtomicReference<>();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource,
+                replicaLagMonitor, currentUsername::get, Duration.ofMinutes(1)));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primaryDataSource).execute("shutdown");
+        new JdbcTemplate(replicaDataSource).execute("shutdown");
+    }
+
+    @Test
+    void whenReplicaIsInSyncThenReadOnlyTransactionsShouldUseIt() {
+        //given
+        replicateHeartbeat();
+
+        //when
+        String readOnlyNode = findNode(true);
+        String readWriteNode = findNode(false);
+
+        //then
+        assertThat(readOnlyNode, is(equalTo("replica")));
+        assertThat(readWriteNode, is(equalTo("primary")));
+    }
+
+    @Test
+    void whenReplicaLagIsUnknownThenReadOnlyTransactionsShouldFallBackToPrimary() {
+        //given
+        replicaLagMonitor.check();
+
+        //when
+        String readOnlyNode = findNode(true);
+
+        //then
+        assertThat(readOnlyNode, is(equalTo("primary")));
+    }
+
+    @Test
+    void whenReplicaLagsBehindMaxLagThenReadOnlyTransactionsShouldFallBackToPrimary() {
+        //given
+        replicateHeartbeat();
+        new JdbcTemplate(replicaDataSource).update("update replica_heartbeat set beat = dateadd('SECOND', -10, beat)");
+        replicaLagMonitor.check();
+
+        //when
+        String readOnlyNode = findNode(true);
+
+        //then
+        assertThat(readOnlyNode, is(equalTo("primary")));
+    }
+
+    @Test
+    void whenUserHasJustWrittenThenTheirReadsShouldStayOnPrimary() {
+        //given
+        replicateHeartbeat();
+        currentUsername.set("nikolas");
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update("update node set name = name"));
+
+        //when
+        String writerNode = findNode(true);
+        currentUsername.set("ana");
+        String otherUserNode = findNode(true);
+
+        //then
+        assertThat(writerNode, is(equalTo("primary")));
+        assertThat(otherUserNode, is(equalTo("replica")));
+    }
+
+    @Test
+    void whenWriteIsRolledBackThenReadsShouldNotStayOnPrimary() {
+        //given
+        replicateHeartbeat();
+        currentUsername.set("nikolas");
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("update node set name = name");
+            status.setRollbackOnly();
+        });
+
+        //when
+        String readOnlyNode = findNode(true);
+
+        //then
+        assertThat(readOnlyNode, is(equalTo("replica")));
+    }
+
+    // Stands in for replication: copies the heartbeat the primary wrote during the first check.
+    private void replicateHeartbeat() {
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        primary.execute(CREATE_HEARTBEAT_TABLE);
+        replica.execute(CREATE_HEARTBEAT_TABLE);
+        replicaLagMonitor.check();
+        replica.update("insert into replica_heartbeat values (1, ?)", primary.queryForObject("select beat from replica_heartbeat", Timestamp.class));
+        replicaLagMonitor.check();
+    }
+
+    private String findNode(boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select name from node", String.class));
+    }
+
+    private DataSource h2DataSource(String node) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + node + "_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (name varchar(16))");
+        jdbcTemplate.update("insert into node values (?)", node);
+        return dataSource;
+    }
+}
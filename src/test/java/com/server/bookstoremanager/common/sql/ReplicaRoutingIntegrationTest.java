@@ -0,0 +1,125 @@
+package com.server.bookstoremanager.common.sql;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.persistence.EntityManager;
+import java.sql.Timestamp;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingIntegrationTest.PRIMARY_URL,
+        "spring.datasource.replica.url=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "spring.datasource.replica.max-lag=1h",
+        "spring.datasource.replica.lag-check-interval=1h",
+        "spring.r2dbc.url=r2dbc:h2:mem:///replica_routing_primary?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@Import(ReplicaRoutingIntegrationTest.NodeController.class)
+public class ReplicaRoutingIntegrationTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:replica_routing_primary;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica_routing_replica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    private static final String CREATE_NODE_TABLE = "create table node (name varchar(16), writes int)";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @BeforeEach
+    void setUp() {
+        primary.execute(CREATE_NODE_TABLE);
+        replica.execute(CREATE_NODE_TABLE);
+        primary.update("insert into node values ('primary', 0)");
+        replica.update("insert into node values ('replica', 0)");
+        replicateHeartbeat();
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.execute("drop table node");
+        replica.execute("drop table node");
+    }
+
+    @Test
+    void whenRequestReadsThenWritesThenTheWriteShouldReachThePrimary() throws Exception {
+        //given
+        assertThat(transactionManager, is(instanceOf(JpaTransactionManager.class)));
+
+        //when
+        mockMvc.perform(post("/test/replica-routing"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("replica"));
+
+        //then
+        assertThat(primary.queryForObject("select writes from node", Integer.class), is(equalTo(1)));
+        assertThat(replica.queryForObject("select writes from node", Integer.class), is(equalTo(0)));
+    }
+
+    // Stands in for replication, as in ReplicaRoutingDataSourceTest.
+    private void replicateHeartbeat() {
+        replica.execute("create table if not exists replica_heartbeat (id int primary key, beat timestamp not null)");
+        replicaLagMonitor.check();
+        replica.update("merge into replica_heartbeat key (id) values (1, ?)",
+                primary.queryForObject("select beat from replica_heartbeat", Timestamp.class));
+        replicaLagMonitor.check();
+        assertThat(replicaLagMonitor.isReplicaUsable(), is(true));
+    }
+
+    @RestController
+    static class NodeController {
+
+        private final EntityManager entityManager;
+
+        private final TransactionTemplate readOnlyTransaction;
+
+        private final TransactionTemplate readWriteTransaction;
+
+        NodeController(EntityManager entityManager, PlatformTransactionManager transactionManager) {
+            this.entityManager = entityManager;
+            this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+            this.readOnlyTransaction.setReadOnly(true);
+            this.readWriteTransaction = new TransactionTemplate(transactionManager);
+        }
+
+        @PostMapping("/test/replica-routing")
+        String readThenWrite() {
+            String readNode = readOnlyTransaction.execute(status ->
+                    (String) entityManager.createNativeQuery("select name from node").getSingleResult());
+            readWriteTransaction.executeWithoutResult(status ->
+                    entityManager.createNativeQuery("update node set writes = writes + 1").executeUpdate());
+            return readNode;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.server.bookstoremanager.common.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class SqlStatementFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final SqlStatementListener listener = new SqlStatementListener(Duration.ofSeconds(1), false);
+
+    @Test
+    void whenRequestIsFilteredThenStatementsShouldBeRecordedPerRoute() throws ServletException, IOException {
+        //given
+        SqlStatementFilter filter = new SqlStatementFilter(meterRegistry, SqlStatementContext.UNLIMITED);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/books/1");
+        FilterChain chain = (servletRequest, servletResponse) -> {
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/books/{bookId}");
+            listener.beforeQuery(null, Collections.emptyList());
+            listener.beforeQuery(null, Collections.emptyList());
+        };
+
+        //when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        //then
+        DistributionSummary statements = meterRegistry.get(SqlStatementFilter.REQUEST_STATEMENTS_SUMMARY)
+                .tag("method", "GET")
+                .tag("uri", "/api/v1/books/{bookId}")
+                .summary();
+        assertThat(statements.count(), is(equalTo(1L)));
+        assertThat(statements.totalAmount(), is(equalTo(2.0)));
+        assertThat(SqlStatementContext.current(), is((SqlStatementContext) null));
+    }
+
+    @Test
+    void whenHandlerHasStatementBudgetThenItShouldLimitTheRequest() throws ServletException, IOException, NoSuchMethodException {
+        //given
+        SqlStatementFilter filter = new SqlStatementFilter(meterRegistry, 10);
+        HandlerMethod handler = new HandlerMethod(this, SqlStatementFilterTest.class.getDeclaredMethod("budgetedHandler"));
+        int[] maxStatements = new int[1];
+        FilterChain chain = (servletRequest, servletResponse) -> {
+            new StatementBudgetInterceptor().preHandle(null, null, handler);
+            maxStatements[0] = SqlStatementContext.current().getMaxStatements();
+        };
+
+        //when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/books"), new MockHttpServletResponse(), chain);
+
+        //then
+        assertThat(maxStatements[0], is(equalTo(3)));
+    }
+
+    @StatementBudget(3)
+    void budgetedHandler() {
+    }
+}
@@ -0,0 +1,113 @@
+package com.server.bookstoremanager.common.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SqlStatementListenerTest {
+
+    private static final String QUERY = "select * from book where user_id = ? and isbn13 = ?";
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementContext.end();
+    }
+
+    @Test
+    void whenStatementsAreExecutedThenCountAndTimeShouldBeRecordedInContext() {
+        //given
+        SqlStatementListener listener = new SqlStatementListener(Duration.ofSeconds(1), true);
+        SqlStatementContext context = SqlStatementContext.begin("GET /api/v1/books", SqlStatementContext.UNLIMITED);
+
+        //when
+        execute(listener, 5);
+        execute(listener, 7);
+
+        //then
+        assertThat(context.getStatements(), is(equalTo(2)));
+        assertThat(context.getElapsedMillis(), is(equalTo(12L)));
+        assertThat(context.isOverBudget(), is(false));
+    }
+
+    @Test
+    void whenStatementGoesOverBudgetInFailModeThenExceptionShouldBeThrown() {
+        //given
+        SqlStatementListener listener = new SqlStatementListener(Duration.ofSeconds(1), true);
+        SqlStatementContext context = SqlStatementContext.begin("GET /api/v1/books", SqlStatementContext.UNLIMITED);
+        execute(listener, 1);
+        context.limitTo(1);
+        execute(listener, 1);
+
+        //then
+        StatementBudgetExceededException exception = assertThrows(StatementBudgetExceededException.class, () -> execute(listener, 1));
+        assertThat(exception.getMessage(), containsString("GET /api/v1/books"));
+        assertThat(exception.getMessage(), containsString(QUERY));
+    }
+
+    @Test
+    void whenStatementGoesOverBudgetInWarnModeThenItShouldBeExecuted() {
+        //given
+        SqlStatementListener listener = new SqlStatementListener(Duration.ofSeconds(1), false);
+        SqlStatementContext context = SqlStatementContext.begin("GET /api/v1/books", 1);
+
+        //when
+        execute(listener, 1);
+        execute(listener, 1);
+        execute(listener, 1);
+
+        //then
+        assertThat(context.getStatements(), is(equalTo(3)));
+        assertThat(context.isOverBudget(), is(true));
+    }
+
+    @Test
+    void whenStatementRunsOutsideRequestThenItShouldNotBeCounted() {
+        //given
+        SqlStatementListener listener = new SqlStatementListener(Duration.ofSeconds(1), true);
+
+        //when
+        execute(listener, 1);
+
+        //then
+        assertThat(SqlStatementContext.current(), is((SqlStatementContext) null));
+    }
+
+    @Test
+    void whenBindShapeIsRequestedThenParameterTypesShouldBeReturnedWithoutValues() throws NoSuchMethodException {
+        //given
+        QueryInfo queryInfo = new QueryInfo(QUERY);
+        queryInfo.getParametersList().add(Arrays.asList(
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setLong", int.class, long.class), new Object[]{1, 9780000000001L}),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class), new Object[]{2, Types.BIGINT})));
+        queryInfo.getParametersList().add(Collections.emptyList());
+
+        //when
+        String bindShape = SqlStatementListener.bindShape(queryInfo);
+
+        //then
+        assertThat(bindShape, is(equalTo("(Long, null) x 2")));
+    }
+
+    private void execute(SqlStatementListener listener, long elapsedMillis) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(elapsedMillis);
+        List<QueryInfo> queries = Collections.singletonList(new QueryInfo(QUERY));
+        listener.beforeQuery(executionInfo, queries);
+        listener.afterQuery(executionInfo, queries);
+    }
+}
@@ -0,0 +1,119 @@
+package com.server.bookstoremanager.common.sql;
+
+import com.server.bookstoremanager.author.builder.AuthorBuilder;
+import com.server.bookstoremanager.book.builder.BookRequestBuilder;
+import com.server.bookstoremanager.book.dto.NormalizedBookPageDTO;
+import com.server.bookstoremanager.publisher.builder.PublisherBuilder;
+import com.server.bookstoremanager.user.builder.JwtRequestBuilder;
+import com.server.bookstoremanager.user.builder.UserBuilder;
+import com.server.bookstoremanager.user.enums.Role;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "sql.statement-budget.fail=true",
+        "spring.datasource.url=jdbc:h2:mem:statement_budget;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.replica.url=jdbc:h2:mem:statement_budget;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.r2dbc.url=r2dbc:h2:mem:///statement_budget?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class StatementBudgetIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private HttpHeaders headers;
+
+    private Long authorId;
+
+    private Long publisherId;
+
+    private Long bookId;
+
+    @BeforeAll
+    void setUp() {
+        restTemplate.postForEntity("/api/v1/users",
+                UserBuilder.builder().id(null).role(Role.ADMIN).build().buildUserDTO(), Map.class);
+        Map<?, ?> jwtResponse = restTemplate.postForObject("/api/v1/users/authenticate",
+                JwtRequestBuilder.builder().build().buildJwtRequest(), Map.class);
+
+        headers = new HttpHeaders();
+        headers.setBearerAuth((String) jwtResponse.get("jwtToken"));
+
+        authorId = idOf(post("/api/v1/authors", AuthorBuilder.builder().id(null).build().buildAuthorDTO()));
+        publisherId = idOf(post("/api/v1/publishers", PublisherBuilder.builder().id(null).build().buildPublisherDTO()));
+        bookId = idOf(post("/api/v1/books", BookRequestBuilder.builder()
+                .id(null)
+                .authorId(authorId)
+                .publisherId(publisherId)
+                .build()
+                .buildRequestBookDTO()));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "/api/v1/books/{bookId}, application/json",
+            "/api/v1/books, application/json",
+            "/api/v1/books, " + NormalizedBookPageDTO.MEDIA_TYPE_VALUE,
+            "/api/v1/books/isbn/9783161484100, application/json",
+            "/api/v1/books/search?q=spring, application/json",
+            "/api/v1/authors/{authorId}, application/json",
+            "/api/v1/authors, application/json",
+            "/api/v1/publishers/{publisherId}, application/json",
+            "/api/v1/publishers, application/json"
+    })
+    void whenBudgetedEndpointIsCalledWithColdCachesThenItShouldStayWithinItsBudget(String path, String accept) {
+        evictAllCaches();
+
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.putAll(headers);
+        requestHeaders.setAccept(MediaType.parseMediaTypes(accept));
+        String url = path.replace("{bookId}", bookId.toString())
+                .replace("{authorId}", authorId.toString())
+                .replace("{publisherId}", publisherId.toString());
+
+        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(requestHeaders), String.class);
+
+        assertThat(response.getBody(), response.getStatusCode(), is(HttpStatus.OK));
+    }
+
+    private Map<?, ?> post(String path, Object body) {
+        ResponseEntity<Map> response = restTemplate.exchange(path, HttpMethod.POST, new HttpEntity<>(body, headers), Map.class);
+        assertThat(response.getStatusCode(), is(HttpStatus.CREATED));
+        return response.getBody();
+    }
+
+    private Long idOf(Map<?, ?> body) {
+        return ((Number) body.get("id")).longValue();
+    }
+
+    private void evictAllCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+}
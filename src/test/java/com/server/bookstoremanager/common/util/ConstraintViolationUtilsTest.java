@@ -0,0 +1,33 @@
+package com.server.bookstoremanager.common.util;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class ConstraintViolationUtilsTest {
+
+    @Test
+    void whenConstraintNameMatchesThenViolationShouldBeRecognized() {
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(),
+                        "PUBLIC.UK_AUTHOR_NAME_INDEX_7 ON PUBLIC.AUTHOR(NAME) VALUES 1"));
+
+        assertThat(ConstraintViolationUtils.isViolationOf(exception, "uk_author_name"), is(true));
+        assertThat(ConstraintViolationUtils.isViolationOf(exception, "uk_publisher_code", "uk_author_name"), is(true));
+        assertThat(ConstraintViolationUtils.isViolationOf(exception, "uk_publisher_code"), is(false));
+    }
+
+    @Test
+    void whenConstraintNameIsMissingThenDriverMessageShouldBeUsed() {
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("duplicate key value violates unique constraint \"uk_user_email\""));
+
+        assertThat(ConstraintViolationUtils.isViolationOf(exception, "uk_user_email"), is(true));
+        assertThat(ConstraintViolationUtils.isViolationOf(exception, "uk_user_username"), is(false));
+    }
+}
@@ -0,0 +1,104 @@
+package com.server.bookstoremanager.config;
+
+import com.server.bookstoremanager.author.builder.AuthorBuilder;
+import com.server.bookstoremanager.author.dto.AuthorDTO;
+import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.author.exception.AuthorNotFoundException;
+import com.server.bookstoremanager.author.mapper.AuthorMapper;
+import com.server.bookstoremanager.author.repository.AuthorRepository;
+import com.server.bookstoremanager.author.service.AuthorService;
+import com.server.bookstoremanager.author.service.AuthorSuggestionIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class MethodTimingAspectTest {
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    @Mock
+    private AuthorSuggestionIndex authorSuggestionIndex;
+
+    private MeterRegistry meterRegistry;
+
+    private AuthorRepository timedAuthorRepository;
+
+    private AuthorService timedAuthorService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        MethodTimingAspect methodTimingAspect = new MethodTimingAspect(meterRegistry);
+        timedAuthorRepository = proxy(authorRepository, methodTimingAspect, AuthorRepository.class);
+        timedAuthorService = proxy(new AuthorService(timedAuthorRepository, authorSuggestionIndex), methodTimingAspect, null);
+    }
+
+    @Test
+    void whenServiceAndRepositoryAreCalledThenBothLayersShouldBeTimed() {
+        //given
+        AuthorDTO expectedAuthorDTO = AuthorBuilder.builder().build().buildAuthorDTO();
+        Author expectedAuthor = AuthorMapper.INSTANCE.toModel(expectedAuthorDTO);
+
+        //when
+        when(authorRepository.findById(expectedAuthor.getId())).thenReturn(Optional.of(expectedAuthor));
+        timedAuthorService.findById(expectedAuthor.getId());
+
+        //then
+        Timer serviceTimer = findTimer("service", "AuthorService", "findById", "none");
+        Timer repositoryTimer = findTimer("repository", "AuthorRepository", "findById", "none");
+        assertThat(serviceTimer, is(notNullValue()));
+        assertThat(serviceTimer.count(), is(1L));
+        assertThat(repositoryTimer, is(notNullValue()));
+        assertThat(repositoryTimer.count(), is(1L));
+    }
+
+    @Test
+    void whenServiceThrowsThenExceptionShouldBeTagged() {
+        //given
+        Long expectedAuthorId = AuthorBuilder.builder().build().buildAuthorDTO().getId();
+
+        //when
+        when(authorRepository.findById(expectedAuthorId)).thenReturn(Optional.empty());
+
+        //then
+        assertThrows(AuthorNotFoundException.class, () -> timedAuthorService.findById(expectedAuthorId));
+        assertThat(findTimer("service", "AuthorService", "findById", "AuthorNotFoundException").count(), is(1L));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target, MethodTimingAspect methodTimingAspect, Class<?> proxiedInterface) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        if (proxiedInterface != null) {
+            proxyFactory.addInterface(proxiedInterface);
+        } else {
+            proxyFactory.setProxyTargetClass(true);
+        }
+        proxyFactory.addAspect(methodTimingAspect);
+        return (T) proxyFactory.getProxy();
+    }
+
+    private Timer findTimer(String layer, String className, String method, String exception) {
+        return meterRegistry.find(MethodTimingAspect.METHOD_TIMER)
+                .tag("layer", layer)
+                .tag("class", className)
+                .tag("method", method)
+                .tag("exception", exception)
+                .timer();
+    }
+}
@@ -0,0 +1,128 @@
+package com.server.bookstoremanager.config;
+
+import com.server.bookstoremanager.author.builder.AuthorBuilder;
+import com.server.bookstoremanager.author.entity.Author;
+import com.server.bookstoremanager.author.mapper.AuthorMapper;
+import com.server.bookstoremanager.author.repository.AuthorRepository;
+import com.server.bookstoremanager.publisher.builder.PublisherBuilder;
+import com.server.bookstoremanager.publisher.entity.Publisher;
+import com.server.bookstoremanager.publisher.mapper.PublisherMapper;
+import com.server.bookstoremanager.publisher.repository.PublisherRepository;
+import com.server.bookstoremanager.user.builder.UserBuilder;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.mapper.UserMapper;
+import com.server.bookstoremanager.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(JpaAuditingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SecondLevelCacheTest {
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private PublisherRepository publisherRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Author author;
+
+    private Publisher publisher;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        author = authorRepository.save(AuthorMapper.INSTANCE.toModel(AuthorBuilder.builder().id(null).build().buildAuthorDTO()));
+        publisher = publisherRepository.save(PublisherMapper.INSTANCE.toModel(PublisherBuilder.builder().id(null).build().buildPublisherDTO()));
+        user = userRepository.save(UserMapper.INSTANCE.toModel(UserBuilder.builder().id(null).build().buildUserDTO()));
+        entityManagerFactory.getCache().evictAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        authorRepository.deleteAll();
+        publisherRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void whenEntitiesAreSearchedByIdTwiceThenDatabaseShouldBeQueriedOnce() {
+        //when
+        authorRepository.findById(author.getId());
+        publisherRepository.findById(publisher.getId());
+        userRepository.findById(user.getId());
+        authorRepository.findById(author.getId());
+        publisherRepository.findById(publisher.getId());
+        userRepository.findById(user.getId());
+
+        //then
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(3L)));
+        assertThat(statistics.getSecondLevelCacheHitCount(), is(equalTo(3L)));
+    }
+
+    @Test
+    void whenAuthorIsSearchedByNameTwiceThenDatabaseShouldBeQueriedOnce() {
+        //when
+        authorRepository.findByName(author.getName());
+        Author foundAuthor = authorRepository.findByName(author.getName()).orElseThrow();
+
+        //then
+        assertThat(foundAuthor.getId(), is(equalTo(author.getId())));
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(1L)));
+        assertThat(statistics.getQueryCacheHitCount(), is(equalTo(1L)));
+    }
+
+    @Test
+    void whenUserIsSearchedByUsernameTwiceThenDatabaseShouldBeQueriedOnce() {
+        //when
+        userRepository.findByUsername(user.getUsername());
+        User foundUser = userRepository.findByUsername(user.getUsername()).orElseThrow();
+
+        //then
+        assertThat(foundUser.getId(), is(equalTo(user.getId())));
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(1L)));
+        assertThat(statistics.getQueryCacheHitCount(), is(equalTo(1L)));
+    }
+
+    @Test
+    void whenAuthorIsUpdatedThenCachedQueryShouldBeInvalidated() {
+        //given
+        authorRepository.findByName(author.getName());
+
+        //when
+        author.setAge(author.getAge() + 1);
+        authorRepository.save(author);
+        Author foundAuthor = authorRepository.findByName(author.getName()).orElseThrow();
+
+        //then
+        assertThat(foundAuthor.getAge(), is(equalTo(author.getAge())));
+        assertThat(statistics.getQueryCacheHitCount(), is(equalTo(0L)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.server.bookstoremanager.config;
+
+import com.server.bookstoremanager.common.sql.ConnectionLimitingHikariDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.jdbc.DataSourcePoolMetricsAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+public class VirtualThreadConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class, MetricsAutoConfiguration.class,
+                    SimpleMetricsExportAutoConfiguration.class, DataSourcePoolMetricsAutoConfiguration.class))
+            .withUserConfiguration(VirtualThreadConfig.class, PlatformThreadExecutorConfig.class)
+            .withAllowBeanDefinitionOverriding(true)
+            .withPropertyValues(
+                    "spring.threads.virtual.enabled=true",
+                    "spring.datasource.url=jdbc:h2:mem:virtual_thread_config;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                    "spring.datasource.hikari.pool-name=virtual-thread-pool",
+                    "spring.datasource.hikari.maximum-pool-size=3");
+
+    @Test
+    void whenVirtualThreadsAreEnabledThenHikariPoolMetersShouldStillBeRegistered() {
+        contextRunner.run(context -> {
+            //given
+            DataSource dataSource = context.getBean(DataSource.class);
+
+            //when
+            try (Connection connection = dataSource.getConnection()) {
+                connection.isValid(1);
+            }
+
+            //then
+            assertThat(dataSource, is(instanceOf(HikariDataSource.class)));
+            assertThat(context.getBean(MeterRegistry.class).find("hikaricp.connections.max")
+                    .tag("pool", "virtual-thread-pool")
+                    .gauge(), is(notNullValue()));
+        });
+    }
+
+    @Test
+    void whenVirtualThreadsAreEnabledThenConnectionsShouldBeLimitedToThePoolSize() {
+        contextRunner.run(context -> {
+            //given
+            DataSource dataSource = context.getBean(DataSource.class);
+
+            //when
+            int availableConnections;
+            try (Connection connection = dataSource.getConnection()) {
+                availableConnections = ((ConnectionLimitingHikariDataSource) dataSource).getAvailableConnections();
+            }
+
+            //then
+            assertThat(availableConnections, is(equalTo(2)));
+        });
+    }
+
+    // Virtual threads need a Java 21 runtime, the tests only need the data source side of the configuration.
+    @Configuration(proxyBeanMethods = false)
+    static class PlatformThreadExecutorConfig {
+
+        @Bean(destroyMethod = "shutdown")
+        public ExecutorService virtualThreadExecutor() {
+            return Executors.newSingleThreadExecutor();
+        }
+    }
+}
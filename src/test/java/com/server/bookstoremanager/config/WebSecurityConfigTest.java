@@ -0,0 +1,70 @@
+package com.server.bookstoremanager.config;
+
+import com.server.bookstoremanager.user.builder.JwtRequestBuilder;
+import com.server.bookstoremanager.user.builder.UserBuilder;
+import com.server.bookstoremanager.user.enums.Role;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:web_security;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.replica.url=jdbc:h2:mem:web_security;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.r2dbc.url=r2dbc:h2:mem:///web_security?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class WebSecurityConfigTest {
+
+    private static final String AUTHORS_API_URL_PATH = "/api/v1/authors";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private String jwtToken;
+
+    @BeforeAll
+    void setUp() {
+        ResponseEntity<Map> createdUser = restTemplate.postForEntity("/api/v1/users",
+                UserBuilder.builder().id(null).role(Role.ADMIN).build().buildUserDTO(), Map.class);
+        assertThat(createdUser.getStatusCode(), is(HttpStatus.CREATED));
+
+        Map<?, ?> jwtResponse = restTemplate.postForObject("/api/v1/users/authenticate",
+                JwtRequestBuilder.builder().build().buildJwtRequest(), Map.class);
+        jwtToken = (String) jwtResponse.get("jwtToken");
+    }
+
+    @Test
+    void whenValidBearerTokenIsSentThenProtectedEndpointShouldAnswerOk() {
+        //given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtToken);
+
+        //when
+        ResponseEntity<String> response = restTemplate.exchange(AUTHORS_API_URL_PATH, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        //then
+        assertThat(response.getBody(), response.getStatusCode(), is(HttpStatus.OK));
+    }
+
+    @Test
+    void whenNoTokenIsSentThenProtectedEndpointShouldAnswerUnauthorized() {
+        //when
+        ResponseEntity<String> response = restTemplate.getForEntity(AUTHORS_API_URL_PATH, String.class);
+
+        //then
+        assertThat(response.getStatusCode(), is(HttpStatus.UNAUTHORIZED));
+    }
+}
@@ -1,5 +1,6 @@
 package com.server.bookstoremanager.publisher.controller;
 
+import com.server.bookstoremanager.common.dto.ResourceVersion;
 import com.server.bookstoremanager.publisher.builder.PublisherBuilder;
 import com.server.bookstoremanager.publisher.dto.PublisherDTO;
 import com.server.bookstoremanager.publisher.service.PublisherService;
@@ -10,18 +11,23 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 
 import static com.server.bookstoremanager.util.JsonConversionUtils.asJsonString;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -86,7 +92,10 @@ public class PublisherControllerTest {
         PublisherDTO expectedCreatedPublisherDTO = publisherBuilder.buildPublisherDTO();
         Long expectedCreatedPublisherDTOId = expectedCreatedPublisherDTO.getId();
 
+        ResourceVersion expectedVersion = new ResourceVersion(expectedCreatedPublisherDTOId, LocalDateTime.of(2021, 3, 1, 10, 0));
+
         //when
+        when(publisherService.findVersionById(expectedCreatedPublisherDTOId)).thenReturn(expectedVersion);
         when(publisherService.findById(expectedCreatedPublisherDTOId)).thenReturn(expectedCreatedPublisherDTO);
 
         //then
@@ -94,6 +103,7 @@ public class PublisherControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(asJsonString(expectedCreatedPublisherDTO)))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedVersion.getETag()))
                 .andExpect(jsonPath("$.id", is(expectedCreatedPublisherDTOId.intValue())))
                 .andExpect(jsonPath("$.name", is(expectedCreatedPublisherDTO.getName())))
                 .andExpect(jsonPath("$.code", is(expectedCreatedPublisherDTO.getCode())));
@@ -104,7 +114,10 @@ public class PublisherControllerTest {
         //given
         PublisherDTO expectedCreatedPublisherDTO = publisherBuilder.buildPublisherDTO();
 
+        ResourceVersion expectedVersion = new ResourceVersion(1L, LocalDateTime.of(2021, 3, 1, 10, 0));
+
         //when
+        when(publisherService.findAllVersion()).thenReturn(expectedVersion);
         when(publisherService.findAll()).thenReturn(Collections.singletonList(expectedCreatedPublisherDTO));
 
         //then
@@ -112,11 +125,61 @@ public class PublisherControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(asJsonString(expectedCreatedPublisherDTO)))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedVersion.getETag()))
                 .andExpect(jsonPath("$[0].id", is(expectedCreatedPublisherDTO.getId().intValue())))
                 .andExpect(jsonPath("$[0].name", is(expectedCreatedPublisherDTO.getName())))
                 .andExpect(jsonPath("$[0].code", is(expectedCreatedPublisherDTO.getCode())));
     }
 
+    @Test
+    void whenGetWithMatchingETagIsCalledThenNotModifiedStatusShouldBeInformed() throws Exception {
+        //given
+        Long expectedPublisherId = publisherBuilder.buildPublisherDTO().getId();
+        ResourceVersion expectedVersion = new ResourceVersion(expectedPublisherId, LocalDateTime.of(2021, 3, 1, 10, 0));
+
+        //when
+        when(publisherService.findVersionById(expectedPublisherId)).thenReturn(expectedVersion);
+
+        //then
+        mockMvc.perform(get(PUBLISHERS_API_URL_PATH + "/" + expectedPublisherId)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedVersion.getETag()))
+                .andExpect(status().isNotModified());
+        verify(publisherService, never()).findById(expectedPublisherId);
+    }
+
+    @Test
+    void whenGetListWithMatchingETagIsCalledThenNotModifiedStatusShouldBeInformed() throws Exception {
+        //given
+        ResourceVersion expectedVersion = new ResourceVersion(1L, LocalDateTime.of(2021, 3, 1, 10, 0));
+
+        //when
+        when(publisherService.findAllVersion()).thenReturn(expectedVersion);
+
+        //then
+        mockMvc.perform(get(PUBLISHERS_API_URL_PATH)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedVersion.getETag()))
+                .andExpect(status().isNotModified());
+        verify(publisherService, never()).findAll();
+    }
+
+    @Test
+    void whenSuggestIsCalledThenOkStatusShouldBeInformed() throws Exception {
+        //given
+        PublisherDTO expectedSuggestedPublisherDTO = publisherBuilder.buildPublisherDTO();
+
+        //when
+        when(publisherService.suggest("ma", 5)).thenReturn(Collections.singletonList(expectedSuggestedPublisherDTO));
+
+        //then
+        mockMvc.perform(get(PUBLISHERS_API_URL_PATH + "/suggest")
+                .param("q", "ma")
+                .param("size", "5")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(expectedSuggestedPublisherDTO.getId().intValue())))
+                .andExpect(jsonPath("$[0].name", is(expectedSuggestedPublisherDTO.getName())));
+    }
+
     @Test
     void whenDeleteIsCalledThenNoContentStatusShouldBeInformed() throws Exception {
         //given
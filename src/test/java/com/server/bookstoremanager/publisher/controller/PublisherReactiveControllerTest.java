@@ -0,0 +1,108 @@
+package com.server.bookstoremanager.publisher.controller;
+
+import com.server.bookstoremanager.publisher.builder.PublisherBuilder;
+import com.server.bookstoremanager.publisher.dto.PublisherDTO;
+import com.server.bookstoremanager.publisher.service.PublisherReactiveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class PublisherReactiveControllerTest {
+
+    private static final String PUBLISHER_API_URL_PATH = "/api/v2/publishers";
+
+    @Mock
+    private PublisherReactiveService publisherReactiveService;
+
+    @InjectMocks
+    private PublisherReactiveController publisherReactiveController;
+
+    private MockMvc mockMvc;
+
+    private PublisherBuilder publisherBuilder;
+
+    @BeforeEach
+    void setUp() {
+        publisherBuilder = PublisherBuilder.builder().build();
+        mockMvc = MockMvcBuilders.standaloneSetup(publisherReactiveController).build();
+    }
+
+    @Test
+    void whenGetWithValidIdIsCalledThenStatusOkShouldBeInformed() throws Exception {
+        //given
+        PublisherDTO expectedFoundPublisherDTO = publisherBuilder.buildPublisherDTO();
+
+        //when
+        when(publisherReactiveService.findById(expectedFoundPublisherDTO.getId())).thenReturn(Mono.just(expectedFoundPublisherDTO));
+        MvcResult result = mockMvc.perform(get(PUBLISHER_API_URL_PATH + "/" + expectedFoundPublisherDTO.getId())
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(expectedFoundPublisherDTO.getId().intValue())))
+                .andExpect(jsonPath("$.name", is(expectedFoundPublisherDTO.getName())))
+                .andExpect(jsonPath("$.code", is(expectedFoundPublisherDTO.getCode())))
+                .andExpect(jsonPath("$.foundationDate", is("01/06/2020")));
+    }
+
+    @Test
+    void whenListPublishersIsCalledWithNdjsonThenOnePublisherPerLineShouldBeStreamed() throws Exception {
+        //given
+        PublisherDTO expectedFoundPublisherDTO = publisherBuilder.buildPublisherDTO();
+
+        //when
+        when(publisherReactiveService.findAll()).thenReturn(Flux.just(expectedFoundPublisherDTO, expectedFoundPublisherDTO));
+        MvcResult result = mockMvc.perform(get(PUBLISHER_API_URL_PATH)
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        String expectedLine = "{\"id\":1,\"name\":\"Publisher\",\"code\":\"1234\",\"foundationDate\":\"01/06/2020\"}\n";
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(expectedLine + expectedLine));
+    }
+
+    @Test
+    void whenListPublishersIsCalledWithJsonThenPublishersShouldBeReturnedAsArray() throws Exception {
+        //given
+        PublisherDTO expectedFoundPublisherDTO = publisherBuilder.buildPublisherDTO();
+
+        //when
+        when(publisherReactiveService.findAll()).thenReturn(Flux.just(expectedFoundPublisherDTO));
+        MvcResult result = mockMvc.perform(get(PUBLISHER_API_URL_PATH)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(expectedFoundPublisherDTO.getId().intValue())))
+                .andExpect(jsonPath("$[0].name", is(expectedFoundPublisherDTO.getName())));
+    }
+}
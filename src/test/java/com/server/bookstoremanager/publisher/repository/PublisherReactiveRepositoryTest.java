@@ -0,0 +1,93 @@
+package com.server.bookstoremanager.publisher.repository;
+
+import com.server.bookstoremanager.publisher.builder.PublisherBuilder;
+import com.server.bookstoremanager.publisher.dto.PublisherDTO;
+import com.server.bookstoremanager.publisher.entity.Publisher;
+import com.server.bookstoremanager.publisher.mapper.PublisherMapper;
+import com.server.bookstoremanager.config.JpaAuditingConfig;
+import com.server.bookstoremanager.config.R2dbcConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive_publishers;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive_publishers?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PublisherReactiveRepository.class, R2dbcConfig.class, JpaAuditingConfig.class})
+public class PublisherReactiveRepositoryTest {
+
+    @Autowired
+    private PublisherReactiveRepository publisherReactiveRepository;
+
+    @Autowired
+    private PublisherRepository publisherRepository;
+
+    private Publisher firstPublisher;
+
+    private Publisher secondPublisher;
+
+    @BeforeEach
+    void setUp() {
+        firstPublisher = publisherRepository.save(PublisherMapper.INSTANCE.toModel(PublisherBuilder.builder()
+                .id(null)
+                .name("First Publisher")
+                .build().buildPublisherDTO()));
+        secondPublisher = publisherRepository.save(PublisherMapper.INSTANCE.toModel(PublisherBuilder.builder()
+                .id(null)
+                .name("Second Publisher")
+                .code("5678")
+                .foundationDate(LocalDate.of(1999, 12, 31))
+                .build().buildPublisherDTO()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisherRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void whenExistingPublisherIdIsInformedThenItShouldBeMapped() {
+        //when
+        PublisherDTO foundPublisherDTO = publisherReactiveRepository.findById(secondPublisher.getId()).block();
+
+        //then
+        assertThat(foundPublisherDTO, is(equalTo(PublisherMapper.INSTANCE.toDTO(secondPublisher))));
+    }
+
+    @Test
+    void whenNotExistingPublisherIdIsInformedThenNothingShouldBeFound() {
+        //when
+        PublisherDTO foundPublisherDTO = publisherReactiveRepository.findById(secondPublisher.getId() + 1).block();
+
+        //then
+        assertThat(foundPublisherDTO, is(nullValue()));
+    }
+
+    @Test
+    void whenListPublishersIsCalledThenAllPublishersShouldBeEmittedInIdOrder() {
+        //when
+        List<PublisherDTO> foundPublishersDTO = publisherReactiveRepository.findAll().collectList().block();
+
+        //then
+        assertThat(foundPublishersDTO, is(equalTo(List.of(
+                PublisherMapper.INSTANCE.toDTO(firstPublisher),
+                PublisherMapper.INSTANCE.toDTO(secondPublisher)))));
+    }
+}
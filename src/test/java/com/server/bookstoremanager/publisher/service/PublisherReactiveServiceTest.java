@@ -0,0 +1,73 @@
+package com.server.bookstoremanager.publisher.service;
+
+import com.server.bookstoremanager.publisher.builder.PublisherBuilder;
+import com.server.bookstoremanager.publisher.dto.PublisherDTO;
+import com.server.bookstoremanager.publisher.exception.PublisherNotFoundException;
+import com.server.bookstoremanager.publisher.repository.PublisherReactiveRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PublisherReactiveServiceTest {
+
+    private final PublisherBuilder publisherBuilder = PublisherBuilder.builder().build();
+
+    @Mock
+    private PublisherReactiveRepository publisherReactiveRepository;
+
+    @InjectMocks
+    private PublisherReactiveService publisherReactiveService;
+
+    @Test
+    void whenExistingPublisherIdIsInformedThenItShouldBeEmitted() {
+        //given
+        PublisherDTO expectedFoundPublisherDTO = publisherBuilder.buildPublisherDTO();
+
+        //when
+        when(publisherReactiveRepository.findById(expectedFoundPublisherDTO.getId())).thenReturn(Mono.just(expectedFoundPublisherDTO));
+        PublisherDTO foundPublisherDTO = publisherReactiveService.findById(expectedFoundPublisherDTO.getId()).block();
+
+        //then
+        assertThat(foundPublisherDTO, is(equalTo(expectedFoundPublisherDTO)));
+    }
+
+    @Test
+    void whenNotExistingPublisherIdIsInformedThenAnErrorShouldBeEmitted() {
+        //given
+        Long expectedPublisherId = 2L;
+
+        //when
+        when(publisherReactiveRepository.findById(expectedPublisherId)).thenReturn(Mono.empty());
+        Mono<PublisherDTO> foundPublisher = publisherReactiveService.findById(expectedPublisherId);
+
+        //then
+        assertThrows(PublisherNotFoundException.class, foundPublisher::block);
+    }
+
+    @Test
+    void whenListPublishersIsCalledThenAllPublishersShouldBeEmitted() {
+        //given
+        PublisherDTO expectedFoundPublisherDTO = publisherBuilder.buildPublisherDTO();
+
+        //when
+        when(publisherReactiveRepository.findAll()).thenReturn(Flux.just(expectedFoundPublisherDTO));
+        List<PublisherDTO> foundPublishersDTO = publisherReactiveService.findAll().collectList().block();
+
+        //then
+        assertThat(foundPublishersDTO, is(equalTo(Collections.singletonList(expectedFoundPublisherDTO))));
+    }
+}
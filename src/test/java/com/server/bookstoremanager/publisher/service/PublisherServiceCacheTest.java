@@ -0,0 +1,117 @@
+package com.server.bookstoremanager.publisher.service;
+
+import com.server.bookstoremanager.publisher.builder.PublisherBuilder;
+import com.server.bookstoremanager.publisher.dto.PublisherDTO;
+import com.server.bookstoremanager.common.dto.ResourceVersion;
+import com.server.bookstoremanager.config.CacheConfig;
+import com.server.bookstoremanager.config.JpaAuditingConfig;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PublisherService.class, PublisherSuggestionIndex.class, CacheConfig.class, JpaAuditingConfig.class})
+public class PublisherServiceCacheTest {
+
+    @Autowired
+    private PublisherService publisherService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+
+    private PublisherDTO createdPublisherDTO;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+        createdPublisherDTO = publisherService.create(PublisherBuilder.builder().id(null).build().buildPublisherDTO());
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void whenPublisherIsSearchedByIdTwiceThenDatabaseShouldBeQueriedOnce() {
+        //when
+        publisherService.verifyAndGetIfExists(createdPublisherDTO.getId());
+        PublisherDTO foundPublisherDTO = publisherService.findById(createdPublisherDTO.getId());
+
+        //then
+        assertThat(foundPublisherDTO, is(equalTo(createdPublisherDTO)));
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(1L)));
+    }
+
+    @Test
+    void whenPublishersAreListedTwiceThenDatabaseShouldBeQueriedOnce() {
+        //when
+        publisherService.findAll();
+        List<PublisherDTO> foundPublishers = publisherService.findAll();
+
+        //then
+        assertThat(foundPublishers.size(), is(1));
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(1L)));
+    }
+
+    @Test
+    void whenPublishersVersionIsReadWithTheListThenBothShouldStayCached() {
+        //when
+        ResourceVersion firstVersion = publisherService.findAllVersion();
+        publisherService.findAll();
+        ResourceVersion secondVersion = publisherService.findAllVersion();
+        publisherService.findAll();
+
+        //then
+        assertThat(secondVersion, is(equalTo(firstVersion)));
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(2L)));
+    }
+
+    @Test
+    void whenPublisherIsDeletedThenPublishersVersionShouldChange() {
+        //given
+        ResourceVersion versionBeforeDelete = publisherService.findAllVersion();
+
+        //when
+        publisherService.delete(createdPublisherDTO.getId());
+
+        //then
+        assertThat(publisherService.findAllVersion().getETag().equals(versionBeforeDelete.getETag()), is(false));
+    }
+
+    @Test
+    void whenPublisherIsDeletedThenCachedPublishersShouldBeEvicted() {
+        //given
+        publisherService.findAll();
+        publisherService.verifyAndGetIfExists(createdPublisherDTO.getId());
+
+        //when
+        publisherService.delete(createdPublisherDTO.getId());
+
+        //then
+        assertThat(publisherService.findAll().isEmpty(), is(true));
+        assertThat(publisherService.findAllByIds(List.of(createdPublisherDTO.getId())).isEmpty(), is(true));
+        assertThat(cacheManager.getCache("publishers").get(createdPublisherDTO.getId()), is(equalTo(null)));
+    }
+}
@@ -7,13 +7,16 @@ import com.server.bookstoremanager.publisher.exception.PublisherAlreadyExistsExc
 import com.server.bookstoremanager.publisher.exception.PublisherNotFoundException;
 import com.server.bookstoremanager.publisher.mapper.PublisherMapper;
 import com.server.bookstoremanager.publisher.repository.PublisherRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +35,9 @@ public class PublisherServiceTest {
     @Mock
     private PublisherRepository publisherRepository;
 
+    @Mock
+    private PublisherSuggestionIndex publisherSuggestionIndex;
+
     @InjectMocks
     private PublisherService publisherService;
 
@@ -49,12 +55,12 @@ public class PublisherServiceTest {
         Publisher expectedPublisherCreated = publisherMapper.toModel(expectedPublisherToCreateDTO);
 
         //when
-        when(publisherRepository.findByNameOrCode(expectedPublisherToCreateDTO.getName(), expectedPublisherToCreateDTO.getCode())).thenReturn(Optional.empty());
-        when(publisherRepository.save(expectedPublisherCreated)).thenReturn(expectedPublisherCreated);
+        when(publisherRepository.saveAndFlush(expectedPublisherCreated)).thenReturn(expectedPublisherCreated);
         PublisherDTO createdPublisherDTO = publisherService.create(expectedPublisherToCreateDTO);
 
         //then
         assertThat(createdPublisherDTO, is(equalTo(expectedPublisherToCreateDTO)));
+        verify(publisherSuggestionIndex, times(1)).put(createdPublisherDTO);
     }
 
     @Test
@@ -64,7 +70,7 @@ public class PublisherServiceTest {
         Publisher expectedPublisherDuplicated = publisherMapper.toModel(expectedPublisherToCreateDTO);
 
         //when
-        when(publisherRepository.findByNameOrCode(expectedPublisherToCreateDTO.getName(), expectedPublisherToCreateDTO.getCode())).thenReturn(Optional.of(expectedPublisherDuplicated));
+        when(publisherRepository.saveAndFlush(expectedPublisherDuplicated)).thenThrow(constraintViolation(Publisher.UNIQUE_CODE));
 
         //then
         assertThrows(PublisherAlreadyExistsException.class, () -> publisherService.create(expectedPublisherToCreateDTO));
@@ -102,10 +108,9 @@ public class PublisherServiceTest {
     void whenListPublishersIsCalledThenItShouldBeReturned() {
         //given
         PublisherDTO expectedPublisherFoundDTO = publisherBuilder.buildPublisherDTO();
-        Publisher expectedPublisherFound = publisherMapper.toModel(expectedPublisherFoundDTO);
 
         //when
-        when(publisherRepository.findAll()).thenReturn(Collections.singletonList(expectedPublisherFound));
+        when(publisherRepository.findAllDTOs()).thenReturn(Collections.singletonList(expectedPublisherFoundDTO));
         List<PublisherDTO> foundPublishersDTO = publisherService.findAll();
 
         //then
@@ -116,7 +121,7 @@ public class PublisherServiceTest {
     @Test
     void whenListPublishersIsCalledThenAnEmptyShouldBeReturned() {
         //when
-        when(publisherRepository.findAll()).thenReturn(Collections.emptyList());
+        when(publisherRepository.findAllDTOs()).thenReturn(Collections.emptyList());
         List<PublisherDTO> foundPublishersDTO = publisherService.findAll();
 
         //then
@@ -137,6 +142,7 @@ public class PublisherServiceTest {
 
         //then
         verify(publisherRepository, times(1)).deleteById(expectedDeletedPublisherId);
+        verify(publisherSuggestionIndex, times(1)).remove(expectedDeletedPublisherId);
     }
 
     @Test
@@ -150,4 +156,23 @@ public class PublisherServiceTest {
         //then
         assertThrows(PublisherNotFoundException.class, () -> publisherService.delete(expectedInvalidPublisherId));
     }
+
+    @Test
+    void whenSuggestIsCalledThenSizeShouldBeLimited() {
+        //given
+        PublisherDTO expectedSuggestedPublisherDTO = publisherBuilder.buildPublisherDTO();
+
+        //when
+        when(publisherSuggestionIndex.suggest("ma", PublisherService.MAX_SUGGESTIONS))
+                .thenReturn(Collections.singletonList(expectedSuggestedPublisherDTO));
+        List<PublisherDTO> suggestedPublishersDTO = publisherService.suggest("ma", 1000);
+
+        //then
+        assertThat(suggestedPublishersDTO, is(equalTo(Collections.singletonList(expectedSuggestedPublisherDTO))));
+    }
+
+    private DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+    }
 }
@@ -0,0 +1,68 @@
+package com.server.bookstoremanager.publisher.service;
+
+import com.server.bookstoremanager.publisher.builder.PublisherBuilder;
+import com.server.bookstoremanager.publisher.dto.PublisherDTO;
+import com.server.bookstoremanager.publisher.repository.PublisherRepository;
+import com.server.bookstoremanager.config.CacheConfig;
+import com.server.bookstoremanager.config.JpaAuditingConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PublisherService.class, PublisherSuggestionIndex.class, CacheConfig.class, JpaAuditingConfig.class})
+public class PublisherServiceTransactionTest {
+
+    @Autowired
+    private PublisherService publisherService;
+
+    @Autowired
+    private PublisherSuggestionIndex publisherSuggestionIndex;
+
+    @Autowired
+    private PublisherRepository publisherRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final PublisherDTO publisherToCreate = PublisherBuilder.builder().id(null).build().buildPublisherDTO();
+
+    @AfterEach
+    void tearDown() {
+        publisherRepository.deleteAllInBatch();
+        publisherSuggestionIndex.rebuild();
+    }
+
+    @Test
+    void whenPublisherIsCreatedThenItShouldBeSuggested() {
+        //when
+        PublisherDTO createdPublisherDTO = publisherService.create(publisherToCreate);
+
+        //then
+        assertThat(publisherSuggestionIndex.suggest(publisherToCreate.getName(), 10), is(equalTo(List.of(createdPublisherDTO))));
+    }
+
+    @Test
+    void whenPublisherCreateRollsBackThenItShouldNotBeSuggested() {
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            publisherService.create(publisherToCreate);
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(publisherSuggestionIndex.suggest(publisherToCreate.getName(), 10).isEmpty(), is(true));
+    }
+}
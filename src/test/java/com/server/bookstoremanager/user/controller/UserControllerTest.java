@@ -1,13 +1,17 @@
 package com.server.bookstoremanager.user.controller;
 
+import com.server.bookstoremanager.common.exception.BookStoreExceptionHandler;
 import com.server.bookstoremanager.user.builder.JwtRequestBuilder;
 import com.server.bookstoremanager.user.builder.UserBuilder;
 import com.server.bookstoremanager.user.dto.JwtRequest;
 import com.server.bookstoremanager.user.dto.JwtResponse;
 import com.server.bookstoremanager.user.dto.MessageDTO;
 import com.server.bookstoremanager.user.dto.UserDTO;
+import com.server.bookstoremanager.user.exception.PasswordHashingUnavailableException;
 import com.server.bookstoremanager.user.service.AuthenticationService;
+import com.server.bookstoremanager.user.service.PasswordHashingService;
 import com.server.bookstoremanager.user.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,15 +21,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 import static com.server.bookstoremanager.util.JsonConversionUtils.asJsonString;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +53,9 @@ public class UserControllerTest {
     @Mock
     private AuthenticationService authenticationService;
 
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
     @InjectMocks
     private UserController userController;
 
@@ -53,6 +68,7 @@ public class UserControllerTest {
         userBuilder = UserBuilder.builder().build();
         jwtRequestBuilder = JwtRequestBuilder.builder().build();
         mockMvc = MockMvcBuilders.standaloneSetup(userController)
+                .setControllerAdvice(new BookStoreExceptionHandler(new SimpleMeterRegistry()))
                 .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
                 .setViewResolvers((s, locale) -> new MappingJackson2JsonView())
                 .build();
@@ -67,11 +83,15 @@ public class UserControllerTest {
 
         //when
         when(userService.create(expectedUserToCreatedDTO)).thenReturn(expectedCreationMessageDTO);
+        runHashingTasksInline();
 
         //then
-        mockMvc.perform(post(USERS_API_URL_PATH)
+        MvcResult asyncResult = mockMvc.perform(post(USERS_API_URL_PATH)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(asJsonString(expectedUserToCreatedDTO)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.message", is(expectedCreationMessage)));
     }
@@ -100,11 +120,15 @@ public class UserControllerTest {
 
         //when
         when(userService.update(expectedUserToUpdateId, expectedUserToUpdatedDTO)).thenReturn(expectedUpdatedMessageDTO);
+        runHashingTasksInline();
 
         //then
-        mockMvc.perform(put(USERS_API_URL_PATH + "/" + expectedUserToUpdateId)
+        MvcResult asyncResult = mockMvc.perform(put(USERS_API_URL_PATH + "/" + expectedUserToUpdateId)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(asJsonString(expectedUserToUpdatedDTO)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message", is(expectedUpdateMessage)));
     }
@@ -132,11 +156,15 @@ public class UserControllerTest {
 
         //when
         when(authenticationService.createAuthenticationToken(jwtRequest)).thenReturn(expectedJwtToken);
+        runHashingTasksInline();
 
         //then
-        mockMvc.perform(post(USERS_API_URL_PATH + "/authenticate")
+        MvcResult asyncResult = mockMvc.perform(post(USERS_API_URL_PATH + "/authenticate")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(asJsonString(jwtRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.jwtToken", is(expectedJwtToken.getJwtToken())));
     }
@@ -153,4 +181,26 @@ public class UserControllerTest {
                 .content(asJsonString(jwtRequest)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void whenPasswordHashingIsSaturatedThenServiceUnavailableWithRetryAfterShouldBeReturned() throws Exception {
+        //given
+        JwtRequest jwtRequest = jwtRequestBuilder.buildJwtRequest();
+
+        //when
+        when(passwordHashingService.submit(any())).thenThrow(new PasswordHashingUnavailableException(Duration.ofSeconds(2)));
+
+        //then
+        mockMvc.perform(post(USERS_API_URL_PATH + "/authenticate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(asJsonString(jwtRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runHashingTasksInline() {
+        when(passwordHashingService.submit(any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(((Supplier<Object>) invocation.getArgument(0)).get()));
+    }
 }
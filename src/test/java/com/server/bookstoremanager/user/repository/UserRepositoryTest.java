@@ -0,0 +1,88 @@
+package com.server.bookstoremanager.user.repository;
+
+import com.server.bookstoremanager.config.CacheConfig;
+import com.server.bookstoremanager.config.JpaAuditingConfig;
+import com.server.bookstoremanager.user.builder.UserBuilder;
+import com.server.bookstoremanager.user.entity.User;
+import com.server.bookstoremanager.user.mapper.UserMapper;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManagerFactory;
+
+import static com.server.bookstoremanager.config.CacheConfig.USERS_CACHE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaAuditingConfig.class, CacheConfig.class})
+public class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+
+    private String username;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(USERS_CACHE).clear();
+        User user = UserMapper.INSTANCE.toModel(UserBuilder.builder().id(null).build().buildUserDTO());
+        username = testEntityManager.persistFlushFind(user).getUsername();
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void whenUsernameIsSearchedTwiceThenDatabaseShouldBeQueriedOnce() {
+        //when
+        userRepository.findByUsername(username);
+        testEntityManager.clear();
+        User cachedUser = userRepository.findByUsername(username).orElseThrow();
+
+        //then
+        assertThat(cachedUser.getUsername(), is(equalTo(username)));
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(1L)));
+    }
+
+    @Test
+    void whenUsernameIsEvictedThenDatabaseShouldBeQueriedAgain() {
+        //when
+        userRepository.findByUsername(username);
+        cacheManager.getCache(USERS_CACHE).evict(username);
+        userRepository.findByUsername(username);
+
+        //then
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(2L)));
+    }
+
+    @Test
+    void whenUnknownUsernameIsSearchedThenItShouldNotBeCached() {
+        //when
+        userRepository.findByUsername("unknown");
+        userRepository.findByUsername("unknown");
+
+        //then
+        assertThat(statistics.getPrepareStatementCount(), is(equalTo(2L)));
+    }
+}
@@ -0,0 +1,104 @@
+package com.server.bookstoremanager.user.service;
+
+import com.server.bookstoremanager.user.dto.AuthenticatedUser;
+import com.server.bookstoremanager.user.dto.VerifiedToken;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JwtTokenManagerTest {
+
+    private static final String SECRET = "bookstoremanager";
+
+    private static final long VALIDITY = 18000L;
+
+    private JwtTokenManager jwtTokenManager;
+
+    private AuthenticatedUser authenticatedUser;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenManager = new JwtTokenManager(SECRET, VALIDITY, 100L);
+        authenticatedUser = new AuthenticatedUser("nikolas", "123456", "ADMIN");
+    }
+
+    @Test
+    void whenTokenIsVerifiedThenUsernameAndExpirationShouldBeReturned() {
+        //given
+        String token = jwtTokenManager.generateToken(authenticatedUser);
+
+        //when
+        VerifiedToken verifiedToken = jwtTokenManager.verifyToken(token);
+
+        //then
+        assertThat(verifiedToken.getUsername(), is(equalTo(authenticatedUser.getUsername())));
+        assertThat(verifiedToken.isExpired(), is(false));
+        assertThat(jwtTokenManager.validateToken(verifiedToken, authenticatedUser), is(true));
+    }
+
+    @Test
+    void whenSameTokenIsVerifiedTwiceThenCachedVerificationShouldBeReturned() {
+        //given
+        String token = jwtTokenManager.generateToken(authenticatedUser);
+
+        //when
+        VerifiedToken firstVerification = jwtTokenManager.verifyToken(token);
+        VerifiedToken secondVerification = jwtTokenManager.verifyToken(token);
+
+        //then
+        assertThat(secondVerification, is(sameInstance(firstVerification)));
+    }
+
+    @Test
+    void whenTokenCacheIsDisabledThenTokenShouldBeVerifiedEveryTime() {
+        //given
+        JwtTokenManager uncachedJwtTokenManager = new JwtTokenManager(SECRET, VALIDITY, 0L);
+        String token = uncachedJwtTokenManager.generateToken(authenticatedUser);
+
+        //when
+        VerifiedToken firstVerification = uncachedJwtTokenManager.verifyToken(token);
+        VerifiedToken secondVerification = uncachedJwtTokenManager.verifyToken(token);
+
+        //then
+        assertThat(secondVerification, is(not(sameInstance(firstVerification))));
+    }
+
+    @Test
+    void whenTokenSignatureIsInvalidThenAnExceptionShouldBeThrown() {
+        //given
+        String token = new JwtTokenManager("anothersecret", VALIDITY, 0L).generateToken(authenticatedUser);
+
+        //then
+        assertThrows(SignatureException.class, () -> jwtTokenManager.verifyToken(token));
+    }
+
+    @Test
+    void whenTokenIsExpiredThenAnExceptionShouldBeThrown() {
+        //given
+        String token = new JwtTokenManager(SECRET, -1L, 0L).generateToken(authenticatedUser);
+
+        //then
+        assertThrows(ExpiredJwtException.class, () -> jwtTokenManager.verifyToken(token));
+    }
+
+    @Test
+    void whenTokenBelongsToAnotherUserThenItShouldNotBeValid() {
+        //given
+        String token = jwtTokenManager.generateToken(authenticatedUser);
+        AuthenticatedUser anotherUser = new AuthenticatedUser("another", "123456", "USER");
+
+        //when
+        boolean valid = jwtTokenManager.validateToken(token, anotherUser);
+
+        //then
+        assertThat(valid, is(false));
+    }
+}
@@ -0,0 +1,63 @@
+package com.server.bookstoremanager.user.service;
+
+import com.server.bookstoremanager.user.exception.PasswordHashingUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PasswordHashingServiceTest {
+
+    private final CountDownLatch hashingReleased = new CountDownLatch(1);
+
+    private final ThreadPoolExecutor passwordHashingExecutor =
+            new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+
+    private final PasswordHashingService passwordHashingService =
+            new PasswordHashingService(passwordHashingExecutor, Duration.ofSeconds(3));
+
+    @AfterEach
+    void tearDown() {
+        hashingReleased.countDown();
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    void whenHashingTaskIsSubmittedThenItsResultShouldBeReturned() throws Exception {
+        //when
+        String hashedPassword = passwordHashingService.submit(() -> "hashed").get(1, TimeUnit.SECONDS);
+
+        //then
+        assertThat(hashedPassword, is(equalTo("hashed")));
+    }
+
+    @Test
+    void whenHashingPoolAndQueueAreFullThenAnExceptionWithRetryAfterShouldBeThrown() {
+        //given
+        passwordHashingService.submit(this::awaitRelease);
+        passwordHashingService.submit(this::awaitRelease);
+
+        //then
+        PasswordHashingUnavailableException exception = assertThrows(PasswordHashingUnavailableException.class,
+                () -> passwordHashingService.submit(this::awaitRelease));
+        assertThat(exception.getRetryAfter(), is(equalTo(Duration.ofSeconds(3))));
+    }
+
+    private String awaitRelease() {
+        try {
+            hashingReleased.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "hashed";
+    }
+}
@@ -8,16 +8,24 @@ import com.server.bookstoremanager.user.exception.UserAlreadyExistsException;
 import com.server.bookstoremanager.user.exception.UserNotFoundException;
 import com.server.bookstoremanager.user.mapper.UserMapper;
 import com.server.bookstoremanager.user.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
+import static com.server.bookstoremanager.config.CacheConfig.USERS_CACHE;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
@@ -35,6 +43,15 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache usersCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private UserService userService;
 
@@ -51,14 +68,11 @@ public class UserServiceTest {
         UserDTO expectedCreatedUserDTO = userBuilder.buildUserDTO();
         User expectedCreatedUser = userMapper.toModel(expectedCreatedUserDTO);
         String expectedCreationMessage = "User nikolas with id 1 successfully created";
-        String expectedUserEmail = expectedCreatedUserDTO.getEmail();
-        String expectedUsername = expectedCreatedUserDTO.getUsername();
         String expectedPassword = expectedCreatedUserDTO.getPassword();
 
         //when
-        when(userRepository.findByEmailOrUsername(expectedUserEmail, expectedUsername)).thenReturn(Optional.empty());
         when(passwordEncoder.encode(expectedPassword)).thenReturn(expectedPassword);
-        when(userRepository.save(expectedCreatedUser)).thenReturn(expectedCreatedUser);
+        when(userRepository.saveAndFlush(expectedCreatedUser)).thenReturn(expectedCreatedUser);
         MessageDTO creationMessage = userService.create(expectedCreatedUserDTO);
 
         //then
@@ -69,13 +83,11 @@ public class UserServiceTest {
     void whenExistingUserIsInformedThenAnExceptionShouldBeThrown() {
         //given
         UserDTO expectedDuplicatedUserDTO = userBuilder.buildUserDTO();
-        User expectedDuplicatedUser = userMapper.toModel(expectedDuplicatedUserDTO);
-        String expectedUserEmail = expectedDuplicatedUserDTO.getEmail();
-        String expectedUsername = expectedDuplicatedUserDTO.getUsername();
+        String expectedPassword = expectedDuplicatedUserDTO.getPassword();
 
         //when
-        when(userRepository.findByEmailOrUsername(expectedUserEmail, expectedUsername))
-                .thenReturn(Optional.of(expectedDuplicatedUser));
+        when(passwordEncoder.encode(expectedPassword)).thenReturn(expectedPassword);
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(constraintViolation(User.UNIQUE_USERNAME));
 
         //then
         assertThrows(UserAlreadyExistsException.class, () -> userService.create(expectedDuplicatedUserDTO));
@@ -90,11 +102,13 @@ public class UserServiceTest {
 
         //when
         when(userRepository.findById(expectedDeletedUserId)).thenReturn(Optional.of(expectedDeletedUser));
+        when(cacheManager.getCache(USERS_CACHE)).thenReturn(usersCache);
         doNothing().when(userRepository).deleteById(expectedDeletedUserId);
         userService.delete(expectedDeletedUserId);
 
         //then
         verify(userRepository, times(1)).deleteById(expectedDeletedUserId);
+        verify(usersCache, times(1)).evict(expectedDeletedUser.getUsername());
     }
 
     @Test
@@ -123,11 +137,13 @@ public class UserServiceTest {
         //when
         when(userRepository.findById(expectedUpdatedUserId)).thenReturn(Optional.of(expectedUpdatedUser));
         when(passwordEncoder.encode(expectedUpdatedUserPassword)).thenReturn(expectedUpdatedUserPassword);
-        when(userRepository.save(expectedUpdatedUser)).thenReturn(expectedUpdatedUser);
+        when(userRepository.saveAndFlush(expectedUpdatedUser)).thenReturn(expectedUpdatedUser);
+        when(cacheManager.getCache(USERS_CACHE)).thenReturn(usersCache);
         MessageDTO updatedMessage = userService.update(expectedUpdatedUserId, expectedUpdatedUserDTO);
 
         //then
         assertThat(expectedUpdatedMessage, is(equalTo(updatedMessage.getMessage())));
+        verify(usersCache, times(1)).evict(expectedUpdatedUser.getUsername());
     }
 
     @Test
@@ -143,4 +159,9 @@ public class UserServiceTest {
         //then
         assertThrows(UserNotFoundException.class, () -> userService.update(expectedUpdatedUserId, expectedUpdatedUserDTO));
     }
+
+    private DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+    }
 }